@@ -2,8 +2,10 @@ package com.backend.devConnectBackend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class DevConnectBackendApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(DevConnectBackendApplication.class, args);
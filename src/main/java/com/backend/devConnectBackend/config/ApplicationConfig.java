@@ -1,6 +1,6 @@
 package com.backend.devConnectBackend.config;
 
-import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.service.UserLookupService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,20 +11,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class ApplicationConfig {
 
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
 
-    public ApplicationConfig(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public ApplicationConfig(UserLookupService userLookupService) {
+        this.userLookupService = userLookupService;
     }
 
     /**
      * UserDetailsService bean for JWT authentication.
      * Used by JwtAuthenticationFilter to load user details when validating JWT
-     * tokens.
+     * tokens. Users are served from the shared user cache.
      */
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
+        return username -> userLookupService.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
@@ -0,0 +1,23 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Request authentication settings.
+ *
+ * @param stateless                 build the principal from token claims instead
+ *                                  of loading the user on every request
+ * @param tokenEpochRefreshInterval how often the revoked token epochs are
+ *                                  reloaded in stateless mode
+ * @param revocationRefreshInterval how often access tokens revoked on other
+ *                                  instances are picked up
+ */
+@ConfigurationProperties(prefix = "devconnect.auth")
+public record AuthenticationProperties(
+        @DefaultValue("false") boolean stateless,
+        @DefaultValue("30s") Duration tokenEpochRefreshInterval,
+        @DefaultValue("5s") Duration revocationRefreshInterval) {
+}
@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cache of result counts shown as page totals.
+ *
+ * @param maximumSize      maximum number of distinct queries whose count is
+ *                         kept
+ * @param expireAfterWrite how long a count may be served before it is counted
+ *                         again
+ */
+@ConfigurationProperties(prefix = "devconnect.count-cache")
+public record CountCacheProperties(
+        @DefaultValue("10000") int maximumSize,
+        @DefaultValue("30s") Duration expireAfterWrite) {
+}
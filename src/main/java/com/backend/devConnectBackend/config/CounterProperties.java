@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the comment, like and dislike counters of posts.
+ *
+ * @param writeBehind   whether changes are added up in memory and written in
+ *                      batches rather than one write each; a process that is
+ *                      killed loses up to one flush interval of changes
+ * @param flushInterval wait between batches in write-behind mode
+ */
+@ConfigurationProperties(prefix = "devconnect.counters")
+public record CounterProperties(
+        @DefaultValue("false") boolean writeBehind,
+        @DefaultValue("250ms") Duration flushInterval) {
+}
@@ -0,0 +1,24 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Registered-email filter settings.
+ *
+ * @param expectedUsers            number of users the filter is sized for
+ *                                 initially; it grows with the user count
+ * @param falsePositiveProbability target rate of unknown emails reported as
+ *                                 possibly registered
+ * @param refreshInterval          how often users registered through other
+ *                                 instances are picked up; until then they
+ *                                 cannot log in through this one
+ */
+@ConfigurationProperties(prefix = "devconnect.email-filter")
+public record EmailFilterProperties(
+        @DefaultValue("100000") long expectedUsers,
+        @DefaultValue("0.01") double falsePositiveProbability,
+        @DefaultValue("2s") Duration refreshInterval) {
+}
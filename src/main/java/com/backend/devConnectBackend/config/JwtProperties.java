@@ -0,0 +1,34 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JWT issuing and verification settings.
+ *
+ * @param expiration             lifetime of an access token
+ * @param claimsCacheMaximumSize maximum number of verified tokens kept in memory
+ * @param keyRotationPeriod      how long one signing key is used to issue
+ *                               tokens
+ * @param keyRefreshInterval     how often the shared signing keys are reloaded;
+ *                               must be shorter than the rotation period
+ * @param refreshTokenLifetime   lifetime of a refresh token; each use replaces
+ *                               it with a new one
+ */
+@ConfigurationProperties(prefix = "devconnect.jwt")
+public record JwtProperties(
+        @DefaultValue("15m") Duration expiration,
+        @DefaultValue("10000") int claimsCacheMaximumSize,
+        @DefaultValue("7d") Duration keyRotationPeriod,
+        @DefaultValue("10m") Duration keyRefreshInterval,
+        @DefaultValue("30d") Duration refreshTokenLifetime) {
+
+    public JwtProperties {
+        if (keyRefreshInterval.compareTo(keyRotationPeriod) >= 0) {
+            throw new IllegalArgumentException("devconnect.jwt.key-refresh-interval must be shorter than "
+                    + "devconnect.jwt.key-rotation-period");
+        }
+    }
+}
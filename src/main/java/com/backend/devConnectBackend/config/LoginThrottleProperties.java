@@ -0,0 +1,23 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Login throttling settings. Each limit allows {@code burst} attempts at once
+ * and then one attempt per {@code period / burst}.
+ *
+ * @param emailBurst     attempts allowed per email within {@code period}
+ * @param ipBurst        attempts allowed per client IP within {@code period}
+ * @param period         window the limits refer to
+ * @param maximumKeys    maximum number of emails and IPs tracked at once
+ */
+@ConfigurationProperties(prefix = "devconnect.login-throttle")
+public record LoginThrottleProperties(
+        @DefaultValue("5") int emailBurst,
+        @DefaultValue("20") int ipBurst,
+        @DefaultValue("1m") Duration period,
+        @DefaultValue("100000") int maximumKeys) {
+}
@@ -0,0 +1,218 @@
+package com.backend.devConnectBackend.config;
+
+import com.backend.devConnectBackend.model.Comment;
+import com.backend.devConnectBackend.model.Follow;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.model.PostDeletion;
+import com.backend.devConnectBackend.model.Reaction;
+import com.backend.devConnectBackend.model.RefreshToken;
+import com.backend.devConnectBackend.model.RevokedToken;
+import com.backend.devConnectBackend.model.SigningKey;
+import com.backend.devConnectBackend.model.TimelineBucket;
+import com.backend.devConnectBackend.model.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Every MongoDB index the application relies on, in one place.
+ * <p>
+ * Each repository query has an index here that serves both its filter and its
+ * sort, so none of them scans a collection or sorts in memory; the explain
+ * tests check this against a real server. Indexes are created in the
+ * background once the application is ready, so startup does not wait for
+ * builds on large collections. Creating an index that already exists is a
+ * no-op; indexes listed as obsolete are dropped.
+ * <p>
+ * Annotation-driven index creation stays disabled, so indexes are declared
+ * here rather than on the documents.
+ */
+@Component
+@ConditionalOnProperty(prefix = "devconnect.mongo.index-plan", name = "enabled", matchIfMissing = true)
+public class MongoIndexPlan {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexPlan.class);
+
+    static final List<PlannedIndex> INDEXES = List.of(
+            // Public feed: offset, slice and cursor pages, title search and its count
+            new PlannedIndex(Post.class, new Index()
+                    .named("visibility_createdAt_id")
+                    .on("visibility", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            // Search by tag and its count; multikey, with an entry per tag of a post
+            new PlannedIndex(Post.class, new Index()
+                    .named("tags_visibility_createdAt_id")
+                    .on("tags", Sort.Direction.ASC)
+                    .on("visibility", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            // A user's posts: offset, slice and cursor pages
+            new PlannedIndex(Post.class, new Index()
+                    .named("userId_createdAt_id")
+                    .on("userId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            // Full-text search of public posts, matches in the title counting most
+            new PlannedIndex(Post.class, TextIndexDefinition.builder()
+                    .named("post_text")
+                    .onField("title", 10F)
+                    .onField("techStack", 5F)
+                    .onField("description", 1F)
+                    .partial(PartialIndexFilter.of(Criteria.where("visibility").is(true)))
+                    .build()),
+            // Comments of a post, newest first
+            new PlannedIndex(Comment.class, new Index()
+                    .named("post_createdAt")
+                    .on("post", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)),
+            // One reaction per user and post; also serves lookups by both
+            new PlannedIndex(Reaction.class, new Index()
+                    .named("post_user_idx")
+                    .on("postId", Sort.Direction.ASC)
+                    .on("userId", Sort.Direction.ASC)
+                    .unique()),
+            // Reactions of a post, newest first
+            new PlannedIndex(Reaction.class, new Index()
+                    .named("postId_createdAt")
+                    .on("postId", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)),
+            // Reactions of a post of one type, newest first
+            new PlannedIndex(Reaction.class, new Index()
+                    .named("postId_type_createdAt")
+                    .on("postId", Sort.Direction.ASC)
+                    .on("type", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC)),
+            // One follow per pair; also serves the authors a user follows
+            new PlannedIndex(Follow.class, new Index()
+                    .named("followerId_followeeId")
+                    .on("followerId", Sort.Direction.ASC)
+                    .on("followeeId", Sort.Direction.ASC)
+                    .unique()),
+            // Followers of an author in batches, for fan-out
+            new PlannedIndex(Follow.class, new Index()
+                    .named("followeeId_followerId")
+                    .on("followeeId", Sort.Direction.ASC)
+                    .on("followerId", Sort.Direction.ASC)),
+            // One bucket per user and day; pages read a user's latest days
+            new PlannedIndex(TimelineBucket.class, new Index()
+                    .named("userId_day")
+                    .on("userId", Sort.Direction.ASC)
+                    .on("day", Sort.Direction.DESC)
+                    .unique()),
+            // Timelines holding a post, to remove it when it is deleted
+            new PlannedIndex(TimelineBucket.class, new Index()
+                    .named("entries_postId")
+                    .on("entries.postId", Sort.Direction.ASC)),
+            // Pending post deletions, oldest first
+            new PlannedIndex(PostDeletion.class, new Index()
+                    .named("requestedAt")
+                    .on("requestedAt", Sort.Direction.ASC)),
+            new PlannedIndex(User.class, new Index()
+                    .named("email")
+                    .on("email", Sort.Direction.ASC)
+                    .unique()),
+            // Users who have revoked their tokens; everyone else stays out of the index
+            new PlannedIndex(User.class, new Index()
+                    .named("tokenEpoch")
+                    .on("tokenEpoch", Sort.Direction.ASC)
+                    .partial(PartialIndexFilter.of(Criteria.where("tokenEpoch").gt(0)))),
+            // Authors at the timeline pull threshold, the few users at the top
+            new PlannedIndex(User.class, new Index()
+                    .named("followerCount")
+                    .on("followerCount", Sort.Direction.ASC)),
+            new PlannedIndex(SigningKey.class, new Index()
+                    .named("activatedAt")
+                    .on("activatedAt", Sort.Direction.ASC)),
+            new PlannedIndex(RefreshToken.class, new Index()
+                    .named("expiresAt")
+                    .on("expiresAt", Sort.Direction.ASC)
+                    .expire(Duration.ZERO)),
+            new PlannedIndex(RefreshToken.class, new Index()
+                    .named("familyId")
+                    .on("familyId", Sort.Direction.ASC)),
+            new PlannedIndex(RefreshToken.class, new Index()
+                    .named("userId")
+                    .on("userId", Sort.Direction.ASC)),
+            new PlannedIndex(RevokedToken.class, new Index()
+                    .named("expiresAt")
+                    .on("expiresAt", Sort.Direction.ASC)
+                    .expire(Duration.ZERO)),
+            new PlannedIndex(RevokedToken.class, new Index()
+                    .named("revokedAt")
+                    .on("revokedAt", Sort.Direction.ASC)));
+
+    static final List<ObsoleteIndex> OBSOLETE = List.of(
+            // Prefixes of post_user_idx, and no query filters on userId alone
+            new ObsoleteIndex(Reaction.class, "postId"),
+            new ObsoleteIndex(Reaction.class, "userId"));
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexPlan(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexesInBackground() {
+        Thread builder = new Thread(this::ensureIndexes, "mongo-index-plan");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Create every planned index and drop the obsolete ones. A failure is
+     * logged and does not stop the remaining indexes.
+     */
+    public void ensureIndexes() {
+        for (PlannedIndex planned : INDEXES) {
+            try {
+                mongoTemplate.indexOps(planned.document()).createIndex(planned.index());
+            } catch (DataAccessException e) {
+                log.warn("Could not create index {} on {}", planned.name(), planned.document().getSimpleName(), e);
+            }
+        }
+        for (ObsoleteIndex obsolete : OBSOLETE) {
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(obsolete.document());
+                boolean exists = indexOps.getIndexInfo().stream()
+                        .map(IndexInfo::getName)
+                        .anyMatch(obsolete.name()::equals);
+                if (exists) {
+                    indexOps.dropIndex(obsolete.name());
+                    log.info("Dropped obsolete index {} on {}", obsolete.name(), obsolete.document().getSimpleName());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not drop index {} on {}", obsolete.name(), obsolete.document().getSimpleName(), e);
+            }
+        }
+    }
+
+    record PlannedIndex(Class<?> document, IndexDefinition index) {
+
+        String name() {
+            Document options = index.getIndexOptions();
+            return options.getString("name");
+        }
+    }
+
+    record ObsoleteIndex(Class<?> document, String name) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Password hashing pool settings.
+ *
+ * @param poolSize      number of hashing threads; 0 uses one per two
+ *                      available processors, leaving the others to request
+ *                      threads
+ * @param queueCapacity hashing jobs that may wait for a thread before new ones
+ *                      are rejected
+ * @param retryAfter    back-off suggested to clients whose request was rejected
+ */
+@ConfigurationProperties(prefix = "devconnect.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int poolSize,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("1s") Duration retryAfter) {
+
+    public int effectivePoolSize() {
+        return poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory window of newest public posts.
+ *
+ * @param size             number of newest public posts kept; 0 disables the
+ *                         cache
+ * @param expireAfterWrite how long the window may be served before it is
+ *                         reloaded; bounds staleness for writes made by other
+ *                         instances
+ */
+@ConfigurationProperties(prefix = "devconnect.public-feed-cache")
+public record PublicFeedCacheProperties(
+        @DefaultValue("50") int size,
+        @DefaultValue("30s") Duration expireAfterWrite) {
+}
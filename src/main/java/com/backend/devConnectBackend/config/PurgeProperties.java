@@ -0,0 +1,29 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for purging the comments and reactions of deleted posts.
+ *
+ * @param batchSize                comments, and reactions, deleted per batch
+ * @param pause                    wait between batches, which keeps the purge
+ *                                 from competing with request traffic
+ * @param maxBatchesPerRun         batches one run deletes before yielding to
+ *                                 the next
+ * @param interval                 wait between runs
+ * @param orphanSweepInitialDelay  wait after startup before the first sweep for
+ *                                 comments and reactions of missing posts
+ * @param orphanSweepInterval      wait between sweeps
+ */
+@ConfigurationProperties(prefix = "devconnect.purge")
+public record PurgeProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration pause,
+        @DefaultValue("200") int maxBatchesPerRun,
+        @DefaultValue("30s") Duration interval,
+        @DefaultValue("1m") Duration orphanSweepInitialDelay,
+        @DefaultValue("6h") Duration orphanSweepInterval) {
+}
@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cache of users' reactions to single posts.
+ *
+ * @param maximumSize      maximum number of user and post pairs kept
+ * @param expireAfterWrite how long a cached reaction may be served; bounds
+ *                         staleness for reactions made through other
+ *                         instances
+ */
+@ConfigurationProperties(prefix = "devconnect.reactions.cache")
+public record ReactionCacheProperties(
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("10s") Duration expireAfterWrite) {
+}
@@ -0,0 +1,21 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Full-text post search settings.
+ *
+ * @param recencyHalfLife age at which a post's recency boost has halved
+ * @param recencyWeight   boost of a brand-new post, as a fraction of its text
+ *                        relevance; 0 ranks by relevance alone
+ * @param maxTerms        search terms used from a query; the rest are ignored
+ */
+@ConfigurationProperties(prefix = "devconnect.search")
+public record SearchProperties(
+        @DefaultValue("7d") Duration recencyHalfLife,
+        @DefaultValue("1.0") double recencyWeight,
+        @DefaultValue("8") int maxTerms) {
+}
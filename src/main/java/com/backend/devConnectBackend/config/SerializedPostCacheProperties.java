@@ -0,0 +1,27 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings of the off-heap cache of posts serialized as JSON.
+ *
+ * @param capacity         most memory the cached JSON takes, outside the heap;
+ *                         0 disables the cache
+ * @param blockSize        unit the memory is handed out in; a post takes whole
+ *                         blocks
+ * @param maxEntrySize     largest serialized post that is cached
+ * @param expireAfterWrite how long a post may be served before it is read
+ *                         again; bounds staleness for writes made by other
+ *                         instances
+ */
+@ConfigurationProperties(prefix = "devconnect.serialized-post-cache")
+public record SerializedPostCacheProperties(
+        @DefaultValue("32MB") DataSize capacity,
+        @DefaultValue("1KB") DataSize blockSize,
+        @DefaultValue("64KB") DataSize maxEntrySize,
+        @DefaultValue("30s") Duration expireAfterWrite) {
+}
@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Post autocomplete settings.
+ *
+ * @param maxSuggestions  titles and tags kept per prefix, the most one
+ *                        request returns of each
+ * @param refreshInterval how often the index is rebuilt from MongoDB, which
+ *                        picks up posts written through other instances
+ */
+@ConfigurationProperties(prefix = "devconnect.suggest")
+public record SuggestProperties(
+        @DefaultValue("10") int maxSuggestions,
+        @DefaultValue("30m") Duration refreshInterval) {
+}
@@ -0,0 +1,26 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Tech stack tag settings.
+ *
+ * @param aliases           extra spellings mapped to their canonical tag, on
+ *                          top of the built-in ones; keys containing dots need
+ *                          the bracket form, e.g. {@code "[vue.js]": vue}
+ * @param refreshInterval   how often tag counts are recounted from MongoDB,
+ *                          which picks up posts written through other
+ *                          instances
+ * @param backfillBatchSize posts tagged in one bulk write when tagging posts
+ *                          saved before tags existed
+ */
+@ConfigurationProperties(prefix = "devconnect.tags")
+public record TagProperties(
+        Map<String, String> aliases,
+        @DefaultValue("15m") Duration refreshInterval,
+        @DefaultValue("500") int backfillBatchSize) {
+}
@@ -0,0 +1,27 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Home timeline settings.
+ *
+ * @param pullThreshold   follower count from which an author's posts are read
+ *                        from the posts collection when a timeline is served,
+ *                        instead of being written into every follower's
+ *                        timeline
+ * @param fanOutBatchSize followers whose timelines are updated in one bulk
+ *                        write
+ * @param bucketsPerRead  timeline days read in one query while filling a page
+ * @param poolSize        number of fan-out threads
+ * @param queueCapacity   fan-out jobs that may wait for a thread before new
+ *                        ones are dropped
+ */
+@ConfigurationProperties(prefix = "devconnect.timeline")
+public record TimelineProperties(
+        @DefaultValue("10000") long pullThreshold,
+        @DefaultValue("500") int fanOutBatchSize,
+        @DefaultValue("7") int bucketsPerRead,
+        @DefaultValue("2") int poolSize,
+        @DefaultValue("10000") int queueCapacity) {
+}
@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Shared user cache settings.
+ *
+ * @param maximumSize      maximum number of users kept in memory
+ * @param expireAfterWrite how long a cached user may be served before it is
+ *                         reloaded; bounds staleness for writes made by other
+ *                         instances
+ */
+@ConfigurationProperties(prefix = "devconnect.users.cache")
+public record UserCacheProperties(
+        @DefaultValue("10000") int maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite) {
+}
@@ -0,0 +1,15 @@
+package com.backend.devConnectBackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bulk user import settings.
+ *
+ * @param batchSize number of users hashed and inserted together; bounds the
+ *                  memory an import holds regardless of file size
+ */
+@ConfigurationProperties(prefix = "devconnect.user-import")
+public record UserImportProperties(
+        @DefaultValue("500") int batchSize) {
+}
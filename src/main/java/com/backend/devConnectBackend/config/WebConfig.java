@@ -0,0 +1,25 @@
+package com.backend.devConnectBackend.config;
+
+import com.backend.devConnectBackend.security.CurrentUserArgumentResolver;
+import com.backend.devConnectBackend.service.UserLookupService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<UserLookupService> userLookupService;
+
+    public WebConfig(ObjectProvider<UserLookupService> userLookupService) {
+        this.userLookupService = userLookupService;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver(email -> userLookupService.getObject().findByEmail(email)));
+    }
+}
@@ -2,44 +2,79 @@ package com.backend.devConnectBackend.controller;
 
 import com.backend.devConnectBackend.dto.LoginRequest;
 import com.backend.devConnectBackend.dto.LoginResult;
+import com.backend.devConnectBackend.dto.RefreshResult;
 import com.backend.devConnectBackend.dto.RegisterRequest;
+import com.backend.devConnectBackend.security.AuthenticatedUser;
+import com.backend.devConnectBackend.security.LoginThrottle;
 import com.backend.devConnectBackend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 public class AuthController {
 
+    static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private AuthService authService;
+    private final LoginThrottle loginThrottle;
 
-    public AuthController(AuthService service) {
+    public AuthController(AuthService service, LoginThrottle loginThrottle) {
         this.authService = service;
+        this.loginThrottle = loginThrottle;
     }
 
+    /**
+     * Registration is handled asynchronously so the request thread is released
+     * while the password is hashed.
+     *
+     * @return 201 CREATED once the user is saved
+     *         503 SERVICE UNAVAILABLE if password hashing is saturated
+     */
     @PostMapping("/register")
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterRequest req) {
-        authService.register(req);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body("User registered!");
+    public CompletableFuture<ResponseEntity<String>> register(@Valid @RequestBody RegisterRequest req) {
+        return authService.register(req)
+                .thenApply(saved -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body("User registered!"));
     }
 
     /**
      * Login endpoint with proper HTTP status codes.
      * Uses instanceof checks (Java 17 compatible).
+     * Handled asynchronously so the request thread is released while the
+     * password is checked. Attempts are throttled per email and client IP
+     * before the user is looked up.
      * 
-     * @return 200 OK with JWT token on success
+     * @return 200 OK with JWT token on success, and the refresh token in an
+     *         HttpOnly cookie
      *         404 NOT FOUND if user doesn't exist
      *         401 UNAUTHORIZED if password is incorrect
+     *         429 TOO MANY REQUESTS if the caller is over the login rate limit
+     *         503 SERVICE UNAVAILABLE if password hashing is saturated
      */
     @PostMapping("/auth/login")
-    public ResponseEntity<String> login(@Valid @RequestBody LoginRequest req) {
-        LoginResult result = authService.login(req);
+    public CompletableFuture<ResponseEntity<String>> login(@Valid @RequestBody LoginRequest req,
+            HttpServletRequest request) {
+        loginThrottle.acquire(req.email(), request.getRemoteAddr());
+        return authService.login(req).thenApply(this::toResponse);
+    }
 
+    private ResponseEntity<String> toResponse(LoginResult result) {
         // Handle each case with instanceof (Java 17 compatible)
         if (result instanceof LoginResult.Success success) {
-            return ResponseEntity.ok(success.token());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE,
+                            refreshTokenCookie(success.refreshToken(), success.refreshTokenLifetime()).toString())
+                    .body(success.token());
         } else if (result instanceof LoginResult.UserNotFound) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body("User not found");
@@ -52,4 +87,74 @@ public class AuthController {
         throw new IllegalStateException("Unexpected LoginResult type: " + result);
     }
 
+    /**
+     * Exchange the refresh token cookie for a new access token. The refresh
+     * token is rotated on every call.
+     *
+     * @return 200 OK with JWT token and a new refresh token cookie
+     *         401 UNAUTHORIZED if the refresh token is missing, expired or was
+     *         already used
+     */
+    @PostMapping("/auth/refresh")
+    public ResponseEntity<String> refresh(
+            @CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken) {
+        if (refreshToken == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Missing refresh token");
+        }
+
+        RefreshResult result = authService.refresh(refreshToken);
+        if (result instanceof RefreshResult.Success success) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE,
+                            refreshTokenCookie(success.refreshToken(), success.refreshTokenLifetime()).toString())
+                    .body(success.token());
+        } else if (result instanceof RefreshResult.Rejected) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", Duration.ZERO).toString())
+                    .body("Invalid refresh token");
+        }
+
+        throw new IllegalStateException("Unexpected RefreshResult type: " + result);
+    }
+
+    /**
+     * Sign out of the current session: revokes the presented access token and
+     * the refresh token cookie, and clears the cookie.
+     *
+     * @return 204 NO CONTENT
+     */
+    @PostMapping("/auth/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken) {
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        authService.logout(accessToken, refreshToken);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", Duration.ZERO).toString())
+                .build();
+    }
+
+    /**
+     * Revoke every token issued to the caller, including the one used for this
+     * request.
+     *
+     * @return 204 NO CONTENT
+     */
+    @PostMapping("/auth/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        authService.revokeAllTokens(authenticatedUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseCookie refreshTokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(REFRESH_TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Strict")
+                .path("/auth")
+                .maxAge(maxAge)
+                .build();
+    }
 }
@@ -2,16 +2,19 @@ package com.backend.devConnectBackend.controller;
 
 import com.backend.devConnectBackend.dto.CommentRequest;
 import com.backend.devConnectBackend.dto.CommentResponse;
+import com.backend.devConnectBackend.security.CurrentUser;
 import com.backend.devConnectBackend.service.CommentService;
+import com.backend.devConnectBackend.util.ETags;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 public class CommentController {
@@ -26,29 +29,51 @@ public class CommentController {
     public ResponseEntity<CommentResponse> addComment(
             @PathVariable String postId,
             @Valid @RequestBody CommentRequest request,
-            Authentication authentication) {
+            CurrentUser currentUser) {
 
-        String userEmail = authentication.getName();
-        CommentResponse response = commentService.addComment(postId, request, userEmail);
+        CommentResponse response = commentService.addComment(postId, request, currentUser.user());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Answers 304 if {@code If-None-Match} holds the current ETag, which is
+     * checked before the page is read. The post is read once, for both.
+     */
     @GetMapping("/posts/{postId}/comments")
     public ResponseEntity<Page<CommentResponse>> getComments(
             @PathVariable String postId,
-            @PageableDefault(size = 2, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<CommentResponse> comments = commentService.getComments(postId, pageable);
-        return ResponseEntity.ok(comments);
+            @PageableDefault(size = 2, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
+        // Taken before the page: a comment added in between costs the client
+        // one more full response, never a stale one
+        CommentService.CommentsVersion version = commentService.getCommentsVersion(postId, pageable);
+        if (request.checkNotModified(version.eTag())) {
+            return null;
+        }
+        Page<CommentResponse> comments = commentService.getComments(version, pageable);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(version.eTag()).body(comments);
+    }
+
+    @GetMapping(value = "/posts/{postId}/comments", params = "slice=true")
+    public ResponseEntity<Slice<CommentResponse>> getCommentsSlice(
+            @PathVariable String postId,
+            @PageableDefault(size = 2, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
+        CommentService.CommentsVersion version = commentService.getCommentsVersion(postId, pageable);
+        if (request.checkNotModified(version.eTag())) {
+            return null;
+        }
+        Slice<CommentResponse> comments = commentService.getCommentsSlice(version, pageable);
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(version.eTag()).body(comments);
     }
 
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable String commentId,
-            Authentication authentication) {
+            CurrentUser currentUser) {
 
-        String userEmail = authentication.getName();
-        commentService.deleteComment(commentId, userEmail);
+        commentService.deleteComment(commentId, currentUser.getId());
 
         return ResponseEntity.noContent().build();
     }
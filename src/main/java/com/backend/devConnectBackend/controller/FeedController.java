@@ -0,0 +1,36 @@
+package com.backend.devConnectBackend.controller;
+
+import com.backend.devConnectBackend.dto.CursorPage;
+import com.backend.devConnectBackend.dto.PostResponse;
+import com.backend.devConnectBackend.security.AuthenticatedUser;
+import com.backend.devConnectBackend.service.PostService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/feed")
+public class FeedController {
+
+    private final PostService postService;
+
+    public FeedController(PostService postService) {
+        this.postService = postService;
+    }
+
+    /**
+     * Home timeline of the caller, newest first. Pass the returned
+     * {@code next} as {@code after} to get the following page.
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<PostResponse>> getHomeFeed(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "2") int size,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        return ResponseEntity.ok(postService.getHomeFeedAfter(viewer.getId(), after, size));
+    }
+}
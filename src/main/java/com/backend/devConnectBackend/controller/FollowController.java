@@ -0,0 +1,40 @@
+package com.backend.devConnectBackend.controller;
+
+import com.backend.devConnectBackend.security.AuthenticatedUser;
+import com.backend.devConnectBackend.service.FollowService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/users/{userId}/follow")
+public class FollowController {
+
+    private final FollowService followService;
+
+    public FollowController(FollowService followService) {
+        this.followService = followService;
+    }
+
+    @PutMapping
+    public ResponseEntity<Void> follow(
+            @PathVariable String userId,
+            @AuthenticationPrincipal AuthenticatedUser follower) {
+
+        followService.follow(follower.getId(), userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> unfollow(
+            @PathVariable String userId,
+            @AuthenticationPrincipal AuthenticatedUser follower) {
+
+        followService.unfollow(follower.getId(), userId);
+        return ResponseEntity.noContent().build();
+    }
+}
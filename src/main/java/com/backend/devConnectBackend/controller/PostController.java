@@ -1,17 +1,34 @@
 package com.backend.devConnectBackend.controller;
 
 import com.backend.devConnectBackend.constants.OwnerFilter;
+import com.backend.devConnectBackend.dto.CursorPage;
+import com.backend.devConnectBackend.dto.PostPatchRequest;
 import com.backend.devConnectBackend.dto.PostRequest;
 import com.backend.devConnectBackend.dto.PostResponse;
+import com.backend.devConnectBackend.dto.PostSummary;
+import com.backend.devConnectBackend.dto.Suggestions;
+import com.backend.devConnectBackend.dto.TagCount;
+import com.backend.devConnectBackend.security.AuthenticatedUser;
 import com.backend.devConnectBackend.service.PostService;
+import com.backend.devConnectBackend.util.ETags;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @RestController
 @RequestMapping("/posts")
@@ -34,32 +51,203 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Feed pages carry an ETag, and {@code If-None-Match} with the current one
+     * is answered with 304; the same holds for the other modes of the feed.
+     * Public pages served from the feed cache are answered without being
+     * built.
+     */
     @GetMapping
     public ResponseEntity<Page<PostResponse>> getAllPosts(
             @RequestParam(required = false) String owner,
             @PageableDefault(size = 2, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
+            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser viewer,
+            WebRequest request) {
+
+        if (owner != null && OwnerFilter.ME.name().equalsIgnoreCase(owner)) {
+            String userEmail = authentication.getName();
+            Page<PostResponse> myPosts = postService.getMyPosts(userEmail, pageable, viewerId(viewer));
+            return withETag(myPosts, myPosts.getTotalElements(), myPosts.getContent());
+        }
+
+        return ifModified(postService.getAllPublicPostsTagged(pageable, viewerId(viewer)), request);
+    }
+
+    /**
+     * Summary view of the feed, selected by {@code view=summary}: same pages as
+     * the default mode, but each post is a {@link PostSummary} and the
+     * description is never read from MongoDB.
+     */
+    @GetMapping(params = { "view=summary", "!slice", "!after" })
+    public ResponseEntity<Page<PostSummary>> getAllPostSummaries(
+            @RequestParam(required = false) String owner,
+            @PageableDefault(size = 2, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        Page<PostSummary> summaries;
+        if (owner != null && OwnerFilter.ME.name().equalsIgnoreCase(owner)) {
+            String userEmail = authentication.getName();
+            summaries = postService.getMyPostSummaries(userEmail, pageable, viewerId(viewer));
+        } else {
+            summaries = postService.getAllPublicPostSummaries(pageable, viewerId(viewer));
+        }
+
+        List<Object> parts = new ArrayList<>();
+        parts.add(summaries.getTotalElements());
+        for (PostSummary summary : summaries.getContent()) {
+            parts.addAll(Arrays.asList(summary.id(), summary.title(), summary.techStack(), summary.commentCount(),
+                    summary.likeCount(), summary.dislikeCount(), summary.userReaction()));
+        }
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(ETags.of(parts)).body(summaries);
+    }
+
+    /**
+     * Slice mode of the feed, selected by {@code slice=true}: same pages as the
+     * default mode, but with {@code hasNext} instead of a total, so no count
+     * query runs.
+     */
+    @GetMapping(params = { "slice=true", "!after" })
+    public ResponseEntity<Slice<PostResponse>> getAllPostsSlice(
+            @RequestParam(required = false) String owner,
+            @PageableDefault(size = 2, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser viewer,
+            WebRequest request) {
 
         if (owner != null && OwnerFilter.ME.name().equalsIgnoreCase(owner)) {
             String userEmail = authentication.getName();
-            Page<PostResponse> myPosts = postService.getMyPosts(userEmail, pageable);
-            return ResponseEntity.ok(myPosts);
+            Slice<PostResponse> posts = postService.getMyPostsSlice(userEmail, pageable, viewerId(viewer));
+            return withETag(posts, posts.hasNext(), posts.getContent());
         }
+        return ifModified(postService.getAllPublicPostsSliceTagged(pageable, viewerId(viewer)), request);
+    }
 
-        Page<PostResponse> publicPosts = postService.getAllPublicPosts(pageable);
-        return ResponseEntity.ok(publicPosts);
+    /**
+     * Cursor mode of the feed, selected by the {@code after} parameter. Pass an
+     * empty {@code after} for the first page and the returned {@code next} for
+     * each following one. Deep pages cost the same as the first and no total is
+     * computed.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<PostResponse>> getPostsAfter(
+            @RequestParam String after,
+            @RequestParam(required = false) String owner,
+            @RequestParam(defaultValue = "2") int size,
+            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        CursorPage<PostResponse> posts;
+        if (owner != null && OwnerFilter.ME.name().equalsIgnoreCase(owner)) {
+            String userEmail = authentication.getName();
+            posts = postService.getMyPostsAfter(userEmail, after, size, viewerId(viewer));
+        } else {
+            posts = postService.getPublicPostsAfter(after, size, viewerId(viewer));
+        }
+        return withETag(posts, posts.next(), posts.content());
     }
 
     @GetMapping("/search")
     public ResponseEntity<Page<PostResponse>> searchPosts(
             @RequestParam(required = false) String techStack,
             @RequestParam(required = false) String title,
-            @PageableDefault(size = 10, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
 
-        Page<PostResponse> posts = postService.searchPublicPosts(techStack, title, pageable);
+        Page<PostResponse> posts = postService.searchPublicPosts(techStack, title, pageable, viewerId(viewer));
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * Full-text search, selected by the {@code q} parameter: public posts
+     * containing any word of {@code q}, most relevant first, with recent posts
+     * ranked higher. The {@code sort} parameter is ignored.
+     */
+    @GetMapping(value = "/search", params = { "q", "!slice", "!view" })
+    public ResponseEntity<Page<PostResponse>> searchPostsByText(
+            @RequestParam String q,
+            @PageableDefault(size = 10) Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        return ResponseEntity.ok(postService.searchPublicPostsByText(q, pageable, viewerId(viewer)));
+    }
+
+    /**
+     * Full-text search has no summary or slice view; rather than answer with
+     * unfiltered results, such requests are rejected.
+     */
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<String> searchPostsByTextUnsupportedView() {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("Full-text search (q) cannot be combined with view or slice");
+    }
+
+    /**
+     * Summary view of the search, selected by {@code view=summary}.
+     */
+    @GetMapping(value = "/search", params = { "view=summary", "!slice", "!q" })
+    public ResponseEntity<Page<PostSummary>> searchPostSummaries(
+            @RequestParam(required = false) String techStack,
+            @RequestParam(required = false) String title,
+            @PageableDefault(size = 10, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        Page<PostSummary> posts = postService.searchPublicPostSummaries(techStack, title, pageable, viewerId(viewer));
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping(value = "/search", params = { "slice=true", "!q" })
+    public ResponseEntity<Slice<PostResponse>> searchPostsSlice(
+            @RequestParam(required = false) String techStack,
+            @RequestParam(required = false) String title,
+            @PageableDefault(size = 10, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal AuthenticatedUser viewer) {
+
+        Slice<PostResponse> posts = postService.searchPublicPostsSlice(techStack, title, pageable, viewerId(viewer));
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * Tag facet: the most used tags of public posts with their post counts,
+     * most used first.
+     */
+    @GetMapping("/tags")
+    public ResponseEntity<List<TagCount>> getTopTags(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(postService.getTopTags(limit));
+    }
+
+    /**
+     * Autocomplete: titles and tags of public posts starting with {@code q},
+     * most used first. Answered from memory, so it is cheap enough to call on
+     * every keystroke.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Suggestions> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit) {
+
+        return ResponseEntity.ok(postService.suggest(q, limit));
+    }
+
+    /**
+     * A single post, for shared links. Private posts can only be read by
+     * their author. Often streamed straight from the serialized post cache.
+     */
+    @GetMapping("/{id}")
+    public void getPost(
+            @PathVariable String id,
+            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser viewer,
+            HttpServletResponse response) throws IOException {
+
+        try (PostService.PostJson json = postService.getPostJson(id, authentication.getName(), viewerId(viewer))) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(json.length());
+            json.writeTo(response.getOutputStream());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PostResponse> updatePost(
             @PathVariable String id,
@@ -72,6 +260,21 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Partial edit: only the fields present in the body are changed. Pass the
+     * post's {@code version} to have the edit rejected with 409 if someone
+     * else changed the post since it was read.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<PostResponse> patchPost(
+            @PathVariable String id,
+            @Valid @RequestBody PostPatchRequest request,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        return ResponseEntity.ok(postService.patchPost(id, request, userEmail));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(
             @PathVariable String id,
@@ -82,4 +285,36 @@ public class PostController {
 
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 200 with an ETag computed from each post's version, update time and
+     * counters, which together change whenever its response does, rather than
+     * from the serialized page; Spring answers 304 instead when the request's
+     * {@code If-None-Match} matches.
+     *
+     * @param pageState what else the page holds, such as its total
+     */
+    private static <T> ResponseEntity<T> withETag(T body, Object pageState, List<PostResponse> posts) {
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(PostService.feedETag(pageState, posts))
+                .body(body);
+    }
+
+    /**
+     * Answers 304 if {@code If-None-Match} holds the tag, without building the
+     * body.
+     */
+    private static <T> ResponseEntity<T> ifModified(PostService.Tagged<T> tagged, WebRequest request) {
+        if (request.checkNotModified(tagged.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(tagged.eTag()).body(tagged.body().get());
+    }
+
+    /**
+     * ID of the caller, whose own reaction is filled into listed posts; null
+     * when the principal carries no ID.
+     */
+    private static String viewerId(AuthenticatedUser viewer) {
+        return viewer != null ? viewer.getId() : null;
+    }
 }
@@ -3,15 +3,16 @@ package com.backend.devConnectBackend.controller;
 import com.backend.devConnectBackend.constants.ReactionType;
 import com.backend.devConnectBackend.dto.ReactionRequest;
 import com.backend.devConnectBackend.dto.ReactionResponse;
+import com.backend.devConnectBackend.security.CurrentUser;
 import com.backend.devConnectBackend.service.ReactionService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
@@ -37,17 +38,16 @@ public class ReactionController {
      *
      * @param postId         Post ID
      * @param request        Reaction request with type
-     * @param authentication Current user authentication
+     * @param currentUser    Authenticated caller
      * @return ReactionResponse if created/updated, 204 No Content if removed
      */
     @PostMapping
     public ResponseEntity<ReactionResponse> toggleReaction(
             @PathVariable String postId,
             @Valid @RequestBody ReactionRequest request,
-            Authentication authentication) {
+            CurrentUser currentUser) {
 
-        String userEmail = authentication.getName();
-        Optional<ReactionResponse> response = reactionService.toggleReaction(postId, request, userEmail);
+        Optional<ReactionResponse> response = reactionService.toggleReaction(postId, request, currentUser.user());
 
         return response
                 .map(r -> ResponseEntity.status(HttpStatus.CREATED).body(r))
@@ -72,4 +72,23 @@ public class ReactionController {
         Page<ReactionResponse> reactions = reactionService.getReactions(postId, type, pageable);
         return ResponseEntity.ok(reactions);
     }
+
+    /**
+     * Same as {@link #getReactions}, with {@code hasNext} instead of a total so
+     * no count query runs. Selected by {@code slice=true}.
+     *
+     * @param postId   Post ID
+     * @param type     Optional reaction type filter
+     * @param pageable Pagination parameters
+     * @return Slice of reactions
+     */
+    @GetMapping(params = "slice=true")
+    public ResponseEntity<Slice<ReactionResponse>> getReactionsSlice(
+            @PathVariable String postId,
+            @RequestParam(required = false) ReactionType type,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        Slice<ReactionResponse> reactions = reactionService.getReactionsSlice(postId, type, pageable);
+        return ResponseEntity.ok(reactions);
+    }
 }
@@ -1,8 +1,9 @@
 package com.backend.devConnectBackend.controller;
 
 import com.backend.devConnectBackend.dto.ProfileResult;
-import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.security.AuthenticatedUser;
 import com.backend.devConnectBackend.service.UserService;
+import com.backend.devConnectBackend.util.ETags;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,7 +21,7 @@ public class UserController {
     }
 
     @GetMapping("/profile")
-    public ResponseEntity<Object> getCurrentUserProfile(@AuthenticationPrincipal User authenticatedUser) {
+    public ResponseEntity<Object> getCurrentUserProfile(@AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
         String email = authenticatedUser.getEmail();
 
         ProfileResult result = userService.getCurrentUserProfile(email);
@@ -28,7 +29,7 @@ public class UserController {
         if (result instanceof ProfileResult.ProfileNotFound) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Profile not found");
         } else if (result instanceof ProfileResult.FullProfile full) {
-            return ResponseEntity.ok(full);
+            return withETag(full);
         }
 
         throw new IllegalStateException("Unexpected ProfileResult type");
@@ -37,7 +38,7 @@ public class UserController {
     @GetMapping("/profile/{profileId}")
     public ResponseEntity<Object> getUserProfile(
             @PathVariable String profileId,
-            @AuthenticationPrincipal User authenticatedUser) {
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
         String role = authenticatedUser.getRole().name();
         String authenticatedUserId = authenticatedUser.getId();
 
@@ -46,11 +47,28 @@ public class UserController {
         if (result instanceof ProfileResult.ProfileNotFound) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Profile not found");
         } else if (result instanceof ProfileResult.FullProfile full) {
-            return ResponseEntity.ok(full); // ADMIN viewing others
+            return withETag(full); // ADMIN viewing others
         } else if (result instanceof ProfileResult.PublicProfile pub) {
-            return ResponseEntity.ok(pub); // Non-ADMIN viewing others
+            return withETag(pub); // Non-ADMIN viewing others
         }
 
         throw new IllegalStateException("Unexpected ProfileResult type");
     }
+
+    /**
+     * 200 with an ETag of the profile's fields, or 304 if the request's
+     * {@code If-None-Match} matches. Profiles come from the user cache, so the
+     * tag costs no query.
+     */
+    private static ResponseEntity<Object> withETag(ProfileResult.FullProfile profile) {
+        String eTag = ETags.of("full", profile.id(), profile.name(), profile.email(), profile.role(),
+                profile.skills(), profile.currentSalary(), profile.expectedSalary());
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(eTag).body(profile);
+    }
+
+    private static ResponseEntity<Object> withETag(ProfileResult.PublicProfile profile) {
+        String eTag = ETags.of("public", profile.id(), profile.name(), profile.email(), profile.role(),
+                profile.skills());
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).eTag(eTag).body(profile);
+    }
 }
@@ -0,0 +1,34 @@
+package com.backend.devConnectBackend.controller;
+
+import com.backend.devConnectBackend.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    public UserImportController(UserImportService userImportService) {
+        this.userImportService = userImportService;
+    }
+
+    /**
+     * Bulk user import for admins. The body is newline-delimited JSON with one
+     * registration request per line; the response streams one result per line
+     * while the import runs. Handled on the request thread so long imports are
+     * not cut off by the async request timeout.
+     *
+     * @return 200 OK with NDJSON results (CREATED, DUPLICATE, INVALID or FAILED)
+     */
+    @PostMapping(value = "/admin/users/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        userImportService.importUsers(request.getInputStream(), response.getOutputStream());
+    }
+}
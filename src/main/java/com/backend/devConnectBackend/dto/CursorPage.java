@@ -0,0 +1,13 @@
+package com.backend.devConnectBackend.dto;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated feed.
+ *
+ * @param content items of this page
+ * @param next    cursor to pass as {@code after} for the following page, null
+ *                on the last page
+ */
+public record CursorPage<T>(List<T> content, String next) {
+}
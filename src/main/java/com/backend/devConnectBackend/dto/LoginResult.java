@@ -1,11 +1,13 @@
 package com.backend.devConnectBackend.dto;
 
+import java.time.Duration;
+
 public sealed interface LoginResult
         permits LoginResult.Success,
         LoginResult.UserNotFound,
         LoginResult.InvalidPassword {
 
-    record Success(String token) implements LoginResult {
+    record Success(String token, String refreshToken, Duration refreshTokenLifetime) implements LoginResult {
     }
 
     record UserNotFound() implements LoginResult {
@@ -0,0 +1,24 @@
+package com.backend.devConnectBackend.dto;
+
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+/**
+ * Partial edit of a post. Fields left out, or null, are not changed.
+ *
+ * @param version version of the post the edit is based on, as returned with
+ *                it; if given and the post has changed since, the edit is
+ *                rejected
+ */
+public record PostPatchRequest(
+        @Pattern(regexp = "(?s).*\\S.*", message = "Title must not be blank") String title,
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "Description must not be blank") String description,
+
+        List<String> techStack,
+
+        Boolean visibility,
+
+        Long version) {
+}
@@ -17,5 +17,6 @@ public record PostResponse(
         Integer dislikeCount,
         ReactionType userReaction,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt) {
+        LocalDateTime updatedAt,
+        Long version) {
 }
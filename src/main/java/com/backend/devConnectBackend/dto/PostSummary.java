@@ -0,0 +1,22 @@
+package com.backend.devConnectBackend.dto;
+
+import com.backend.devConnectBackend.constants.ReactionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Feed card view of a post: everything but the description, visibility and
+ * update time.
+ */
+public record PostSummary(
+        String id,
+        String title,
+        List<String> techStack,
+        String userId,
+        Integer commentCount,
+        Integer likeCount,
+        Integer dislikeCount,
+        ReactionType userReaction,
+        LocalDateTime createdAt) {
+}
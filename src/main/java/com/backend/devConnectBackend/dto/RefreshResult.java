@@ -0,0 +1,14 @@
+package com.backend.devConnectBackend.dto;
+
+import java.time.Duration;
+
+public sealed interface RefreshResult
+        permits RefreshResult.Success,
+        RefreshResult.Rejected {
+
+    record Success(String token, String refreshToken, Duration refreshTokenLifetime) implements RefreshResult {
+    }
+
+    record Rejected() implements RefreshResult {
+    }
+}
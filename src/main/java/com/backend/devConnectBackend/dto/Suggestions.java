@@ -0,0 +1,12 @@
+package com.backend.devConnectBackend.dto;
+
+import java.util.List;
+
+/**
+ * Autocomplete suggestions for a prefix, most used first.
+ *
+ * @param titles titles of public posts
+ * @param tags   canonical tags of public posts
+ */
+public record Suggestions(List<String> titles, List<String> tags) {
+}
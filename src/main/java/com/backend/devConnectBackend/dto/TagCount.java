@@ -0,0 +1,7 @@
+package com.backend.devConnectBackend.dto;
+
+/**
+ * Number of public posts with a tag.
+ */
+public record TagCount(String tag, long count) {
+}
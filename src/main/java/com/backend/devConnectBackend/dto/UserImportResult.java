@@ -0,0 +1,19 @@
+package com.backend.devConnectBackend.dto;
+
+/**
+ * Outcome of one line of a bulk user import.
+ *
+ * @param line    1-based line number in the uploaded file
+ * @param email   email on that line, if it could be read
+ * @param status  what happened to the line
+ * @param message reason the line was not imported, null if it was
+ */
+public record UserImportResult(long line, String email, Status status, String message) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.devConnectBackend.exception;
+
+public class InvalidFollowException extends RuntimeException {
+    public InvalidFollowException(String message) {
+        super(message);
+    }
+}
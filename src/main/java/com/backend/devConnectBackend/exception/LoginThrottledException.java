@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a caller exceeds the allowed rate of login attempts.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
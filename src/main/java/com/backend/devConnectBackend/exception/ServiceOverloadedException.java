@@ -0,0 +1,21 @@
+package com.backend.devConnectBackend.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a bounded resource is saturated and the request is shed instead
+ * of queued.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
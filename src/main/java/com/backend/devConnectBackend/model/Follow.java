@@ -0,0 +1,67 @@
+package com.backend.devConnectBackend.model;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user following an author. At most one per pair, enforced by a unique
+ * index (see {@link com.backend.devConnectBackend.config.MongoIndexPlan}).
+ */
+@Document(collection = "follows")
+public class Follow {
+
+    @Id
+    private String id;
+
+    // User ID of the follower
+    private String followerId;
+
+    // User ID of the followed author
+    private String followeeId;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    public Follow() {
+    }
+
+    public Follow(String followerId, String followeeId) {
+        this.followerId = followerId;
+        this.followeeId = followeeId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFollowerId() {
+        return followerId;
+    }
+
+    public void setFollowerId(String followerId) {
+        this.followerId = followerId;
+    }
+
+    public String getFolloweeId() {
+        return followeeId;
+    }
+
+    public void setFolloweeId(String followeeId) {
+        this.followeeId = followeeId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -3,6 +3,7 @@ package com.backend.devConnectBackend.model;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -18,6 +19,8 @@ public class Post {
     private String title;
     private String description;
     private List<String> techStack = new ArrayList<>();
+    // Canonical form of techStack, which tag filtering and the tag facet use
+    private List<String> tags = new ArrayList<>();
     private Boolean visibility;
     private String userId;
     private Integer commentCount = 0;
@@ -30,6 +33,16 @@ public class Post {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // Bumped by every edit, but not by counter changes; null for posts saved
+    // before versioning
+    @Version
+    private Long version;
+
+    // Bumped with the comment count by every comment added or deleted, so it
+    // changes even when the count ends up the same; null for posts that never
+    // had one
+    private Long commentRevision;
+
     public Post() {
     }
 
@@ -81,6 +94,14 @@ public class Post {
         this.techStack = techStack;
     }
 
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
     public Boolean getVisibility() {
         return visibility;
     }
@@ -113,6 +134,22 @@ public class Post {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getCommentRevision() {
+        return commentRevision;
+    }
+
+    public void setCommentRevision(Long commentRevision) {
+        this.commentRevision = commentRevision;
+    }
+
     public Integer getCommentCount() {
         return commentCount;
     }
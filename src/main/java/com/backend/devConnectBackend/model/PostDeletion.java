@@ -0,0 +1,43 @@
+package com.backend.devConnectBackend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A deleted post whose comments and reactions have not all been purged yet.
+ * Keyed by the post ID, so recording a deletion twice keeps one.
+ */
+@Document(collection = "post_deletions")
+public class PostDeletion {
+
+    @Id
+    private String postId;
+
+    private LocalDateTime requestedAt;
+
+    public PostDeletion() {
+    }
+
+    public PostDeletion(String postId, LocalDateTime requestedAt) {
+        this.postId = postId;
+        this.requestedAt = requestedAt;
+    }
+
+    public String getPostId() {
+        return postId;
+    }
+
+    public void setPostId(String postId) {
+        this.postId = postId;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(LocalDateTime requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+}
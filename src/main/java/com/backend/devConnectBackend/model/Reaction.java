@@ -4,8 +4,6 @@ import com.backend.devConnectBackend.constants.ReactionType;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.CompoundIndex;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -13,19 +11,16 @@ import java.time.LocalDateTime;
 /**
  * Represents a user's reaction (like/dislike) to a post.
  * Each user can have at most one reaction per post, enforced by compound unique
- * index.
+ * index (see {@link com.backend.devConnectBackend.config.MongoIndexPlan}).
  */
 @Document(collection = "reactions")
-@CompoundIndex(name = "post_user_idx", def = "{'postId': 1, 'userId': 1}", unique = true)
 public class Reaction {
 
     @Id
     private String id;
 
-    @Indexed
     private String postId;
 
-    @Indexed
     private String userId;
 
     private ReactionType type;
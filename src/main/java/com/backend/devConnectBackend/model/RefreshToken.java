@@ -0,0 +1,79 @@
+package com.backend.devConnectBackend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Refresh token issued at login. Only the SHA-256 digest of the token is
+ * stored. Every use replaces the token with a new one of the same family;
+ * presenting a token that was already used revokes the whole family.
+ */
+@Document(collection = "refresh_tokens")
+public class RefreshToken {
+
+    // Hex SHA-256 digest of the token
+    @Id
+    private String id;
+
+    private String userId;
+
+    // Shared by every token obtained by rotating the same login
+    private String familyId;
+
+    private boolean used;
+
+    // TTL index, see MongoIndexPlan
+    private Instant expiresAt;
+
+    public RefreshToken() {
+    }
+
+    public RefreshToken(String id, String userId, String familyId, Instant expiresAt) {
+        this.id = id;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(String familyId) {
+        this.familyId = familyId;
+    }
+
+    public boolean isUsed() {
+        return used;
+    }
+
+    public void setUsed(boolean used) {
+        this.used = used;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.backend.devConnectBackend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Access token revoked before its expiry, e.g. on logout. Removed by MongoDB
+ * once the token would have expired anyway.
+ */
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+
+    // Token ID (jti claim)
+    @Id
+    private String id;
+
+    // TTL index, see MongoIndexPlan
+    private Instant expiresAt;
+
+    private Instant revokedAt;
+
+    public RevokedToken() {
+    }
+
+    public RevokedToken(String id, Instant expiresAt, Instant revokedAt) {
+        this.id = id;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
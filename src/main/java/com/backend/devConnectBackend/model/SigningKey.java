@@ -0,0 +1,57 @@
+package com.backend.devConnectBackend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * JWT signing key shared by all instances.
+ * The ID is the key ID ({@code kid}) written to the header of every token the
+ * key signs.
+ */
+@Document(collection = "signing_keys")
+public class SigningKey {
+
+    @Id
+    private String id;
+
+    // Base64-encoded HMAC-SHA256 secret
+    private String secret;
+
+    // Start of the rotation period the key signs tokens in
+    private Instant activatedAt;
+
+    public SigningKey() {
+    }
+
+    public SigningKey(String id, String secret, Instant activatedAt) {
+        this.id = id;
+        this.secret = secret;
+        this.activatedAt = activatedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public Instant getActivatedAt() {
+        return activatedAt;
+    }
+
+    public void setActivatedAt(Instant activatedAt) {
+        this.activatedAt = activatedAt;
+    }
+}
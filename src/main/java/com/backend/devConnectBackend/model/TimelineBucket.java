@@ -0,0 +1,86 @@
+package com.backend.devConnectBackend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One day of a user's home timeline: the posts fanned out to the user that
+ * were created that day, newest first. There is at most one bucket per user
+ * and day, so a page of the timeline reads a handful of documents instead of
+ * one per post.
+ */
+@Document(collection = "timelines")
+public class TimelineBucket {
+
+    @Id
+    private String id;
+
+    // User ID of the timeline owner
+    private String userId;
+
+    private LocalDate day;
+
+    // Kept sorted by (createdAt, postId) descending on every push
+    private List<Entry> entries = new ArrayList<>();
+
+    public TimelineBucket() {
+    }
+
+    public TimelineBucket(String id, String userId, LocalDate day, List<Entry> entries) {
+        this.id = id;
+        this.userId = userId;
+        this.day = day;
+        this.entries = entries != null ? entries : new ArrayList<>();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * A post on a timeline.
+     *
+     * @param postId    Post ID
+     * @param authorId  User ID of the author
+     * @param createdAt creation time of the post
+     */
+    public record Entry(String postId, String authorId, LocalDateTime createdAt) {
+
+        public static Entry of(Post post, String authorId) {
+            return new Entry(post.getId(), authorId, post.getCreatedAt());
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.backend.devConnectBackend.model;
 
+import com.backend.devConnectBackend.security.AuthenticatedUser;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,14 +13,14 @@ import java.util.Collection;
 import java.util.List;
 
 @Document(collection = "users")
-public class User implements UserDetails {
+public class User implements UserDetails, AuthenticatedUser {
 
     @Id
     private String id;
 
     private String name;
 
-    @Indexed(unique = true)
+    // Unique, see MongoIndexPlan
     private String email;
 
     private String password;
@@ -29,6 +29,12 @@ public class User implements UserDetails {
     private BigDecimal currentSalary;
     private BigDecimal expectedSalary;
 
+    // Incremented to revoke every token issued before the change
+    private long tokenEpoch;
+
+    // Maintained by FollowService; decides how this user's posts reach followers
+    private long followerCount;
+
     // No-args constructor (required by MongoDB)
     public User() {
     }
@@ -47,6 +53,7 @@ public class User implements UserDetails {
     }
 
     // Getters and Setters
+    @Override
     public String getId() {
         return id;
     }
@@ -63,6 +70,7 @@ public class User implements UserDetails {
         this.name = name;
     }
 
+    @Override
     public String getEmail() {
         return email;
     }
@@ -80,6 +88,7 @@ public class User implements UserDetails {
         this.password = password;
     }
 
+    @Override
     public Role getRole() {
         return role;
     }
@@ -112,6 +121,22 @@ public class User implements UserDetails {
         this.expectedSalary = expectedSalary;
     }
 
+    public long getTokenEpoch() {
+        return tokenEpoch;
+    }
+
+    public void setTokenEpoch(long tokenEpoch) {
+        this.tokenEpoch = tokenEpoch;
+    }
+
+    public long getFollowerCount() {
+        return followerCount;
+    }
+
+    public void setFollowerCount(long followerCount) {
+        this.followerCount = followerCount;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(role.name()));
@@ -5,16 +5,19 @@ import com.backend.devConnectBackend.model.Post;
 import com.backend.devConnectBackend.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface CommentRepository extends MongoRepository<Comment, String> {
+public interface CommentRepository extends MongoRepository<Comment, String>, CommentRepositoryCustom {
 
     List<Comment> findByPostOrderByCreatedAtDesc(Post post);
 
     Page<Comment> findByPostOrderByCreatedAtDesc(Post post, Pageable pageable);
 
+    Slice<Comment> findSliceByPostOrderByCreatedAtDesc(Post post, Pageable pageable);
+
     Optional<Comment> findByIdAndUser(String id, User user);
 }
@@ -0,0 +1,28 @@
+package com.backend.devConnectBackend.repository;
+
+import java.util.List;
+
+/**
+ * Custom repository interface for purging the comments of deleted posts.
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * Delete up to {@code limit} comments of a post.
+     *
+     * @param postId Post ID
+     * @param limit  maximum number of comments to delete
+     * @return number of comments deleted
+     */
+    long deleteBatchByPostId(String postId, int limit);
+
+    /**
+     * Distinct IDs of commented posts, in ID order, after the given one. Each
+     * ID costs one seek on the post index rather than a scan of its comments.
+     *
+     * @param afterPostId last ID seen; null to start from the first
+     * @param limit       maximum number of IDs
+     * @return IDs of posts that have comments
+     */
+    List<String> findPostIdsAfter(String afterPostId, int limit);
+}
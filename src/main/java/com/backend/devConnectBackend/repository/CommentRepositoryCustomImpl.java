@@ -0,0 +1,88 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.Comment;
+import com.backend.devConnectBackend.model.Post;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Custom implementation of CommentRepositoryCustom using MongoTemplate.
+ * Comments are read as raw documents, so their post and user references are
+ * not resolved.
+ */
+@Repository
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private static final String POST_FIELD = "post";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CommentRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long deleteBatchByPostId(String postId, int limit) {
+        Query query = new Query(Criteria.where(POST_FIELD).is(postRef(postId))).limit(limit);
+        query.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(query, Document.class, collection()).stream()
+                .map(comment -> comment.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), collection()).getDeletedCount();
+    }
+
+    @Override
+    public List<String> findPostIdsAfter(String afterPostId, int limit) {
+        List<String> postIds = new ArrayList<>();
+        DBRef last = afterPostId != null ? postRef(afterPostId) : null;
+        while (postIds.size() < limit) {
+            Query query = (last != null ? new Query(Criteria.where(POST_FIELD).gt(last)) : new Query())
+                    .with(Sort.by(Sort.Direction.ASC, POST_FIELD))
+                    .limit(1);
+            query.fields().include(POST_FIELD).exclude("_id");
+            Document next = mongoTemplate.findOne(query, Document.class, collection());
+            String postId = next != null ? postId(next.get(POST_FIELD)) : null;
+            if (postId == null) {
+                break;
+            }
+            postIds.add(postId);
+            last = postRef(postId);
+        }
+        return postIds;
+    }
+
+    private String collection() {
+        return mongoTemplate.getCollectionName(Comment.class);
+    }
+
+    /**
+     * The reference a comment stores to a post, with the ID converted the way
+     * the mapping layer converts it.
+     */
+    private DBRef postRef(String postId) {
+        return new DBRef(mongoTemplate.getCollectionName(Post.class),
+                ObjectId.isValid(postId) ? new ObjectId(postId) : postId);
+    }
+
+    private static String postId(Object ref) {
+        if (ref instanceof DBRef dbRef) {
+            return dbRef.getId().toString();
+        }
+        if (ref instanceof Document document && document.get("$id") != null) {
+            return document.get("$id").toString();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.Follow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for Follow entity.
+ * Follows are looked up from both ends: by follower for the home timeline,
+ * and by author for fan-out.
+ */
+public interface FollowRepository extends MongoRepository<Follow, String> {
+
+    /**
+     * Check whether a user follows an author.
+     *
+     * @param followerId User ID of the follower
+     * @param followeeId User ID of the author
+     * @return true if the follow exists
+     */
+    boolean existsByFollowerIdAndFolloweeId(String followerId, String followeeId);
+
+    /**
+     * Which of the given authors a user follows.
+     *
+     * @param followerId  User ID of the follower
+     * @param followeeIds User IDs of the authors
+     * @return follows of the user among those authors
+     */
+    List<Follow> findByFollowerIdAndFolloweeIdIn(String followerId, Collection<String> followeeIds);
+
+    /**
+     * Followers of an author in ID order, after the given follower. Used to
+     * walk large follower lists in batches.
+     *
+     * @param followeeId User ID of the author
+     * @param followerId only followers whose ID is greater than this
+     * @param limit      maximum number of follows
+     * @return follows of the author
+     */
+    List<Follow> findByFolloweeIdAndFollowerIdGreaterThanOrderByFollowerIdAsc(String followeeId, String followerId,
+            Limit limit);
+
+    /**
+     * Delete a follow.
+     *
+     * @param followerId User ID of the follower
+     * @param followeeId User ID of the author
+     * @return number of follows deleted
+     */
+    long deleteByFollowerIdAndFolloweeId(String followerId, String followeeId);
+}
@@ -0,0 +1,18 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.PostDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface PostDeletionRepository extends MongoRepository<PostDeletion, String> {
+
+    /**
+     * Oldest pending deletions first.
+     *
+     * @param limit maximum number of deletions
+     * @return pending deletions
+     */
+    List<PostDeletion> findByOrderByRequestedAtAsc(Limit limit);
+}
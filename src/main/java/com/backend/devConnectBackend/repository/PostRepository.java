@@ -3,6 +3,7 @@ package com.backend.devConnectBackend.repository;
 import com.backend.devConnectBackend.model.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface PostRepository extends MongoRepository<Post, String>, PostRepositoryCustom {
@@ -23,4 +24,29 @@ public interface PostRepository extends MongoRepository<Post, String>, PostRepos
      * @return Page of user's posts
      */
     Page<Post> findByUserId(String userId, Pageable pageable);
+
+    /**
+     * Public posts without a total count; fetches one extra post to tell
+     * whether there is a next slice.
+     *
+     * @param pageable Pagination parameters (page, size, sort)
+     * @return Slice of public posts
+     */
+    Slice<Post> findSliceByVisibilityTrue(Pageable pageable);
+
+    /**
+     * A user's posts without a total count.
+     *
+     * @param userId   User's email/ID
+     * @param pageable Pagination parameters
+     * @return Slice of user's posts
+     */
+    Slice<Post> findSliceByUserId(String userId, Pageable pageable);
+
+    /**
+     * Count public posts.
+     *
+     * @return number of public posts
+     */
+    long countByVisibilityTrue();
 }
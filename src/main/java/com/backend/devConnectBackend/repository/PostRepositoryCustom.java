@@ -1,8 +1,19 @@
 package com.backend.devConnectBackend.repository;
 
 import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.util.PostCursor;
+import com.mongodb.bulk.BulkWriteError;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Custom repository interface for atomic Post operations.
@@ -10,7 +21,9 @@ import org.springframework.data.domain.Pageable;
 public interface PostRepositoryCustom {
 
     /**
-     * Atomically increment or decrement the comment count for a post.
+     * Atomically increment or decrement the comment count for a post, and
+     * add the number of comments changed to its comment revision in the same
+     * update.
      *
      * @param postId Post ID
      * @param delta  Amount to increment (positive) or decrement (negative)
@@ -22,5 +35,190 @@ public interface PostRepositoryCustom {
 
     void incrementDislikeCount(String postId, int delta);
 
-    Page<Post> searchPublicPosts(String techStack, String title, Pageable pageable);
+    /**
+     * Apply accumulated counter changes to many posts in one unordered bulk
+     * write, with a single update per post for all of its counters. Posts
+     * that no longer exist are skipped.
+     *
+     * @param changes counter changes, at most one per post
+     * @return errors of the updates that failed, by index into
+     *         {@code changes}; empty if all succeeded
+     */
+    List<BulkWriteError> incrementCounters(List<CounterChanges> changes);
+
+    /**
+     * Set the editable fields of a post and increment its version, if it is
+     * still at the expected version. Only the given fields are written; the
+     * counters are left alone, so concurrent increments are never lost.
+     *
+     * @param postId          Post ID
+     * @param expectedVersion version the edit is based on; null for a post
+     *                        saved before versioning
+     * @param fields          new values; null fields are not changed
+     * @return the updated post, or empty if there is no post with that ID at
+     * that version
+     */
+    Optional<Post> updateEditableFields(String postId, Long expectedVersion, EditableFields fields);
+
+    /**
+     * Which of the given posts exist, reading only their IDs.
+     *
+     * @param postIds Post IDs
+     * @return IDs of the posts that exist
+     */
+    Set<String> findExistingIds(Collection<String> postIds);
+
+    /**
+     * Search public posts by tag and title, without counting the matches.
+     *
+     * @param tag      canonical tag the post must have, optional
+     * @param title    case-insensitive title substring, optional
+     * @param pageable pagination parameters
+     * @return slice of matching posts
+     */
+    Slice<Post> searchPublicPosts(String tag, String title, Pageable pageable);
+
+    /**
+     * Count public posts matching a search. Scans every match; callers should
+     * cache the result.
+     *
+     * @param tag   canonical tag the post must have, optional
+     * @param title case-insensitive title substring, optional
+     * @return number of matching posts
+     */
+    long countPublicPosts(String tag, String title);
+
+    /**
+     * Number of public posts per tag. Reads every public post.
+     *
+     * @return post count by canonical tag
+     */
+    Map<String, Long> countPublicPostsByTag();
+
+    /**
+     * Public posts with only their title and tags loaded, for building the
+     * autocomplete index. The stream must be closed.
+     *
+     * @return stream of partially loaded public posts
+     */
+    Stream<Post> streamPublicPostTitles();
+
+    /**
+     * Posts saved before tags existed, with only the tech stack loaded.
+     * Scans the collection; the stream must be closed.
+     *
+     * @return stream of untagged posts
+     */
+    Stream<Post> streamPostsWithoutTags();
+
+    /**
+     * Set the tags of posts that still have none, in one bulk write. A post
+     * tagged in the meantime by an update is left alone.
+     *
+     * @param tagsByPostId tags to set by post ID
+     * @return number of posts tagged
+     */
+    int setTagsIfMissing(Map<String, List<String>> tagsByPostId);
+
+    /**
+     * Public posts older than the cursor, newest first. Seeks on
+     * {@code (createdAt, _id)} instead of skipping, and runs no count query.
+     *
+     * @param after position of the last post seen; null for the first page
+     * @param limit maximum number of posts
+     * @return public posts after the cursor
+     */
+    List<Post> findPublicPostsAfter(PostCursor after, int limit);
+
+    /**
+     * Posts of a user older than the cursor, newest first.
+     *
+     * @param userId User's email/ID
+     * @param after  position of the last post seen; null for the first page
+     * @param limit  maximum number of posts
+     * @return the user's posts after the cursor
+     */
+    List<Post> findUserPostsAfter(String userId, PostCursor after, int limit);
+
+    /**
+     * Public posts of any of the given users older than the cursor, newest
+     * first.
+     *
+     * @param userIds Users' emails/IDs
+     * @param after   position of the last post seen; null for the first page
+     * @param limit   maximum number of posts
+     * @return the users' public posts after the cursor
+     */
+    List<Post> findPublicPostsOfUsersAfter(Collection<String> userIds, PostCursor after, int limit);
+
+    /**
+     * Public posts with only the fields of
+     * {@link com.backend.devConnectBackend.dto.PostSummary} loaded.
+     *
+     * @param pageable pagination parameters
+     * @return page of partially loaded public posts
+     */
+    Page<Post> findPublicPostSummaries(Pageable pageable);
+
+    /**
+     * A user's posts with only the summary fields loaded.
+     *
+     * @param userId   User's email/ID
+     * @param pageable pagination parameters
+     * @return page of the user's partially loaded posts
+     */
+    Page<Post> findUserPostSummaries(String userId, Pageable pageable);
+
+    /**
+     * Search public posts with only the summary fields loaded, without
+     * counting the matches.
+     *
+     * @see #searchPublicPosts(String, String, Pageable)
+     */
+    Slice<Post> searchPublicPostSummaries(String tag, String title, Pageable pageable);
+
+    /**
+     * Full-text search of public posts, most relevant first, without counting
+     * the matches. Relevance is the weighted text score, boosted for recent
+     * posts by up to {@code recencyWeight} times, halving every
+     * {@code recencyHalfLife}.
+     *
+     * @param terms           words to match; a post matches any of them
+     * @param recencyHalfLife age at which the recency boost has halved
+     * @param recencyWeight   boost of a brand-new post
+     * @param pageable        pagination parameters; its sort is ignored
+     * @return slice of matching posts
+     */
+    Slice<Post> searchPublicPostsByText(List<String> terms, Duration recencyHalfLife, double recencyWeight,
+            Pageable pageable);
+
+    /**
+     * Count public posts matching a full-text search.
+     *
+     * @param terms words to match
+     * @return number of matching posts
+     */
+    long countPublicPostsByText(List<String> terms);
+
+    /**
+     * Amounts to add to the counters of a post.
+     *
+     * @param commentRevision amount to add to the comment revision: the number
+     *                        of comments added or deleted
+     */
+    record CounterChanges(String postId, long comments, long likes, long dislikes, long commentRevision) {
+    }
+
+    /**
+     * Fields of a post its author can edit. Null means unchanged.
+     *
+     * @param tags canonical form of {@code techStack}
+     */
+    record EditableFields(String title, String description, List<String> techStack, List<String> tags,
+            Boolean visibility) {
+
+        public boolean isEmpty() {
+            return title == null && description == null && techStack == null && tags == null && visibility == null;
+        }
+    }
 }
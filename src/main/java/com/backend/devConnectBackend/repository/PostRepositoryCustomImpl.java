@@ -1,25 +1,61 @@
 package com.backend.devConnectBackend.repository;
 
 import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.util.PostCursor;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Custom implementation of PostRepositoryCustom using MongoTemplate for atomic
  * operations.
+ * <p>
+ * Counter changes name the collection rather than the {@link Post} type, so
+ * MongoTemplate does not bump the post's version with them: a like must not
+ * make a concurrent edit fail.
  */
 @Repository
 public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
+    // Fields of a PostSummary; the unbounded description is left out
+    private static final String[] SUMMARY_FIELDS = {
+            "title", "techStack", "userId", "commentCount", "likeCount", "dislikeCount", "createdAt" };
+
+    private static final String SCORE_FIELD = "score";
+    private static final String TAGS_FIELD = "tags";
+    private static final String VERSION_FIELD = "version";
+
     private final MongoTemplate mongoTemplate;
 
     public PostRepositoryCustomImpl(MongoTemplate mongoTemplate) {
@@ -28,48 +64,281 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
     @Override
     public void incrementCommentCount(String postId, int delta) {
-        Query query = new Query(Criteria.where("_id").is(postId));
-        Update update = new Update().inc("commentCount", delta);
-        mongoTemplate.updateFirst(query, update, Post.class);
+        Query query = new Query(Criteria.where("_id").is(rawId(postId)));
+        Update update = new Update().inc("commentCount", delta).inc("commentRevision", Math.abs(delta));
+        mongoTemplate.updateFirst(query, update, mongoTemplate.getCollectionName(Post.class));
     }
 
     @Override
     public void incrementLikeCount(String postId, int delta) {
-        Query query = new Query(Criteria.where("_id").is(postId));
-        Update update = new Update().inc("likeCount", delta);
-        mongoTemplate.updateFirst(query, update, Post.class);
+        incrementCounter(postId, "likeCount", delta);
     }
 
     @Override
     public void incrementDislikeCount(String postId, int delta) {
-        Query query = new Query(Criteria.where("_id").is(postId));
-        Update update = new Update().inc("dislikeCount", delta);
-        mongoTemplate.updateFirst(query, update, Post.class);
+        incrementCounter(postId, "dislikeCount", delta);
+    }
+
+    private void incrementCounter(String postId, String counter, int delta) {
+        Query query = new Query(Criteria.where("_id").is(rawId(postId)));
+        Update update = new Update().inc(counter, delta);
+        mongoTemplate.updateFirst(query, update, mongoTemplate.getCollectionName(Post.class));
+    }
+
+    @Override
+    public List<BulkWriteError> incrementCounters(List<CounterChanges> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                mongoTemplate.getCollectionName(Post.class));
+        for (CounterChanges change : changes) {
+            Update update = new Update();
+            if (change.comments() != 0) {
+                update.inc("commentCount", change.comments());
+            }
+            if (change.likes() != 0) {
+                update.inc("likeCount", change.likes());
+            }
+            if (change.dislikes() != 0) {
+                update.inc("dislikeCount", change.dislikes());
+            }
+            if (change.commentRevision() != 0) {
+                update.inc("commentRevision", change.commentRevision());
+            }
+            bulk.updateOne(new Query(Criteria.where("_id").is(rawId(change.postId()))), update);
+        }
+        try {
+            bulk.execute();
+            return List.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors();
+        }
+    }
+
+    /**
+     * A post ID as stored. Without the entity type the ID is not converted,
+     * so convert it the same way.
+     */
+    private static Object rawId(String postId) {
+        return ObjectId.isValid(postId) ? new ObjectId(postId) : postId;
+    }
+
+    @Override
+    public Optional<Post> updateEditableFields(String postId, Long expectedVersion, EditableFields fields) {
+        // A null version also matches posts saved before the field existed
+        Query query = new Query(Criteria.where("_id").is(postId).and(VERSION_FIELD).is(expectedVersion));
+        Update update = new Update()
+                .set("updatedAt", LocalDateTime.now())
+                .inc(VERSION_FIELD, 1);
+        if (fields.title() != null) {
+            update.set("title", fields.title());
+        }
+        if (fields.description() != null) {
+            update.set("description", fields.description());
+        }
+        if (fields.techStack() != null) {
+            update.set("techStack", fields.techStack());
+        }
+        if (fields.tags() != null) {
+            update.set(TAGS_FIELD, fields.tags());
+        }
+        if (fields.visibility() != null) {
+            update.set("visibility", fields.visibility());
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Post.class));
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> postIds) {
+        Query query = new Query(Criteria.where("_id").in(postIds));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Post.class).stream()
+                .map(Post::getId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Slice<Post> searchPublicPosts(String tag, String title, Pageable pageable) {
+        return search(new Query(searchCriteria(tag, title)), pageable);
+    }
+
+    @Override
+    public Slice<Post> searchPublicPostSummaries(String tag, String title, Pageable pageable) {
+        Query query = new Query(searchCriteria(tag, title));
+        query.fields().include(SUMMARY_FIELDS);
+        return search(query, pageable);
+    }
+
+    @Override
+    public Page<Post> findPublicPostSummaries(Pageable pageable) {
+        return findSummaries(Criteria.where("visibility").is(true), pageable);
+    }
+
+    @Override
+    public Page<Post> findUserPostSummaries(String userId, Pageable pageable) {
+        return findSummaries(Criteria.where("userId").is(userId), pageable);
+    }
+
+    private Page<Post> findSummaries(Criteria criteria, Pageable pageable) {
+        Query query = new Query(criteria).with(pageable);
+        query.fields().include(SUMMARY_FIELDS);
+        List<Post> posts = mongoTemplate.find(query, Post.class);
+        return PageableExecutionUtils.getPage(posts, pageable,
+                () -> mongoTemplate.count(new Query(criteria), Post.class));
+    }
+
+    private Slice<Post> search(Query query, Pageable pageable) {
+        query.with(pageable);
+        // One extra post tells whether there is a next slice without counting
+        if (pageable.isPaged()) {
+            query.limit(pageable.getPageSize() + 1);
+        }
+
+        List<Post> posts = mongoTemplate.find(query, Post.class);
+
+        boolean hasNext = pageable.isPaged() && posts.size() > pageable.getPageSize();
+        if (hasNext) {
+            posts = posts.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(posts, pageable, hasNext);
     }
 
     @Override
-    public Page<Post> searchPublicPosts(String techStack, String title, Pageable pageable) {
+    public long countPublicPosts(String tag, String title) {
+        return mongoTemplate.count(new Query(searchCriteria(tag, title)), Post.class);
+    }
+
+    @Override
+    public Map<String, Long> countPublicPostsByTag() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("visibility").is(true)),
+                Aggregation.project(TAGS_FIELD),
+                Aggregation.unwind(TAGS_FIELD),
+                Aggregation.group(TAGS_FIELD).count().as("count"));
+        Map<String, Long> counts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, Post.class, Document.class)) {
+            counts.put(group.getString("_id"), ((Number) group.get("count")).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public Stream<Post> streamPublicPostTitles() {
+        Query query = new Query(Criteria.where("visibility").is(true));
+        query.fields().include("title", TAGS_FIELD);
+        return mongoTemplate.stream(query, Post.class);
+    }
+
+    @Override
+    public Stream<Post> streamPostsWithoutTags() {
+        Query query = new Query(Criteria.where(TAGS_FIELD).exists(false));
+        query.fields().include("techStack");
+        return mongoTemplate.stream(query, Post.class);
+    }
+
+    @Override
+    public int setTagsIfMissing(Map<String, List<String>> tagsByPostId) {
+        if (tagsByPostId.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+        tagsByPostId.forEach((postId, tags) -> bulk.updateOne(
+                new Query(Criteria.where("_id").is(postId).and(TAGS_FIELD).exists(false)),
+                new Update().set(TAGS_FIELD, tags)));
+        return bulk.execute().getModifiedCount();
+    }
+
+    private static Criteria searchCriteria(String tag, String title) {
         List<Criteria> criteriaList = new ArrayList<>();
         
         criteriaList.add(Criteria.where("visibility").is(true));
         
-        if (techStack != null && !techStack.trim().isEmpty()) {
-            criteriaList.add(Criteria.where("techStack").regex(techStack, "i"));
+        // Equality on the multikey tags index rather than a scan of techStack
+        if (tag != null && !tag.isEmpty()) {
+            criteriaList.add(Criteria.where(TAGS_FIELD).is(tag));
         }
         
+        // Quoted, so input is matched literally and cannot run a costly pattern
         if (title != null && !title.trim().isEmpty()) {
-            criteriaList.add(Criteria.where("title").regex(title, "i"));
+            criteriaList.add(Criteria.where("title").regex(Pattern.quote(title), "i"));
         }
         
-        Criteria finalCriteria = new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
-        Query query = new Query(finalCriteria);
-        
-        long total = mongoTemplate.count(query, Post.class);
-        
-        query.with(pageable);
-        
-        List<Post> posts = mongoTemplate.find(query, Post.class);
-        
-        return new PageImpl<>(posts, pageable, total);
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
+    }
+
+    @Override
+    public Slice<Post> searchPublicPostsByText(List<String> terms, Duration recencyHalfLife, double recencyWeight,
+            Pageable pageable) {
+        // score = textScore * (1 + recencyWeight * 0.5 ^ (age / recencyHalfLife))
+        Document age = new Document("$max", List.of(0,
+                new Document("$subtract", List.of(new Date(), "$createdAt"))));
+        Document recency = new Document("$pow", List.of(0.5,
+                new Document("$divide", List.of(age, (double) recencyHalfLife.toMillis()))));
+        Document score = new Document("$multiply", List.of(
+                new Document("$meta", "textScore"),
+                new Document("$add", List.of(1, new Document("$multiply", List.of(recencyWeight, recency))))));
+
+        List<AggregationOperation> stages = new ArrayList<>(List.of(
+                Aggregation.stage(new Document("$match", textFilter(terms))),
+                Aggregation.stage(new Document("$addFields", new Document(SCORE_FIELD, score))),
+                Aggregation.stage(new Document("$sort", new Document(SCORE_FIELD, -1).append("_id", -1)))));
+        if (pageable.isPaged()) {
+            stages.add(Aggregation.skip(pageable.getOffset()));
+            // One extra post tells whether there is a next slice without counting
+            stages.add(Aggregation.limit(pageable.getPageSize() + 1L));
+        }
+        List<Post> posts = new ArrayList<>(mongoTemplate.aggregate(Aggregation.newAggregation(stages), Post.class,
+                Post.class).getMappedResults());
+
+        boolean hasNext = pageable.isPaged() && posts.size() > pageable.getPageSize();
+        if (hasNext) {
+            posts = posts.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(posts, pageable, hasNext);
+    }
+
+    @Override
+    public long countPublicPostsByText(List<String> terms) {
+        return mongoTemplate.count(new BasicQuery(textFilter(terms)), Post.class);
+    }
+
+    /**
+     * Text match on public posts. The terms are plain words, so joining them
+     * matches any of them; {@code visibility} must be part of the filter for
+     * the partial text index to apply.
+     */
+    private static Document textFilter(List<String> terms) {
+        return new Document("$text", new Document("$search", String.join(" ", terms)))
+                .append("visibility", true);
+    }
+
+    @Override
+    public List<Post> findPublicPostsAfter(PostCursor after, int limit) {
+        return findAfter(Criteria.where("visibility").is(true), after, limit);
+    }
+
+    @Override
+    public List<Post> findUserPostsAfter(String userId, PostCursor after, int limit) {
+        return findAfter(Criteria.where("userId").is(userId), after, limit);
+    }
+
+    @Override
+    public List<Post> findPublicPostsOfUsersAfter(Collection<String> userIds, PostCursor after, int limit) {
+        return findAfter(Criteria.where("userId").in(userIds).and("visibility").is(true), after, limit);
+    }
+
+    private List<Post> findAfter(Criteria filter, PostCursor after, int limit) {
+        Criteria criteria = filter;
+        if (after != null) {
+            criteria = new Criteria().andOperator(filter, new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(after.id())));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, Post.class);
     }
 }
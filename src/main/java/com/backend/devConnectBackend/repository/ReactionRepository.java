@@ -4,15 +4,18 @@ import com.backend.devConnectBackend.constants.ReactionType;
 import com.backend.devConnectBackend.model.Reaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for Reaction entity.
  * Handles database operations for post reactions (likes/dislikes).
  */
-public interface ReactionRepository extends MongoRepository<Reaction, String> {
+public interface ReactionRepository extends MongoRepository<Reaction, String>, ReactionRepositoryCustom {
 
     /**
      * Find a reaction by post ID and user ID.
@@ -24,6 +27,16 @@ public interface ReactionRepository extends MongoRepository<Reaction, String> {
      */
     Optional<Reaction> findByPostIdAndUserId(String postId, String userId);
 
+    /**
+     * Find a user's reactions to any of the given posts.
+     * Served by the (postId, userId) index.
+     *
+     * @param userId  User ID
+     * @param postIds Post IDs
+     * @return reactions of the user to those posts
+     */
+    List<Reaction> findByUserIdAndPostIdIn(String userId, Collection<String> postIds);
+
     /**
      * Find all reactions for a post with pagination.
      *
@@ -43,6 +56,25 @@ public interface ReactionRepository extends MongoRepository<Reaction, String> {
      */
     Page<Reaction> findByPostIdAndType(String postId, ReactionType type, Pageable pageable);
 
+    /**
+     * Find reactions for a post without a total count.
+     *
+     * @param postId   Post ID
+     * @param pageable Pagination parameters
+     * @return Slice of reactions
+     */
+    Slice<Reaction> findSliceByPostId(String postId, Pageable pageable);
+
+    /**
+     * Find reactions for a post filtered by type without a total count.
+     *
+     * @param postId   Post ID
+     * @param type     Reaction type (LIKE or DISLIKE)
+     * @param pageable Pagination parameters
+     * @return Slice of reactions
+     */
+    Slice<Reaction> findSliceByPostIdAndType(String postId, ReactionType type, Pageable pageable);
+
     /**
      * Delete a reaction by post ID and user ID.
      *
@@ -0,0 +1,28 @@
+package com.backend.devConnectBackend.repository;
+
+import java.util.List;
+
+/**
+ * Custom repository interface for purging the reactions of deleted posts.
+ */
+public interface ReactionRepositoryCustom {
+
+    /**
+     * Delete up to {@code limit} reactions to a post.
+     *
+     * @param postId Post ID
+     * @param limit  maximum number of reactions to delete
+     * @return number of reactions deleted
+     */
+    long deleteBatchByPostId(String postId, int limit);
+
+    /**
+     * Distinct IDs of posts with reactions, in ID order, after the given one.
+     * Each ID costs one seek on the (postId, userId) index.
+     *
+     * @param afterPostId last ID seen; null to start from the first
+     * @param limit       maximum number of IDs
+     * @return IDs of posts that have reactions
+     */
+    List<String> findPostIdsAfter(String afterPostId, int limit);
+}
@@ -0,0 +1,58 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.Reaction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Custom implementation of ReactionRepositoryCustom using MongoTemplate.
+ */
+@Repository
+public class ReactionRepositoryCustomImpl implements ReactionRepositoryCustom {
+
+    private static final String POST_ID_FIELD = "postId";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReactionRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long deleteBatchByPostId(String postId, int limit) {
+        Query query = new Query(Criteria.where(POST_ID_FIELD).is(postId)).limit(limit);
+        query.fields().include("_id");
+        List<String> ids = mongoTemplate.find(query, Reaction.class).stream()
+                .map(Reaction::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), Reaction.class).getDeletedCount();
+    }
+
+    @Override
+    public List<String> findPostIdsAfter(String afterPostId, int limit) {
+        List<String> postIds = new ArrayList<>();
+        String last = afterPostId;
+        while (postIds.size() < limit) {
+            Query query = (last != null ? new Query(Criteria.where(POST_ID_FIELD).gt(last)) : new Query())
+                    .with(Sort.by(Sort.Direction.ASC, POST_ID_FIELD))
+                    .limit(1);
+            query.fields().include(POST_ID_FIELD).exclude("_id");
+            Reaction next = mongoTemplate.findOne(query, Reaction.class);
+            if (next == null || next.getPostId() == null) {
+                break;
+            }
+            postIds.add(next.getPostId());
+            last = next.getPostId();
+        }
+        return postIds;
+    }
+}
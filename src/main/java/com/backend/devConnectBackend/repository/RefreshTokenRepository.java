@@ -0,0 +1,24 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.RefreshToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Repository for hashed refresh tokens.
+ */
+public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String>, RefreshTokenRepositoryCustom {
+
+    /**
+     * Delete every token descended from the same login.
+     *
+     * @param familyId token family ID
+     */
+    void deleteByFamilyId(String familyId);
+
+    /**
+     * Delete every refresh token of a user.
+     *
+     * @param userId User ID
+     */
+    void deleteByUserId(String userId);
+}
@@ -0,0 +1,20 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.RefreshToken;
+
+import java.util.Optional;
+
+/**
+ * Custom repository interface for atomic RefreshToken operations.
+ */
+public interface RefreshTokenRepositoryCustom {
+
+    /**
+     * Atomically mark an unused token as used, so each token can be exchanged
+     * exactly once.
+     *
+     * @param id token digest
+     * @return the token, or empty if it does not exist or was already used
+     */
+    Optional<RefreshToken> markUsed(String id);
+}
@@ -0,0 +1,31 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.RefreshToken;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Custom implementation of RefreshTokenRepositoryCustom using MongoTemplate
+ * for atomic operations.
+ */
+@Repository
+public class RefreshTokenRepositoryCustomImpl implements RefreshTokenRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public RefreshTokenRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<RefreshToken> markUsed(String id) {
+        Query query = new Query(Criteria.where("_id").is(id).and("used").is(false));
+        Update update = new Update().set("used", true);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RefreshToken.class));
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.RevokedToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for access tokens revoked before their expiry.
+ */
+public interface RevokedTokenRepository extends MongoRepository<RevokedToken, String> {
+
+    /**
+     * Tokens revoked since the given time.
+     *
+     * @param instant revocation time lower bound
+     * @return revoked tokens
+     */
+    List<RevokedToken> findByRevokedAtAfter(Instant instant);
+}
@@ -0,0 +1,28 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.SigningKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for the shared JWT signing keys.
+ */
+public interface SigningKeyRepository extends MongoRepository<SigningKey, String> {
+
+    /**
+     * Keys that may still have signed a live token.
+     *
+     * @param instant oldest activation time to keep
+     * @return keys activated after the given time
+     */
+    List<SigningKey> findByActivatedAtAfter(Instant instant);
+
+    /**
+     * Remove keys that can no longer have signed a live token.
+     *
+     * @param instant activation time before which keys are removed
+     */
+    void deleteByActivatedAtBefore(Instant instant);
+}
@@ -0,0 +1,30 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.TimelineBucket;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TimelineRepository extends MongoRepository<TimelineBucket, String>, TimelineRepositoryCustom {
+
+    /**
+     * Latest timeline buckets of a user, newest first.
+     *
+     * @param userId User ID of the timeline owner
+     * @param limit  maximum number of buckets
+     * @return the user's buckets
+     */
+    List<TimelineBucket> findByUserIdOrderByDayDesc(String userId, Limit limit);
+
+    /**
+     * Timeline buckets of a user up to a day, newest first.
+     *
+     * @param userId User ID of the timeline owner
+     * @param day    latest day to include
+     * @param limit  maximum number of buckets
+     * @return the user's buckets
+     */
+    List<TimelineBucket> findByUserIdAndDayLessThanEqualOrderByDayDesc(String userId, LocalDate day, Limit limit);
+}
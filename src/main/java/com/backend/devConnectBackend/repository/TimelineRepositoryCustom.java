@@ -0,0 +1,35 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.TimelineBucket;
+
+import java.util.Collection;
+
+/**
+ * Custom repository interface for timeline bucket updates.
+ */
+public interface TimelineRepositoryCustom {
+
+    /**
+     * Add a post to the timeline of every given user in one unordered bulk
+     * write, creating the bucket of the post's day where it does not exist.
+     *
+     * @param userIds User IDs of the timeline owners
+     * @param entry   the post
+     */
+    void push(Collection<String> userIds, TimelineBucket.Entry entry);
+
+    /**
+     * Remove a post from every timeline.
+     *
+     * @param postId Post ID
+     */
+    void pullPost(String postId);
+
+    /**
+     * Remove every post of an author from a user's timeline.
+     *
+     * @param userId   User ID of the timeline owner
+     * @param authorId User ID of the author
+     */
+    void pullAuthor(String userId, String authorId);
+}
@@ -0,0 +1,61 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.TimelineBucket;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Custom implementation of TimelineRepositoryCustom using MongoTemplate for
+ * atomic bucket updates.
+ */
+@Repository
+public class TimelineRepositoryCustomImpl implements TimelineRepositoryCustom {
+
+    private static final String ENTRIES_FIELD = "entries";
+
+    private final MongoTemplate mongoTemplate;
+
+    public TimelineRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void push(Collection<String> userIds, TimelineBucket.Entry entry) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        // Fan-out runs asynchronously, so posts may arrive out of order
+        Update update = new Update();
+        update.push(ENTRIES_FIELD)
+                .sort(Sort.by(Sort.Direction.DESC, "createdAt", "postId"))
+                .each(entry);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TimelineBucket.class);
+        for (String userId : userIds) {
+            bulk.upsert(new Query(Criteria.where("userId").is(userId)
+                    .and("day").is(entry.createdAt().toLocalDate())), update);
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void pullPost(String postId) {
+        Query query = new Query(Criteria.where(ENTRIES_FIELD + ".postId").is(postId));
+        Update update = new Update().pull(ENTRIES_FIELD, Query.query(Criteria.where("postId").is(postId)));
+        mongoTemplate.updateMulti(query, update, TimelineBucket.class);
+    }
+
+    @Override
+    public void pullAuthor(String userId, String authorId) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        Update update = new Update().pull(ENTRIES_FIELD, Query.query(Criteria.where("authorId").is(authorId)));
+        mongoTemplate.updateMulti(query, update, TimelineBucket.class);
+    }
+}
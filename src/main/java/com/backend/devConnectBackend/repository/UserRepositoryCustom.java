@@ -0,0 +1,66 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.User;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository interface for atomic User operations.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Atomically increment the token epoch of a user, invalidating every token
+     * issued with an older epoch.
+     *
+     * @param userId User ID
+     * @return the new epoch, or 0 if the user does not exist
+     */
+    long incrementTokenEpoch(String userId);
+
+    /**
+     * Load the token epoch of every user that has revoked tokens at least once.
+     *
+     * @return epochs keyed by user ID
+     */
+    Map<String, Long> findRevokedTokenEpochs();
+
+    /**
+     * Stream the email of every user, in insertion order.
+     * The stream holds an open cursor and must be closed.
+     *
+     * @param after only users whose ID is greater than this; null for all users
+     * @return users with only ID and email populated
+     */
+    Stream<User> streamEmails(ObjectId after);
+
+    /**
+     * Insert users in one unordered bulk write. A failing document, such as a
+     * duplicate email, does not stop the others from being inserted.
+     *
+     * @param users users to insert
+     * @return one error per user that was not inserted, indexed by its position
+     *         in {@code users}
+     */
+    List<BulkWriteError> insertUnordered(List<User> users);
+
+    /**
+     * Atomically increment or decrement the follower count of a user.
+     *
+     * @param userId User ID
+     * @param delta  Amount to increment (positive) or decrement (negative)
+     */
+    void incrementFollowerCount(String userId, int delta);
+
+    /**
+     * Users that have at least the given number of followers.
+     *
+     * @param minFollowers minimum follower count
+     * @return users with only ID and email populated
+     */
+    List<User> findWithFollowersAtLeast(long minFollowers);
+}
@@ -0,0 +1,92 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.model.User;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Custom implementation of UserRepositoryCustom using MongoTemplate for atomic
+ * operations.
+ */
+@Repository
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String TOKEN_EPOCH_FIELD = "tokenEpoch";
+    private static final String EMAIL_FIELD = "email";
+    private static final String FOLLOWER_COUNT_FIELD = "followerCount";
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long incrementTokenEpoch(String userId) {
+        Query query = new Query(Criteria.where("_id").is(userId));
+        query.fields().include(TOKEN_EPOCH_FIELD);
+        Update update = new Update().inc(TOKEN_EPOCH_FIELD, 1);
+        User updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), User.class);
+        return updated != null ? updated.getTokenEpoch() : 0;
+    }
+
+    @Override
+    public Map<String, Long> findRevokedTokenEpochs() {
+        Query query = new Query(Criteria.where(TOKEN_EPOCH_FIELD).gt(0));
+        query.fields().include(TOKEN_EPOCH_FIELD);
+        return mongoTemplate.find(query, User.class).stream()
+                .collect(Collectors.toMap(User::getId, User::getTokenEpoch));
+    }
+
+    @Override
+    public Stream<User> streamEmails(ObjectId after) {
+        Query query = after != null ? new Query(Criteria.where("_id").gt(after)) : new Query();
+        query.fields().include(EMAIL_FIELD);
+        query.with(Sort.by(Sort.Direction.ASC, "_id"));
+        return mongoTemplate.stream(query, User.class);
+    }
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class)
+                    .insert(users)
+                    .execute();
+            return List.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors();
+        }
+    }
+
+    @Override
+    public void incrementFollowerCount(String userId, int delta) {
+        Query query = new Query(Criteria.where("_id").is(userId));
+        Update update = new Update().inc(FOLLOWER_COUNT_FIELD, delta);
+        mongoTemplate.updateFirst(query, update, User.class);
+    }
+
+    @Override
+    public List<User> findWithFollowersAtLeast(long minFollowers) {
+        Query query = new Query(Criteria.where(FOLLOWER_COUNT_FIELD).gte(minFollowers));
+        query.fields().include(EMAIL_FIELD);
+        return mongoTemplate.find(query, User.class);
+    }
+}
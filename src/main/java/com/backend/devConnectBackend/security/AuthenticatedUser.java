@@ -0,0 +1,17 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.Role;
+
+/**
+ * Identity of the caller as established by authentication.
+ * Implemented by the persisted {@link com.backend.devConnectBackend.model.User}
+ * and by {@link TokenPrincipal}, which is built from token claims alone.
+ */
+public interface AuthenticatedUser {
+
+    String getId();
+
+    String getEmail();
+
+    Role getRole();
+}
@@ -0,0 +1,69 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.Role;
+import com.backend.devConnectBackend.model.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The authenticated caller of the current request.
+ * <p>
+ * Id, email and role come from the principal that authentication already
+ * established. The full {@link User} is only loaded when {@link #user()} is
+ * called and the principal is not already a {@code User}, e.g. in stateless
+ * mode; it is then loaded at most once per request.
+ */
+public final class CurrentUser implements AuthenticatedUser {
+
+    private final Object principal;
+    private final String email;
+    private final Function<String, Optional<User>> userLoader;
+    private User user;
+
+    CurrentUser(Object principal, String email, Function<String, Optional<User>> userLoader) {
+        this.principal = principal;
+        this.email = email;
+        this.userLoader = userLoader;
+        if (principal instanceof User authenticated) {
+            this.user = authenticated;
+        }
+    }
+
+    @Override
+    public String getId() {
+        return identity().getId();
+    }
+
+    @Override
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public Role getRole() {
+        return identity().getRole();
+    }
+
+    /**
+     * The persisted user, loaded on first use if authentication did not
+     * already provide it.
+     *
+     * @throws UsernameNotFoundException if the user no longer exists
+     */
+    public User user() {
+        if (user == null) {
+            user = userLoader.apply(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        }
+        return user;
+    }
+
+    private AuthenticatedUser identity() {
+        if (principal instanceof AuthenticatedUser authenticated) {
+            return authenticated;
+        }
+        return user();
+    }
+}
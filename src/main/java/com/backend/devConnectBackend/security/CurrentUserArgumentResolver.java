@@ -0,0 +1,54 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.User;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Resolves {@link CurrentUser} controller arguments from the security context.
+ * One instance is created per request and shared by every handler argument,
+ * so a lazily loaded user is fetched at most once.
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUser.class.getName();
+
+    private final Function<String, Optional<User>> userLoader;
+
+    public CurrentUserArgumentResolver(Function<String, Optional<User>> userLoader) {
+        this.userLoader = userLoader;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CurrentUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public CurrentUser resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object resolved = webRequest.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved instanceof CurrentUser currentUser) {
+            return currentUser;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        CurrentUser currentUser = new CurrentUser(authentication.getPrincipal(), authentication.getName(), userLoader);
+        webRequest.setAttribute(REQUEST_ATTRIBUTE, currentUser, RequestAttributes.SCOPE_REQUEST);
+        return currentUser;
+    }
+}
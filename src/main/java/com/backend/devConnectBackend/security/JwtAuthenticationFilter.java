@@ -1,5 +1,7 @@
 package com.backend.devConnectBackend.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,22 +10,22 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalResolver principalResolver;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, JwtPrincipalResolver principalResolver) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.principalResolver = principalResolver;
     }
 
     @Override
@@ -41,12 +43,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // Verified once per request; the same claims are reused for validation below
+        final Claims claims;
+        try {
+            claims = jwtService.extractAllClaims(jwt);
+        } catch (JwtException e) {
+            // Access tokens are short-lived; an expired one leaves the request
+            // unauthenticated so public endpoints such as /auth/refresh still work
+            filterChain.doFilter(request, response);
+            return;
+        }
+        userEmail = claims.getSubject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            Optional<UserDetails> principal = principalResolver.resolve(claims);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (principal.isPresent()) {
+                UserDetails userDetails = principal.get();
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -0,0 +1,66 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.config.AuthenticationProperties;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Turns verified token claims into the principal of the request.
+ * <p>
+ * In stateless mode the principal is built from the user id and role claims
+ * and no database read happens. Tokens issued without those claims, and the
+ * default mode, load the user through the {@link UserDetailsService}.
+ */
+@Component
+public class JwtPrincipalResolver {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final RevokedTokenFilter revokedTokens;
+    private final AuthenticationProperties properties;
+
+    public JwtPrincipalResolver(JwtService jwtService, UserDetailsService userDetailsService,
+            TokenEpochRegistry tokenEpochRegistry, RevokedTokenFilter revokedTokens,
+            AuthenticationProperties properties) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.revokedTokens = revokedTokens;
+        this.properties = properties;
+    }
+
+    /**
+     * Resolve the principal for a token.
+     *
+     * @param claims verified token claims
+     * @return the principal, or empty if the token is expired, issued for another
+     *         user or revoked
+     */
+    public Optional<UserDetails> resolve(Claims claims) {
+        if (revokedTokens.isRevoked(claims.getId(), claims.getExpiration().toInstant())) {
+            return Optional.empty();
+        }
+        UserDetails userDetails = loadPrincipal(claims);
+
+        if (!jwtService.isTokenValid(claims, userDetails)
+                || !tokenEpochRegistry.isCurrent(userDetails, jwtService.extractTokenEpoch(claims))) {
+            return Optional.empty();
+        }
+        return Optional.of(userDetails);
+    }
+
+    private UserDetails loadPrincipal(Claims claims) {
+        if (properties.stateless()) {
+            Optional<TokenPrincipal> principal = TokenPrincipal.fromClaims(claims);
+            if (principal.isPresent()) {
+                return principal.get();
+            }
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+}
@@ -1,56 +1,158 @@
 package com.backend.devConnectBackend.security;
 
+import com.backend.devConnectBackend.config.JwtProperties;
+import com.backend.devConnectBackend.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    // 🔐 Random strong key for HS256 (generated at startup)
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String TOKEN_EPOCH_CLAIM = "epoch";
 
-    public String generateToken(String email, String role) {
+    private static final String TOKEN_DIGEST_ALGORITHM = "SHA-256";
+
+    // 🔐 HS256 keys shared by all instances, looked up by the token's kid header
+    private final SigningKeyRing keyRing;
+    private final JwtParser parser;
+
+    private final JwtProperties properties;
+
+    /**
+     * Claims whose signature has already been verified, keyed by the token's
+     * digest so raw tokens are never held in memory. Each entry expires together
+     * with its token.
+     */
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtService(JwtProperties properties, SigningKeyRing keyRing) {
+        this.properties = properties;
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // jjwt 0.11 declares the header raw; the override has to match
+                    @SuppressWarnings("rawtypes")
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.resolve(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(properties.claimsCacheMaximumSize())
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> timeUntilExpiration(claims)))
+                .build();
+    }
+
+    public String generateToken(User user) {
+        SigningKeyRing.ActiveKey signingKey = keyRing.current();
         return Jwts.builder()
-                .setSubject(email)
-                .claim("role", role)
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(TOKEN_EPOCH_CLAIM, user.getTokenEpoch())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 86400000)) // 1 day
-                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + properties.expiration().toMillis()))
+                .signWith(signingKey.key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, io.jsonwebtoken.Claims::getSubject);
+        return extractClaim(token, Claims::getSubject);
     }
 
-    public <T> T extractClaim(String token, java.util.function.Function<io.jsonwebtoken.Claims, T> claimsResolver) {
-        final io.jsonwebtoken.Claims claims = extractAllClaims(token);
+    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private io.jsonwebtoken.Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verify the token signature and return its claims.
+     * A token is parsed and verified once; later calls with the same token are
+     * served from the verified-claims cache until the token expires.
+     *
+     * @param token compact JWS
+     * @return verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered
+     *                                      with, expired or signed with an
+     *                                      unknown key
+     */
+    public Claims extractAllClaims(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(digest, claims);
+        return claims;
+    }
+
+    /**
+     * Token epoch the token was issued with; tokens issued before epochs were
+     * introduced count as epoch 0.
+     */
+    public long extractTokenEpoch(Claims claims) {
+        Long epoch = claims.get(TOKEN_EPOCH_CLAIM, Long.class);
+        return epoch != null ? epoch : 0;
+    }
+
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(extractAllClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    public boolean isTokenValid(String token, org.springframework.security.core.userdetails.UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static Duration timeUntilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(remainingMillis, 0));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, io.jsonwebtoken.Claims::getExpiration);
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(TOKEN_DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(TOKEN_DIGEST_ALGORITHM + " is not available", e);
+        }
     }
 }
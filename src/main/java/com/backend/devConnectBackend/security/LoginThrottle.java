@@ -0,0 +1,124 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.config.LoginThrottleProperties;
+import com.backend.devConnectBackend.exception.LoginThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits login attempts per email and per client IP before any password
+ * is checked.
+ * <p>
+ * Each key holds a single theoretical arrival time (generic cell rate
+ * algorithm, equivalent to a token bucket) updated with compare-and-set, so
+ * concurrent attempts never block each other. Keys live in a size-bounded
+ * cache and are dropped once idle for a full period, when their bucket would
+ * be full again anyway.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private static final String THROTTLED_METRIC = "auth.login.throttled";
+
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public LoginThrottle(LoginThrottleProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    LoginThrottle(LoginThrottleProperties properties, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.emailLimit = new Limit(properties.emailBurst(), properties.period(), properties.maximumKeys());
+        this.ipLimit = new Limit(properties.ipBurst(), properties.period(), properties.maximumKeys());
+    }
+
+    /**
+     * Record a login attempt.
+     *
+     * @param email    email the caller tries to log in as
+     * @param clientIp address of the caller
+     * @throws LoginThrottledException if either the email or the IP is over its
+     *                                 limit
+     */
+    public void acquire(String email, String clientIp) {
+        long now = nanoTime.getAsLong();
+
+        long ipWait = ipLimit.tryAcquire(clientIp, now);
+        if (ipWait > 0) {
+            throw throttled(ipWait);
+        }
+        long emailWait = emailLimit.tryAcquire(email.toLowerCase(Locale.ROOT), now);
+        if (emailWait > 0) {
+            throw throttled(emailWait);
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(THROTTLED_METRIC, emailLimit.throttled, LongAdder::sum)
+                .description("Login attempts rejected by the login throttle")
+                .tag("key", "email")
+                .register(registry);
+        FunctionCounter.builder(THROTTLED_METRIC, ipLimit.throttled, LongAdder::sum)
+                .description("Login attempts rejected by the login throttle")
+                .tag("key", "ip")
+                .register(registry);
+    }
+
+    private static LoginThrottledException throttled(long waitNanos) {
+        return new LoginThrottledException("Too many login attempts, please retry later",
+                Duration.ofNanos(waitNanos));
+    }
+
+    private static final class Limit {
+
+        private final long emissionInterval;
+        private final long burstTolerance;
+        private final Cache<String, AtomicLong> arrivals;
+        private final LongAdder throttled = new LongAdder();
+
+        Limit(int burst, Duration period, int maximumKeys) {
+            this.emissionInterval = period.toNanos() / burst;
+            this.burstTolerance = period.toNanos() - emissionInterval;
+            this.arrivals = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(period)
+                    .build();
+        }
+
+        /**
+         * @return 0 if the attempt is allowed, otherwise nanoseconds until the
+         *         next attempt would be
+         */
+        long tryAcquire(String key, long now) {
+            AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = arrival.get();
+                long theoretical = Math.max(current, now);
+                long wait = theoretical - burstTolerance - now;
+                if (wait > 0) {
+                    throttled.increment();
+                    return wait;
+                }
+                if (arrival.compareAndSet(current, theoretical + emissionInterval)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.RevokedToken;
+import com.backend.devConnectBackend.repository.RevokedTokenRepository;
+import com.backend.devConnectBackend.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory set of access tokens revoked before their expiry.
+ * <p>
+ * Token IDs go into Bloom filters bucketed by the minute the token expires, so
+ * a lookup touches one small filter and a whole bucket is dropped once its
+ * tokens have expired anyway. A negative answer needs no database read; a
+ * positive one is confirmed against MongoDB once and then cached, so false
+ * positives cost a single query. Revocations made on other instances are
+ * picked up by polling.
+ * <p>
+ * Until the first poll has completed, tokens revoked on other instances are
+ * still accepted.
+ */
+@Component
+public class RevokedTokenFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenFilter.class);
+
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final int EXPECTED_REVOCATIONS_PER_BUCKET = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+    // Revocations saved by other instances may carry a slightly older timestamp
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository repository;
+    private final Clock clock;
+    private final ConcurrentNavigableMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+    private final Cache<String, Boolean> confirmed = Caffeine.newBuilder()
+            .maximumSize(EXPECTED_REVOCATIONS_PER_BUCKET)
+            .expireAfterWrite(Duration.ofMinutes(15))
+            .build();
+    private volatile Instant watermark = Instant.EPOCH;
+
+    @Autowired
+    public RevokedTokenFilter(RevokedTokenRepository repository) {
+        this(repository, Clock.systemUTC());
+    }
+
+    RevokedTokenFilter(RevokedTokenRepository repository, Clock clock) {
+        this.repository = repository;
+        this.clock = clock;
+    }
+
+    /**
+     * Revoke an access token until it expires.
+     *
+     * @param tokenId   token ID (jti claim)
+     * @param expiresAt token expiry
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        Instant now = clock.instant();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        repository.save(new RevokedToken(tokenId, expiresAt, now));
+        add(tokenId, expiresAt);
+        confirmed.put(tokenId, true);
+    }
+
+    /**
+     * Check whether a token was revoked. If MongoDB cannot confirm a possible
+     * revocation, the token is treated as revoked.
+     *
+     * @param tokenId   token ID (jti claim), may be null for tokens issued
+     *                  without one
+     * @param expiresAt token expiry
+     */
+    public boolean isRevoked(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !mightBeRevoked(tokenId, expiresAt)) {
+            return false;
+        }
+        try {
+            return confirmed.get(tokenId, repository::existsById);
+        } catch (DataAccessException e) {
+            log.warn("Could not confirm revocation of token {}, rejecting it", tokenId, e);
+            return true;
+        }
+    }
+
+    boolean mightBeRevoked(String tokenId, Instant expiresAt) {
+        BloomFilter bucket = buckets.get(bucketOf(expiresAt));
+        return bucket != null && bucket.mightContain(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.auth.revocation-refresh-interval:5s}")
+    public void refresh() {
+        Instant now = clock.instant();
+        buckets.headMap(bucketOf(now)).clear();
+        try {
+            Instant since = watermark.minus(POLL_OVERLAP);
+            List<RevokedToken> revoked = repository.findByRevokedAtAfter(since);
+            for (RevokedToken token : revoked) {
+                if (token.getExpiresAt().isAfter(now)) {
+                    add(token.getId(), token.getExpiresAt());
+                    confirmed.put(token.getId(), true);
+                }
+            }
+            watermark = revoked.stream()
+                    .map(RevokedToken::getRevokedAt)
+                    .reduce(watermark, (a, b) -> a.isAfter(b) ? a : b);
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh revoked tokens, keeping {} known buckets", buckets.size(), e);
+        }
+    }
+
+    private void add(String tokenId, Instant expiresAt) {
+        buckets.computeIfAbsent(bucketOf(expiresAt),
+                bucket -> BloomFilter.create(EXPECTED_REVOCATIONS_PER_BUCKET, FALSE_POSITIVE_PROBABILITY))
+                .put(tokenId);
+    }
+
+    private static long bucketOf(Instant instant) {
+        return instant.toEpochMilli() / BUCKET_MILLIS;
+    }
+}
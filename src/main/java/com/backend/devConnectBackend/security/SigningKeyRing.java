@@ -0,0 +1,158 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.config.JwtProperties;
+import com.backend.devConnectBackend.model.SigningKey;
+import com.backend.devConnectBackend.repository.SigningKeyRepository;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT signing keys shared by every instance through the
+ * {@code signing_keys} collection.
+ * <p>
+ * Time is divided into rotation periods and each period has one key, whose
+ * ID ({@code kid}) is derived from the period number. Every instance therefore
+ * agrees on which key signs new tokens; whichever instance needs a key first
+ * creates it, and a concurrent creation loses on the unique {@code _id}.
+ * The key of the next period is created ahead of time so that it is known
+ * everywhere before anyone signs with it.
+ * <p>
+ * Verification looks the key up by {@code kid} in an in-memory map that is
+ * replaced on every refresh. Keys are kept for as long as a token they signed
+ * can still be valid.
+ */
+@Component
+public class SigningKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyRing.class);
+
+    private static final int SECRET_BYTES = 32;
+
+    private final SigningKeyRepository repository;
+    private final JwtProperties properties;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile boolean loaded;
+
+    @Autowired
+    public SigningKeyRing(SigningKeyRepository repository, JwtProperties properties) {
+        this(repository, properties, Clock.systemUTC());
+    }
+
+    SigningKeyRing(SigningKeyRepository repository, JwtProperties properties, Clock clock) {
+        this.repository = repository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Key ID and key that new tokens are signed with.
+     */
+    public ActiveKey current() {
+        String kid = kid(periodOf(clock.instant()));
+        Key key = keys.get(kid);
+        if (key == null) {
+            reload();
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new IllegalStateException("No signing key available for " + kid);
+        }
+        return new ActiveKey(kid, key);
+    }
+
+    /**
+     * Key for verifying a token signed with the given key ID.
+     *
+     * @param kid key ID from the token header
+     * @return the key, or null if the key ID is unknown or has aged out
+     */
+    public Key resolve(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        if (!loaded) {
+            reload();
+        }
+        return keys.get(kid);
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.jwt.key-refresh-interval:10m}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh signing keys, keeping {} known keys", keys.size(), e);
+        }
+    }
+
+    private synchronized void reload() {
+        Instant now = clock.instant();
+        long period = periodOf(now);
+        ensureExists(period);
+        ensureExists(period + 1);
+
+        // A key signs tokens until its period ends; they stay valid for one more token lifetime
+        Instant oldestUsable = now.minus(properties.keyRotationPeriod()).minus(properties.expiration());
+        Map<String, Key> usable = new HashMap<>();
+        for (SigningKey signingKey : repository.findByActivatedAtAfter(oldestUsable)) {
+            usable.put(signingKey.getId(), Keys.hmacShaKeyFor(Base64.getDecoder().decode(signingKey.getSecret())));
+        }
+        keys = Map.copyOf(usable);
+        loaded = true;
+
+        repository.deleteByActivatedAtBefore(oldestUsable.minus(properties.keyRotationPeriod()));
+    }
+
+    private void ensureExists(long period) {
+        String kid = kid(period);
+        if (keys.containsKey(kid) || repository.existsById(kid)) {
+            return;
+        }
+        byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+        try {
+            repository.insert(new SigningKey(kid, Base64.getEncoder().encodeToString(secret), startOf(period)));
+            log.info("Created signing key {}", kid);
+        } catch (DuplicateKeyException e) {
+            // Another instance created it first; theirs is loaded below
+        }
+    }
+
+    private long periodOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), properties.keyRotationPeriod().toMillis());
+    }
+
+    private Instant startOf(long period) {
+        return Instant.ofEpochMilli(period * properties.keyRotationPeriod().toMillis());
+    }
+
+    private static String kid(long period) {
+        return "p" + period;
+    }
+
+    /**
+     * Signing key in use for the current rotation period.
+     *
+     * @param kid key ID to put in the token header
+     * @param key HMAC-SHA256 key
+     */
+    public record ActiveKey(String kid, Key key) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.config.AuthenticationProperties;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the current token epoch of users who have revoked their tokens.
+ * <p>
+ * A token carries the epoch of its user at issue time and is rejected once the
+ * user's epoch has moved past it. Only users with a non-zero epoch are kept, so
+ * the table stays small; in stateless mode it is reloaded in the background
+ * and checked without touching MongoDB on the request path.
+ */
+@Component
+public class TokenEpochRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenEpochRegistry.class);
+
+    private final UserRepository userRepository;
+    private final AuthenticationProperties properties;
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+    public TokenEpochRegistry(UserRepository userRepository, AuthenticationProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Check whether a token epoch is still current for the authenticated user.
+     * Users loaded from the database carry their own epoch; token principals are
+     * checked against the in-memory table.
+     */
+    public boolean isCurrent(UserDetails userDetails, long tokenEpoch) {
+        if (userDetails instanceof User user) {
+            return tokenEpoch >= user.getTokenEpoch();
+        }
+        if (userDetails instanceof TokenPrincipal principal) {
+            return tokenEpoch >= epochs.getOrDefault(principal.getId(), 0L);
+        }
+        return true;
+    }
+
+    /**
+     * Revoke every token issued to a user so far.
+     *
+     * @param userId User ID
+     */
+    public void revokeAll(String userId) {
+        long epoch = userRepository.incrementTokenEpoch(userId);
+        epochs.merge(userId, epoch, Math::max);
+        log.info("Revoked tokens of user {} up to epoch {}", userId, epoch);
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.auth.token-epoch-refresh-interval:30s}")
+    public void refresh() {
+        if (!properties.stateless()) {
+            return;
+        }
+        try {
+            userRepository.findRevokedTokenEpochs()
+                    .forEach((userId, epoch) -> epochs.merge(userId, epoch, Math::max));
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh token epochs, keeping {} known entries", epochs.size(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.Role;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Principal built from verified JWT claims without reading the users
+ * collection. Used when stateless authentication is enabled.
+ */
+public final class TokenPrincipal implements UserDetails, AuthenticatedUser {
+
+    private final String id;
+    private final String email;
+    private final Role role;
+
+    public TokenPrincipal(String id, String email, Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+
+    /**
+     * Build a principal from the subject, user id and role claims.
+     *
+     * @param claims verified token claims
+     * @return the principal, or empty for tokens issued without the user id claim
+     */
+    public static Optional<TokenPrincipal> fromClaims(Claims claims) {
+        String userId = claims.get(JwtService.USER_ID_CLAIM, String.class);
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        if (userId == null || role == null || claims.getSubject() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TokenPrincipal(userId, claims.getSubject(), Role.valueOf(role)));
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
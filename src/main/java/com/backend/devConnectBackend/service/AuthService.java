@@ -2,44 +2,148 @@ package com.backend.devConnectBackend.service;
 
 import com.backend.devConnectBackend.dto.LoginRequest;
 import com.backend.devConnectBackend.dto.LoginResult;
+import com.backend.devConnectBackend.dto.RefreshResult;
 import com.backend.devConnectBackend.dto.RegisterRequest;
+import com.backend.devConnectBackend.dto.UserImportResult;
+import com.backend.devConnectBackend.exception.ServiceOverloadedException;
 import com.backend.devConnectBackend.model.User;
 import com.backend.devConnectBackend.repository.UserRepository;
 import com.backend.devConnectBackend.security.JwtService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.backend.devConnectBackend.security.RevokedTokenFilter;
+import com.backend.devConnectBackend.security.TokenEpochRegistry;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository repo;
     private final JwtService jwt;
-    private final PasswordEncoder encoder;
+    private final PasswordHashingService passwordHashing;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final UserLookupService userLookupService;
+    private final RegisteredEmailFilter registeredEmails;
+    private final RefreshTokenService refreshTokens;
+    private final RevokedTokenFilter revokedTokens;
+    // Runs the database writes that follow a hash, so they do not hold a
+    // thread of the hashing pool
+    private final Executor writeExecutor;
 
-    public AuthService(UserRepository repo, JwtService jwt, PasswordEncoder encoder) {
+    public AuthService(UserRepository repo, JwtService jwt, PasswordHashingService passwordHashing,
+            TokenEpochRegistry tokenEpochRegistry, UserLookupService userLookupService,
+            RegisteredEmailFilter registeredEmails, RefreshTokenService refreshTokens,
+            RevokedTokenFilter revokedTokens,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor writeExecutor) {
         this.repo = repo;
         this.jwt = jwt;
-        this.encoder = encoder;
+        this.passwordHashing = passwordHashing;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.userLookupService = userLookupService;
+        this.registeredEmails = registeredEmails;
+        this.refreshTokens = refreshTokens;
+        this.revokedTokens = revokedTokens;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Register a new user. The password is hashed on the password hashing pool;
+     * the user is saved on the application task executor.
+     * Emails the registered-email filter has never seen skip the existence
+     * query; the unique email index still rejects a concurrent duplicate.
+     *
+     * @param request registration details
+     * @return completes once the user is saved
+     * @throws ServiceOverloadedException if the hashing pool is saturated
+     */
+    public CompletableFuture<Void> register(RegisterRequest request) {
+        if (registeredEmails.mightBeRegistered(request.email())) {
+            if (repo.findByEmail(request.email()).isPresent()) {
+                throw new com.backend.devConnectBackend.exception.UserAlreadyExistsException("User already exists!");
+            }
+            registeredEmails.recordFalsePositive();
+        }
+
+        return passwordHashing.encode(request.password()).thenAcceptAsync(hashed -> {
+            User user = new User(
+                    null, // id will be generated by MongoDB
+                    request.name(),
+                    request.email(),
+                    hashed,
+                    request.role(),
+                    request.skills(),
+                    request.currentSalary(),
+                    request.expectedSalary());
+            try {
+                repo.save(user);
+            } catch (DuplicateKeyException e) {
+                throw new com.backend.devConnectBackend.exception.UserAlreadyExistsException("User already exists!");
+            }
+            registeredEmails.add(request.email());
+            userLookupService.evictByEmail(request.email());
+        }, writeExecutor);
     }
 
-    public void register(RegisterRequest request) {
-        if (repo.findByEmail(request.email()).isPresent()) {
-            throw new com.backend.devConnectBackend.exception.UserAlreadyExistsException("User already exists!");
+    /**
+     * Register a batch of already validated users, e.g. from a bulk import.
+     * Passwords are hashed in parallel and all users are inserted in one
+     * unordered bulk write; the unique email index rejects existing emails
+     * without an existence query per user.
+     *
+     * @param requests registration details
+     * @return status per request, in the same order
+     */
+    public List<UserImportResult.Status> registerAll(List<RegisterRequest> requests) {
+        List<String> hashes = passwordHashing.encodeAll(requests.stream().map(RegisterRequest::password).toList());
+
+        List<User> users = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterRequest request = requests.get(i);
+            users.add(new User(
+                    null,
+                    request.name(),
+                    request.email(),
+                    hashes.get(i),
+                    request.role(),
+                    request.skills(),
+                    request.currentSalary(),
+                    request.expectedSalary()));
+        }
+
+        List<UserImportResult.Status> statuses =
+                new ArrayList<>(Collections.nCopies(requests.size(), UserImportResult.Status.CREATED));
+        for (BulkWriteError error : repo.insertUnordered(users)) {
+            if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                statuses.set(error.getIndex(), UserImportResult.Status.DUPLICATE);
+            } else {
+                log.warn("Could not import user {}: {}", requests.get(error.getIndex()).email(), error.getMessage());
+                statuses.set(error.getIndex(), UserImportResult.Status.FAILED);
+            }
         }
 
-        String hashed = encoder.encode(request.password());
-        User user = new User(
-                null, // id will be generated by MongoDB
-                request.name(),
-                request.email(),
-                hashed,
-                request.role(),
-                request.skills(),
-                request.currentSalary(),
-                request.expectedSalary());
-        repo.save(user);
+        for (int i = 0; i < requests.size(); i++) {
+            if (statuses.get(i) == UserImportResult.Status.CREATED) {
+                registeredEmails.add(requests.get(i).email());
+                userLookupService.evictByEmail(requests.get(i).email());
+            }
+        }
+        return statuses;
     }
 
     /**
@@ -47,23 +151,94 @@ public class AuthService {
      * Uses Null Object pattern - returns result object instead of throwing
      * exceptions.
      * 
+     * The password check runs on the password hashing pool. Emails the
+     * registered-email filter has never seen are reported as not found without
+     * a database query; a user who registered through another instance is
+     * found once the filter has been refreshed, within its refresh interval.
+     * A successful login also starts a new refresh token family, saved on the
+     * application task executor.
+     *
      * @param req Login request with email and password
      * @return LoginResult - one of: Success, UserNotFound, or InvalidPassword
+     * @throws ServiceOverloadedException if the hashing pool is saturated
      */
-    public LoginResult login(LoginRequest req) {
+    public CompletableFuture<LoginResult> login(LoginRequest req) {
+        if (!registeredEmails.mightBeRegistered(req.email())) {
+            return CompletableFuture.completedFuture(new LoginResult.UserNotFound());
+        }
+
         Optional<User> userOpt = repo.findByEmail(req.email());
 
         if (userOpt.isEmpty()) {
-            return new LoginResult.UserNotFound();
+            registeredEmails.recordFalsePositive();
+            return CompletableFuture.completedFuture(new LoginResult.UserNotFound());
         }
 
         User user = userOpt.get();
 
-        if (!encoder.matches(req.password(), user.getPassword())) {
-            return new LoginResult.InvalidPassword();
+        return passwordHashing.matches(req.password(), user.getPassword()).thenApplyAsync(matches -> {
+            if (!matches) {
+                return new LoginResult.InvalidPassword();
+            }
+
+            String token = jwt.generateToken(user);
+            String refreshToken = refreshTokens.issue(user.getId());
+            return new LoginResult.Success(token, refreshToken, refreshTokens.lifetime());
+        }, writeExecutor);
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     *
+     * @param refreshToken raw refresh token
+     * @return Success with both tokens, or Rejected if the refresh token is
+     *         unknown, expired, already used or its user no longer exists
+     */
+    public RefreshResult refresh(String refreshToken) {
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokens.rotate(refreshToken);
+        if (rotation.isEmpty()) {
+            return new RefreshResult.Rejected();
         }
 
-        String token = jwt.generateToken(user.getEmail(), user.getRole().name());
-        return new LoginResult.Success(token);
+        Optional<User> user = userLookupService.findById(rotation.get().userId());
+        if (user.isEmpty()) {
+            return new RefreshResult.Rejected();
+        }
+        return new RefreshResult.Success(jwt.generateToken(user.get()), rotation.get().refreshToken(),
+                refreshTokens.lifetime());
+    }
+
+    /**
+     * Sign out of one session: revoke the access token until it expires and the
+     * refresh token family it was issued with. Either token may be missing.
+     *
+     * @param accessToken  compact JWS, may be null
+     * @param refreshToken raw refresh token, may be null
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                Claims claims = jwt.extractAllClaims(accessToken);
+                if (claims.getId() != null) {
+                    revokedTokens.revoke(claims.getId(), claims.getExpiration().toInstant());
+                }
+            } catch (JwtException e) {
+                // expired or invalid tokens cannot be used anyway
+            }
+        }
+        if (refreshToken != null) {
+            refreshTokens.revoke(refreshToken);
+        }
+    }
+
+    /**
+     * Sign the user out everywhere by invalidating every token issued so far.
+     *
+     * @param userId ID of the authenticated user
+     */
+    public void revokeAllTokens(String userId) {
+        tokenEpochRegistry.revokeAll(userId);
+        refreshTokens.revokeAll(userId);
+        userLookupService.evictById(userId);
     }
 }
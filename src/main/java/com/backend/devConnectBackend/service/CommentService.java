@@ -10,9 +10,12 @@ import com.backend.devConnectBackend.model.Post;
 import com.backend.devConnectBackend.model.User;
 import com.backend.devConnectBackend.repository.CommentRepository;
 import com.backend.devConnectBackend.repository.PostRepository;
-import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom.CounterChanges;
+import com.backend.devConnectBackend.util.ETags;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,16 +23,26 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final PostCounters postCounters;
+    private final SerializedPostCache serializedPostCache;
 
     public CommentService(CommentRepository commentRepository, PostRepository postRepository,
-            UserRepository userRepository) {
+            PostCounters postCounters, SerializedPostCache serializedPostCache) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
-        this.userRepository = userRepository;
+        this.postCounters = postCounters;
+        this.serializedPostCache = serializedPostCache;
     }
 
-    public CommentResponse addComment(String postId, CommentRequest request, String userEmail) {
+    /**
+     * Add a comment to a public post.
+     *
+     * @param postId  the post ID
+     * @param request comment content
+     * @param user    the authenticated author, as resolved for the request
+     * @return the saved comment
+     */
+    public CommentResponse addComment(String postId, CommentRequest request, User user) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
 
@@ -37,9 +50,6 @@ public class CommentService {
             throw new UnauthorizedAccessException("Cannot comment on private posts");
         }
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
-
         Comment comment = new Comment();
         comment.setContent(request.content());
         comment.setPost(post);
@@ -47,48 +57,91 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
-        // Atomically increment comment count
-        postRepository.incrementCommentCount(postId, 1);
+        postCounters.addComments(postId, 1);
+        serializedPostCache.invalidate(postId);
 
         return mapToResponse(savedComment);
     }
 
     /**
-     * Get comments for a post with pagination.
+     * Read a public post once for serving a page of its comments: the page's
+     * ETag is computed from it, and {@link #getComments(CommentsVersion, Pageable)}
+     * reuses it and its comment count.
      *
      * @param postId   the post ID
+     * @param pageable pagination parameters of the page
+     * @return the post's comments version
+     */
+    public CommentsVersion getCommentsVersion(String postId, Pageable pageable) {
+        Post post = findVisiblePost(postId);
+        CounterChanges pending = postCounters.pending(postId);
+        long stored = post.getCommentCount() != null ? post.getCommentCount() : 0;
+        long count = Math.max(0, stored + pending.comments());
+        // The revision changes with every comment added or deleted, even when
+        // the count ends up the same
+        long revision = (post.getCommentRevision() != null ? post.getCommentRevision() : 0)
+                + pending.commentRevision();
+
+        return new CommentsVersion(post, count, ETags.of(postId, revision, count,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()));
+    }
+
+    /**
+     * Get comments for a post with pagination. The total is the post's
+     * comment count, so no count query runs.
+     *
+     * @param version  the post's comments version
      * @param pageable pagination parameters (page, size, sort)
      * @return Page of CommentResponse
      */
-    public Page<CommentResponse> getComments(String postId, Pageable pageable) {
+    public Page<CommentResponse> getComments(CommentsVersion version, Pageable pageable) {
+        Slice<Comment> comments = commentRepository.findSliceByPostOrderByCreatedAtDesc(version.post(), pageable);
+
+        return PageableExecutionUtils.getPage(comments.getContent(), pageable, version::count)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Get comments for a post without counting them.
+     *
+     * @param version  the post's comments version
+     * @param pageable pagination parameters (page, size, sort)
+     * @return Slice of CommentResponse
+     */
+    public Slice<CommentResponse> getCommentsSlice(CommentsVersion version, Pageable pageable) {
+        return commentRepository.findSliceByPostOrderByCreatedAtDesc(version.post(), pageable)
+                .map(this::mapToResponse);
+    }
+
+    private Post findVisiblePost(String postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
 
         if (!Boolean.TRUE.equals(post.getVisibility())) {
             throw new UnauthorizedAccessException("Cannot view comments on private posts");
         }
-
-        Page<Comment> comments = commentRepository.findByPostOrderByCreatedAtDesc(post, pageable);
-
-        return comments.map(this::mapToResponse);
+        return post;
     }
 
-    public void deleteComment(String commentId, String userEmail) {
+    /**
+     * Delete a comment written by the caller.
+     *
+     * @param commentId the comment ID
+     * @param userId    ID of the authenticated user
+     */
+    public void deleteComment(String commentId, String userId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + commentId));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
-
-        if (!comment.getUser().getId().equals(user.getId())) {
+        if (!comment.getUser().getId().equals(userId)) {
             throw new UnauthorizedAccessException("You are not authorized to delete this comment");
         }
 
         String postId = comment.getPost().getId();
         commentRepository.delete(comment);
 
-        // Atomically decrement comment count
-        postRepository.incrementCommentCount(postId, -1);
+        postCounters.addComments(postId, -1);
+        serializedPostCache.invalidate(postId);
     }
 
     private CommentResponse mapToResponse(Comment comment) {
@@ -101,4 +154,17 @@ public class CommentService {
                 comment.getCreatedAt(),
                 comment.getUpdatedAt());
     }
+
+    /**
+     * A public post as read for serving its comments, with its comment count
+     * and the ETag of the requested page. The ETag changes with the comment
+     * revision, which every comment added or deleted bumps at once, and with
+     * the count, so the total a client keeps is current once counters are
+     * flushed.
+     *
+     * @param count number of comments, including changes not yet written
+     * @param eTag  strong ETag of the page
+     */
+    public record CommentsVersion(Post post, long count, String eTag) {
+    }
 }
@@ -0,0 +1,52 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.CountCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of query result counts.
+ * <p>
+ * Page totals are informational, but an exact count re-scans every matching
+ * document on each request. Totals served from here may lag writes by up to
+ * the configured expiry. Hit and miss counts are published as the
+ * {@code cache.*} metrics with {@code cache=counts}.
+ */
+@Service
+public class CountCache implements MeterBinder {
+
+    static final String CACHE_NAME = "counts";
+
+    private final Cache<List<String>, Long> counts;
+
+    public CountCache(CountCacheProperties properties) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Count of a query, counting it only if it is not cached.
+     *
+     * @param key   identifies the query and its parameters
+     * @param count exact count of the query
+     */
+    public long get(List<String> key, LongSupplier count) {
+        return counts.get(key, k -> count.getAsLong());
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, counts, CACHE_NAME);
+    }
+}
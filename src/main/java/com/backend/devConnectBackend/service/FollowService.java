@@ -0,0 +1,75 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.exception.InvalidFollowException;
+import com.backend.devConnectBackend.exception.UserNotFoundException;
+import com.backend.devConnectBackend.model.Follow;
+import com.backend.devConnectBackend.repository.FollowRepository;
+import com.backend.devConnectBackend.repository.UserRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service layer for following authors. Keeps each author's follower count,
+ * which decides how their posts reach followers' timelines (see
+ * {@link TimelineService}).
+ */
+@Service
+public class FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final TimelineService timelineService;
+
+    public FollowService(FollowRepository followRepository, UserRepository userRepository,
+            UserLookupService userLookupService, TimelineService timelineService) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
+        this.timelineService = timelineService;
+    }
+
+    /**
+     * Follow an author. Following an author twice has no effect. Only posts
+     * published from now on appear in the follower's timeline.
+     *
+     * @param followerId User ID of the follower
+     * @param authorId   User ID of the author
+     * @throws UserNotFoundException  if the author does not exist
+     * @throws InvalidFollowException if the user tries to follow themselves
+     */
+    public void follow(String followerId, String authorId) {
+        if (followerId.equals(authorId)) {
+            throw new InvalidFollowException("You cannot follow yourself");
+        }
+        userLookupService.findById(authorId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + authorId));
+
+        if (followRepository.existsByFollowerIdAndFolloweeId(followerId, authorId)) {
+            return;
+        }
+        try {
+            followRepository.save(new Follow(followerId, authorId));
+        } catch (DuplicateKeyException e) {
+            return; // Followed concurrently
+        }
+        userRepository.incrementFollowerCount(authorId, 1);
+        userLookupService.evictById(authorId);
+    }
+
+    /**
+     * Stop following an author and remove their posts from the follower's
+     * timeline. Unfollowing an author that is not followed has no effect.
+     *
+     * @param followerId User ID of the follower
+     * @param authorId   User ID of the author
+     */
+    public void unfollow(String followerId, String authorId) {
+        if (followRepository.deleteByFollowerIdAndFolloweeId(followerId, authorId) == 0) {
+            return;
+        }
+        userRepository.incrementFollowerCount(authorId, -1);
+        userLookupService.evictById(authorId);
+        timelineService.unfollowed(followerId, authorId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.PasswordHashingProperties;
+import com.backend.devConnectBackend.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool.
+ * <p>
+ * BCrypt is deliberately CPU-heavy. Running it on request threads lets a login
+ * burst occupy every servlet worker; here at most one hash per thread runs at
+ * a time and at most {@code queueCapacity} wait. Anything beyond that fails
+ * fast with {@link ServiceOverloadedException} instead of queueing. By default
+ * the pool has half as many threads as there are processors, so a storm of
+ * hashes cannot take the CPU away from the request threads.
+ */
+@Service
+public class PasswordHashingService implements MeterBinder {
+
+    static final String EXECUTOR_NAME = "password-hashing";
+
+    private final PasswordEncoder encoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingService(PasswordEncoder encoder, PasswordHashingProperties properties) {
+        this.encoder = encoder;
+        this.properties = properties;
+        int poolSize = properties.effectivePoolSize();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hash a raw password.
+     *
+     * @throws ServiceOverloadedException if the hashing queue is full
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Hash a batch of raw passwords in parallel, blocking until all are done.
+     * <p>
+     * Meant for bulk work: at most one hash per pool thread is in flight, so
+     * interactive logins queue behind a single hash at worst, and when the pool
+     * is saturated the calling thread hashes the password itself instead of
+     * failing.
+     *
+     * @return hashes in the order of the given passwords
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        Semaphore inFlight = new Semaphore(properties.effectivePoolSize());
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rawPasswords.size());
+        for (CharSequence rawPassword : rawPasswords) {
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<String> hash;
+            try {
+                hash = CompletableFuture.supplyAsync(() -> encoder.encode(rawPassword), executor);
+            } catch (RejectedExecutionException e) {
+                hash = CompletableFuture.completedFuture(encoder.encode(rawPassword));
+            }
+            hashes.add(hash.whenComplete((hashed, failure) -> inFlight.release()));
+        }
+        return hashes.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Check a raw password against a stored hash.
+     *
+     * @throws ServiceOverloadedException if the hashing queue is full
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Too many authentication requests, please retry later",
+                    properties.retryAfter());
+        }
+    }
+}
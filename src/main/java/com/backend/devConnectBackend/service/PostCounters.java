@@ -0,0 +1,269 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.CounterProperties;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom.CounterChanges;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Changes to the comment, like and dislike counters of posts, and to their
+ * comment revisions, which count the comments added and deleted.
+ * <p>
+ * By default each change is written at once with its own {@code $inc}. In
+ * write-behind mode changes are added up in memory instead, per post in
+ * {@link LongAdder}s so concurrent reactions to one post do not contend, and
+ * flushed every interval as one unordered bulk write with a single update per
+ * post for all of its counters. A post receiving thousands of reactions a
+ * second then costs a few writes a second.
+ * <p>
+ * Changes not yet written are added to posts as they are mapped for
+ * responses, see {@link #pending(String)}, so a client sees its own reaction
+ * counted straight away. In both modes each change is applied to the public
+ * feed cache as it is made. Pending changes are flushed on shutdown; a process
+ * that is killed loses at most one interval of them. Updates that fail are
+ * kept for the next flush.
+ */
+@Service
+public class PostCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(PostCounters.class);
+
+    private static final CounterChanges NONE = new CounterChanges(null, 0, 0, 0, 0);
+
+    private final PostRepository postRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final boolean writeBehind;
+
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+    // Changes taken from pending by the flush in progress, until written
+    private volatile Map<String, CounterChanges> flushing = Map.of();
+    private volatile boolean closed;
+
+    public PostCounters(PostRepository postRepository, PublicFeedCache publicFeedCache, CounterProperties properties) {
+        this.postRepository = postRepository;
+        this.publicFeedCache = publicFeedCache;
+        this.writeBehind = properties.writeBehind();
+    }
+
+    /**
+     * Add to the comment count of a post.
+     *
+     * @param delta amount to add; negative to subtract
+     */
+    public void addComments(String postId, int delta) {
+        if (!writeBehind || closed) {
+            postRepository.incrementCommentCount(postId, delta);
+        } else {
+            accumulate(postId, delta, 0, 0, Math.abs(delta));
+        }
+        publicFeedCache.addToCounts(postId, delta, 0, 0);
+    }
+
+    /**
+     * Add to the like and dislike counts of a post.
+     *
+     * @param likes    amount to add to the like count; negative to subtract
+     * @param dislikes amount to add to the dislike count; negative to subtract
+     */
+    public void addReactions(String postId, int likes, int dislikes) {
+        if (!writeBehind || closed) {
+            if (likes != 0) {
+                postRepository.incrementLikeCount(postId, likes);
+            }
+            if (dislikes != 0) {
+                postRepository.incrementDislikeCount(postId, dislikes);
+            }
+        } else {
+            accumulate(postId, 0, likes, dislikes, 0);
+        }
+        publicFeedCache.addToCounts(postId, 0, likes, dislikes);
+    }
+
+    /**
+     * Changes to a post's counters not yet written to MongoDB, to add to the
+     * stored counts. Counts read while a flush is writing may be off by the
+     * changes it is writing.
+     */
+    public CounterChanges pending(String postId) {
+        Pending entry = pending.get(postId);
+        CounterChanges inFlight = flushing.get(postId);
+        if (entry == null && inFlight == null) {
+            return NONE;
+        }
+        long comments = inFlight != null ? inFlight.comments() : 0;
+        long likes = inFlight != null ? inFlight.likes() : 0;
+        long dislikes = inFlight != null ? inFlight.dislikes() : 0;
+        long commentRevision = inFlight != null ? inFlight.commentRevision() : 0;
+        if (entry != null) {
+            comments += entry.comments.sum();
+            likes += entry.likes.sum();
+            dislikes += entry.dislikes.sum();
+            commentRevision += entry.commentRevision.sum();
+        }
+        return new CounterChanges(postId, comments, likes, dislikes, commentRevision);
+    }
+
+    /**
+     * Write the pending changes. Posts without changes since the previous
+     * flush are dropped from memory.
+     */
+    @Scheduled(fixedDelayString = "${devconnect.counters.flush-interval:250ms}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<CounterChanges> changes = new ArrayList<>();
+        Map<String, CounterChanges> taken = new HashMap<>();
+        for (Map.Entry<String, Pending> mapping : pending.entrySet()) {
+            String postId = mapping.getKey();
+            Pending entry = mapping.getValue();
+            // Removed before it is drained, so a change that lands in it
+            // afterwards is seen by its writer and moved, see accumulate
+            if (closed || entry.idle) {
+                pending.remove(postId, entry);
+            }
+            CounterChanges drained = entry.drain(postId);
+            entry.idle = isEmpty(drained);
+            if (!entry.idle) {
+                changes.add(drained);
+                taken.put(postId, drained);
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        flushing = taken;
+        try {
+            List<CounterChanges> failed = write(changes);
+            if (!failed.isEmpty()) {
+                retry(failed);
+            }
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    /**
+     * Flush what is pending and write later changes at once.
+     */
+    @PreDestroy
+    void close() {
+        closed = true;
+        flush();
+    }
+
+    /**
+     * Add changes to a post's pending entry.
+     */
+    private void accumulate(String postId, long comments, long likes, long dislikes, long commentRevision) {
+        Pending entry = pending.computeIfAbsent(postId, id -> new Pending());
+        entry.add(comments, likes, dislikes, commentRevision);
+        // A flush may have dropped the entry before the changes landed; if so
+        // they are not written unless moved. Other writers racing on the entry
+        // each take a disjoint part of it.
+        if (closed) {
+            pending.remove(postId, entry);
+        } else if (pending.get(postId) == entry) {
+            return;
+        }
+        CounterChanges left = entry.drain(postId);
+        if (isEmpty(left)) {
+            return;
+        }
+        if (closed) {
+            write(List.of(left));
+        } else {
+            accumulate(postId, left.comments(), left.likes(), left.dislikes(), left.commentRevision());
+        }
+    }
+
+    /**
+     * Write changes in one bulk write.
+     *
+     * @return the changes that were not written
+     */
+    private List<CounterChanges> write(List<CounterChanges> changes) {
+        try {
+            List<BulkWriteError> errors = postRepository.incrementCounters(changes);
+            List<CounterChanges> failed = new ArrayList<>(errors.size());
+            for (BulkWriteError error : errors) {
+                log.warn("Could not write counters of post {}: {}", changes.get(error.getIndex()).postId(),
+                        error.getMessage());
+                failed.add(changes.get(error.getIndex()));
+            }
+            return failed;
+        } catch (DataAccessException e) {
+            // Usually nothing was written; keeping the changes may count them
+            // twice if the write did land, which beats losing them
+            log.warn("Could not write counters of {} posts", changes.size(), e);
+            return changes;
+        }
+    }
+
+    private void retry(List<CounterChanges> failed) {
+        if (closed) {
+            log.error("Lost counter changes of {} posts on shutdown: {}", failed.size(), failed);
+            return;
+        }
+        for (CounterChanges change : failed) {
+            accumulate(change.postId(), change.comments(), change.likes(), change.dislikes(),
+                    change.commentRevision());
+        }
+    }
+
+    private static boolean isEmpty(CounterChanges changes) {
+        return changes.comments() == 0 && changes.likes() == 0 && changes.dislikes() == 0
+                && changes.commentRevision() == 0;
+    }
+
+    /**
+     * Changes to one post's counters since they were last drained.
+     */
+    private static final class Pending {
+
+        final LongAdder comments = new LongAdder();
+        final LongAdder likes = new LongAdder();
+        final LongAdder dislikes = new LongAdder();
+        final LongAdder commentRevision = new LongAdder();
+        // Whether the last flush found no changes; read and written by flushes
+        boolean idle;
+
+        void add(long commentDelta, long likeDelta, long dislikeDelta, long revisionDelta) {
+            if (commentDelta != 0) {
+                comments.add(commentDelta);
+            }
+            if (likeDelta != 0) {
+                likes.add(likeDelta);
+            }
+            if (dislikeDelta != 0) {
+                dislikes.add(dislikeDelta);
+            }
+            if (revisionDelta != 0) {
+                commentRevision.add(revisionDelta);
+            }
+        }
+
+        /**
+         * Take the changes, leaving zero. Each concurrent change is taken by
+         * exactly one drain.
+         */
+        CounterChanges drain(String postId) {
+            return new CounterChanges(postId, comments.sumThenReset(), likes.sumThenReset(),
+                    dislikes.sumThenReset(), commentRevision.sumThenReset());
+        }
+    }
+}
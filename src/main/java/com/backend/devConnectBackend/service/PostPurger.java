@@ -0,0 +1,158 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.PurgeProperties;
+import com.backend.devConnectBackend.model.PostDeletion;
+import com.backend.devConnectBackend.repository.CommentRepository;
+import com.backend.devConnectBackend.repository.PostDeletionRepository;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.ReactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Removes the comments and reactions of deleted posts in the background.
+ * <p>
+ * Deleting a post removes only the post document and records a
+ * {@link PostDeletion}, so the request does not wait on however many
+ * comments and reactions the post had. Each run deletes them in batches,
+ * pausing between batches, and drops the record once nothing is left. A
+ * periodic sweep walks the posts that have comments or reactions and records
+ * a deletion for any that no longer exist, which reclaims ones left behind by
+ * older deletions or by a comment landing on a post as it was deleted.
+ */
+@Service
+public class PostPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(PostPurger.class);
+
+    // Deletions read per run; the batch budget usually runs out first
+    private static final int DELETIONS_PER_RUN = 100;
+
+    private final PostDeletionRepository postDeletionRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReactionRepository reactionRepository;
+    private final PurgeProperties properties;
+
+    public PostPurger(PostDeletionRepository postDeletionRepository, PostRepository postRepository,
+            CommentRepository commentRepository, ReactionRepository reactionRepository,
+            PurgeProperties properties) {
+        this.postDeletionRepository = postDeletionRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.reactionRepository = reactionRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Record that a post has been deleted, for its comments and reactions to
+     * be purged. Call after the post itself is gone.
+     */
+    public void schedule(String postId) {
+        postDeletionRepository.save(new PostDeletion(postId, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.purge.interval:30s}")
+    public void purge() {
+        try {
+            int budget = properties.maxBatchesPerRun();
+            for (PostDeletion deletion : postDeletionRepository.findByOrderByRequestedAtAsc(Limit.of(DELETIONS_PER_RUN))) {
+                if (budget <= 0) {
+                    return;
+                }
+                budget = purge(deletion.getPostId(), budget);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not purge deleted posts", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${devconnect.purge.orphan-sweep-initial-delay:1m}",
+            fixedDelayString = "${devconnect.purge.orphan-sweep-interval:6h}")
+    public void sweepOrphans() {
+        try {
+            int found = sweep(commentRepository::findPostIdsAfter) + sweep(reactionRepository::findPostIdsAfter);
+            if (found > 0) {
+                log.info("Found {} deleted posts with comments or reactions left behind", found);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not sweep for orphaned comments and reactions", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Delete batches of the post's comments and reactions until none are left
+     * or the budget is spent.
+     *
+     * @return batches left in the budget
+     */
+    private int purge(String postId, int budget) throws InterruptedException {
+        // Never purge the dependents of a post that exists
+        if (postRepository.existsById(postId)) {
+            postDeletionRepository.deleteById(postId);
+            return budget;
+        }
+        long removed = 0;
+        while (budget > 0) {
+            long comments = commentRepository.deleteBatchByPostId(postId, properties.batchSize());
+            long reactions = reactionRepository.deleteBatchByPostId(postId, properties.batchSize());
+            removed += comments + reactions;
+            budget--;
+            pause();
+            if (comments < properties.batchSize() && reactions < properties.batchSize()) {
+                postDeletionRepository.deleteById(postId);
+                log.debug("Purged {} comments and reactions of deleted post {}", removed, postId);
+                return budget;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Record a deletion for each post, among those with dependents, that no
+     * longer exists.
+     *
+     * @param postIdsAfter distinct post IDs of the dependents, after an ID
+     * @return number of missing posts found
+     */
+    private int sweep(BiFunction<String, Integer, List<String>> postIdsAfter) throws InterruptedException {
+        int found = 0;
+        String after = null;
+        List<String> postIds;
+        do {
+            postIds = postIdsAfter.apply(after, properties.batchSize());
+            if (postIds.isEmpty()) {
+                break;
+            }
+            Set<String> existing = postRepository.findExistingIds(postIds);
+            for (String postId : postIds) {
+                if (!existing.contains(postId)) {
+                    schedule(postId);
+                    found++;
+                }
+            }
+            after = postIds.get(postIds.size() - 1);
+            pause();
+        } while (postIds.size() == properties.batchSize());
+        return found;
+    }
+
+    private void pause() throws InterruptedException {
+        if (!properties.pause().isZero()) {
+            Thread.sleep(properties.pause().toMillis());
+        }
+    }
+}
@@ -1,26 +1,100 @@
 package com.backend.devConnectBackend.service;
 
+import com.backend.devConnectBackend.config.SearchProperties;
 import com.backend.devConnectBackend.constants.ReactionType;
+import com.backend.devConnectBackend.dto.CursorPage;
+import com.backend.devConnectBackend.dto.PostPatchRequest;
 import com.backend.devConnectBackend.dto.PostRequest;
 import com.backend.devConnectBackend.dto.PostResponse;
+import com.backend.devConnectBackend.dto.PostSummary;
+import com.backend.devConnectBackend.dto.Suggestions;
+import com.backend.devConnectBackend.dto.TagCount;
 import com.backend.devConnectBackend.exception.PostNotFoundException;
 import com.backend.devConnectBackend.exception.UnauthorizedAccessException;
 import com.backend.devConnectBackend.model.Post;
 import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom.CounterChanges;
+import com.backend.devConnectBackend.util.ETags;
+import com.backend.devConnectBackend.util.PostCursor;
+import com.backend.devConnectBackend.util.SearchTerms;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 @Service
 public class PostService {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // Order of the cached public feed window
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    // The window breaks ties by ID; pages read from MongoDB must split the same way
+    private static final Sort NEWEST_FIRST_BY_ID = NEWEST_FIRST.and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final PostRepository postRepository;
     private final ReactionService reactionService;
+    private final CountCache countCache;
+    private final TimelineService timelineService;
+    private final PublicFeedCache publicFeedCache;
+    private final SearchProperties searchProperties;
+    private final TagDictionary tagDictionary;
+    private final TagCounts tagCounts;
+    private final PostSuggestions postSuggestions;
+    private final PostPurger postPurger;
+    private final SerializedPostCache serializedPostCache;
+    private final PostCounters postCounters;
+    private final ObjectMapper objectMapper;
+    // Each reaction as written into cached JSON
+    private final Map<ReactionType, byte[]> reactionJson = new EnumMap<>(ReactionType.class);
 
-    public PostService(PostRepository postRepository, @Lazy ReactionService reactionService) {
+    public PostService(PostRepository postRepository, @Lazy ReactionService reactionService,
+            CountCache countCache, TimelineService timelineService, PublicFeedCache publicFeedCache,
+            SearchProperties searchProperties, TagDictionary tagDictionary, TagCounts tagCounts,
+            PostSuggestions postSuggestions, PostPurger postPurger, SerializedPostCache serializedPostCache,
+            PostCounters postCounters, ObjectMapper objectMapper) {
         this.postRepository = postRepository;
         this.reactionService = reactionService;
+        this.countCache = countCache;
+        this.timelineService = timelineService;
+        this.publicFeedCache = publicFeedCache;
+        this.searchProperties = searchProperties;
+        this.tagDictionary = tagDictionary;
+        this.tagCounts = tagCounts;
+        this.postSuggestions = postSuggestions;
+        this.postPurger = postPurger;
+        this.serializedPostCache = serializedPostCache;
+        this.postCounters = postCounters;
+        this.objectMapper = objectMapper;
+        for (ReactionType reaction : ReactionType.values()) {
+            try {
+                reactionJson.put(reaction, objectMapper.writeValueAsBytes(reaction));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize reaction " + reaction, e);
+            }
+        }
     }
 
     public PostResponse createPost(PostRequest request, String userEmail) {
@@ -28,70 +102,552 @@ public class PostService {
         post.setTitle(request.title());
         post.setDescription(request.description());
         post.setTechStack(request.techStack());
+        post.setTags(tagDictionary.canonical(request.techStack()));
         post.setVisibility(request.visibility());
         post.setUserId(userEmail); // Store email in userId field
 
         Post savedPost = postRepository.save(post);
+        timelineService.publish(savedPost);
+        tagCounts.changed(List.of(), publicTags(savedPost));
+        if (Boolean.TRUE.equals(savedPost.getVisibility())) {
+            postSuggestions.added(savedPost.getTitle(), savedPost.getTags());
+        }
 
-        return mapToResponse(savedPost);
+        PostResponse response = mapToResponse(savedPost);
+        publicFeedCache.created(response);
+        return response;
     }
 
-    public Page<PostResponse> getAllPublicPosts(Pageable pageable) {
-        Page<Post> publicPosts = postRepository.findByVisibilityTrue(pageable);
+    /**
+     * Public posts, newest first. The first pages are served from the public
+     * feed cache.
+     *
+     * @param viewerId ID of the caller, whose own reaction is filled into each
+     *                 post; null to skip
+     */
+    public Page<PostResponse> getAllPublicPosts(Pageable pageable, String viewerId) {
+        return getAllPublicPostsTagged(pageable, viewerId).body().get();
+    }
+
+    /**
+     * Public posts, newest first, with the ETag of the page. A page served
+     * from the public feed cache is tagged from the cached posts and the
+     * viewer's reactions before it is built, so a request answered with 304
+     * builds nothing; other pages are read from MongoDB and tagged from the
+     * result.
+     *
+     * @see #getAllPublicPosts(Pageable, String)
+     */
+    public Tagged<Page<PostResponse>> getAllPublicPostsTagged(Pageable pageable, String viewerId) {
+        PublicFeedCache.Window window = cachedPublicFeed(pageable);
+        if (window != null) {
+            List<PostResponse> content = window.page(pageable.getOffset(), pageable.getPageSize());
+            Map<String, ReactionType> reactions = userReactions(content.stream().map(PostResponse::id).toList(),
+                    viewerId);
+            return new Tagged<>(feedETag(window.total(), content, post -> reactions.get(post.id())),
+                    () -> new PageImpl<>(withUserReactions(content, reactions), pageable, window.total()));
+        }
 
-        return publicPosts.map(this::mapToResponse);
+        Page<Post> publicPosts = postRepository.findByVisibilityTrue(withIdTiebreak(pageable));
+        Page<PostResponse> page = publicPosts.map(responseMapper(publicPosts.getContent(), viewerId));
+        return Tagged.of(feedETag(page.getTotalElements(), page.getContent()), page);
     }
 
-    public Page<PostResponse> getMyPosts(String userEmail, Pageable pageable) {
+    public Page<PostResponse> getMyPosts(String userEmail, Pageable pageable, String viewerId) {
         Page<Post> myPosts = postRepository.findByUserId(userEmail, pageable);
 
-        return myPosts.map(this::mapToResponse);
+        return myPosts.map(responseMapper(myPosts.getContent(), viewerId));
     }
 
-    public Page<PostResponse> searchPublicPosts(String techStack, String title, Pageable pageable) {
-        Page<Post> posts = postRepository.searchPublicPosts(techStack, title, pageable);
-        return posts.map(this::mapToResponse);
+    public Slice<PostResponse> getAllPublicPostsSlice(Pageable pageable, String viewerId) {
+        return getAllPublicPostsSliceTagged(pageable, viewerId).body().get();
     }
 
-    public PostResponse updatePost(String id, PostRequest request, String userEmail) {
+    /**
+     * Slice of public posts with its ETag, computed like that of
+     * {@link #getAllPublicPostsTagged(Pageable, String)}.
+     */
+    public Tagged<Slice<PostResponse>> getAllPublicPostsSliceTagged(Pageable pageable, String viewerId) {
+        PublicFeedCache.Window window = cachedPublicFeed(pageable);
+        if (window != null) {
+            List<PostResponse> content = window.page(pageable.getOffset(), pageable.getPageSize());
+            boolean hasNext = pageable.getOffset() + pageable.getPageSize() < window.total();
+            Map<String, ReactionType> reactions = userReactions(content.stream().map(PostResponse::id).toList(),
+                    viewerId);
+            return new Tagged<>(feedETag(hasNext, content, post -> reactions.get(post.id())),
+                    () -> new SliceImpl<>(withUserReactions(content, reactions), pageable, hasNext));
+        }
+
+        Slice<Post> posts = postRepository.findSliceByVisibilityTrue(withIdTiebreak(pageable));
+        Slice<PostResponse> slice = posts.map(responseMapper(posts.getContent(), viewerId));
+        return Tagged.of(feedETag(slice.hasNext(), slice.getContent()), slice);
+    }
+
+    public Slice<PostResponse> getMyPostsSlice(String userEmail, Pageable pageable, String viewerId) {
+        Slice<Post> posts = postRepository.findSliceByUserId(userEmail, pageable);
+        return posts.map(responseMapper(posts.getContent(), viewerId));
+    }
+
+    /**
+     * Public posts after a cursor. Each page costs the same no matter how deep
+     * it is.
+     *
+     * @param cursor   cursor from the previous page; null or empty for the
+     *                 first page
+     * @param size     page size, capped at {@value #MAX_CURSOR_PAGE_SIZE}
+     * @param viewerId ID of the caller, whose own reaction is filled in
+     */
+    public CursorPage<PostResponse> getPublicPostsAfter(String cursor, int size, String viewerId) {
+        return pageAfter(cursor, size, viewerId, postRepository::findPublicPostsAfter);
+    }
+
+    /**
+     * The user's posts after a cursor.
+     *
+     * @see #getPublicPostsAfter(String, int, String)
+     */
+    public CursorPage<PostResponse> getMyPostsAfter(String userEmail, String cursor, int size, String viewerId) {
+        return pageAfter(cursor, size, viewerId,
+                (after, limit) -> postRepository.findUserPostsAfter(userEmail, after, limit));
+    }
+
+    /**
+     * The user's home timeline after a cursor: public posts of the authors
+     * they follow.
+     *
+     * @param viewerId ID of the timeline owner
+     * @see #getPublicPostsAfter(String, int, String)
+     */
+    public CursorPage<PostResponse> getHomeFeedAfter(String viewerId, String cursor, int size) {
+        return pageAfter(cursor, size, viewerId,
+                (after, limit) -> timelineService.findAfter(viewerId, after, limit));
+    }
+
+    /**
+     * Search public posts. The tech stack is matched as a tag, after being
+     * put in canonical form. The total comes from the count cache, as counting
+     * a regex search scans every public post.
+     */
+    public Page<PostResponse> searchPublicPosts(String techStack, String title, Pageable pageable, String viewerId) {
+        String tag = tagDictionary.canonical(techStack);
+        Slice<Post> posts = postRepository.searchPublicPosts(tag, title, pageable);
+        return PageableExecutionUtils.getPage(posts.getContent(), pageable,
+                () -> countCache.get(searchCountKey(tag, title),
+                        () -> postRepository.countPublicPosts(tag, title)))
+                .map(responseMapper(posts.getContent(), viewerId));
+    }
+
+    /**
+     * Full-text search of public posts, most relevant first, with recent posts
+     * ranked higher. Quotes and negation in the query are ignored; a post
+     * matches if it contains any of the words. The total comes from the count
+     * cache.
+     */
+    public Page<PostResponse> searchPublicPostsByText(String query, Pageable pageable, String viewerId) {
+        List<String> terms = SearchTerms.parse(query, searchProperties.maxTerms());
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Slice<Post> posts = postRepository.searchPublicPostsByText(terms, searchProperties.recencyHalfLife(),
+                searchProperties.recencyWeight(), pageable);
+        List<String> countKey = List.of("posts.text", String.join(" ", terms));
+        return PageableExecutionUtils.getPage(posts.getContent(), pageable,
+                () -> countCache.get(countKey, () -> postRepository.countPublicPostsByText(terms)))
+                .map(responseMapper(posts.getContent(), viewerId));
+    }
+
+    /**
+     * Public posts, newest first, as summaries. Only the summary fields are
+     * read from MongoDB; the first pages are served from the public feed
+     * cache.
+     *
+     * @see #getAllPublicPosts(Pageable, String)
+     */
+    public Page<PostSummary> getAllPublicPostSummaries(Pageable pageable, String viewerId) {
+        PublicFeedCache.Window window = cachedPublicFeed(pageable);
+        if (window != null) {
+            List<PostResponse> content = window.page(pageable.getOffset(), pageable.getPageSize());
+            Map<String, ReactionType> reactions = userReactions(content.stream().map(PostResponse::id).toList(),
+                    viewerId);
+            return new PageImpl<>(content.stream().map(post -> mapToSummary(post, reactions.get(post.id()))).toList(),
+                    pageable, window.total());
+        }
+
+        Page<Post> posts = postRepository.findPublicPostSummaries(pageable);
+        return posts.map(summaryMapper(posts.getContent(), viewerId));
+    }
+
+    public Page<PostSummary> getMyPostSummaries(String userEmail, Pageable pageable, String viewerId) {
+        Page<Post> posts = postRepository.findUserPostSummaries(userEmail, pageable);
+        return posts.map(summaryMapper(posts.getContent(), viewerId));
+    }
+
+    /**
+     * Search public posts as summaries. Only the summary fields are read from
+     * MongoDB.
+     *
+     * @see #searchPublicPosts(String, String, Pageable, String)
+     */
+    public Page<PostSummary> searchPublicPostSummaries(String techStack, String title, Pageable pageable,
+            String viewerId) {
+        String tag = tagDictionary.canonical(techStack);
+        Slice<Post> posts = postRepository.searchPublicPostSummaries(tag, title, pageable);
+        return PageableExecutionUtils.getPage(posts.getContent(), pageable,
+                () -> countCache.get(searchCountKey(tag, title),
+                        () -> postRepository.countPublicPosts(tag, title)))
+                .map(summaryMapper(posts.getContent(), viewerId));
+    }
+
+    public Slice<PostResponse> searchPublicPostsSlice(String techStack, String title, Pageable pageable,
+            String viewerId) {
+        Slice<Post> posts = postRepository.searchPublicPosts(tagDictionary.canonical(techStack), title, pageable);
+        return posts.map(responseMapper(posts.getContent(), viewerId));
+    }
+
+    /**
+     * The most used tags of public posts, with their post counts, from the
+     * in-memory tag counts.
+     */
+    public List<TagCount> getTopTags(int limit) {
+        return tagCounts.top(limit);
+    }
+
+    /**
+     * Titles and tags of public posts starting with a prefix, from the
+     * in-memory autocomplete index.
+     */
+    public Suggestions suggest(String prefix, int limit) {
+        return postSuggestions.suggest(prefix, limit);
+    }
+
+    /**
+     * A single post serialized as JSON. Public posts can be read by anyone,
+     * private ones only by their author. Served from the serialized post
+     * cache when it holds the post, with the viewer's reaction written into
+     * the cached JSON. The result must be closed once written out.
+     *
+     * @param userEmail email of the caller
+     * @param viewerId  ID of the caller, whose reaction is filled in; may be
+     *                  null
+     */
+    public PostJson getPostJson(String id, String userEmail, String viewerId) {
+        SerializedPostCache.Entry cached = serializedPostCache.get(id);
+        if (cached != null) {
+            try {
+                checkCanView(id, cached.visible(), cached.userId(), userEmail);
+                ReactionType reaction = userReaction(id, viewerId);
+                return PostJson.of(cached, reaction != null ? reactionJson.get(reaction) : null);
+            } catch (RuntimeException e) {
+                cached.close();
+                throw e;
+            }
+        }
+
+        long stamp = serializedPostCache.stamp(id);
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+        checkCanView(id, Boolean.TRUE.equals(post.getVisibility()), post.getUserId(), userEmail);
 
-        if (!post.getUserId().equals(userEmail)) {
-            throw new UnauthorizedAccessException("You are not authorized to update this post");
-        }
+        PostResponse response = mapToResponse(post);
+        byte[] json = toJson(id, response);
+        serializedPostCache.put(stamp, response, json);
+        ReactionType reaction = userReaction(id, viewerId);
+        return PostJson.of(reaction == null ? json : toJson(id, withUserReaction(response, reaction)));
+    }
 
-        post.setTitle(request.title());
-        post.setDescription(request.description());
-        post.setTechStack(request.techStack());
-        post.setVisibility(request.visibility());
+    /**
+     * Replace the editable fields of a post. Only fields that differ are
+     * written, and never the counters.
+     *
+     * @throws OptimisticLockingFailureException if the post was edited by
+     *                                           another request meanwhile
+     */
+    public PostResponse updatePost(String id, PostRequest request, String userEmail) {
+        Post post = findOwnPost(id, userEmail, "update");
+        return edit(post, post.getVersion(), request.title(), request.description(), request.techStack(),
+                request.visibility());
+    }
 
-        Post updatedPost = postRepository.save(post);
-        return mapToResponse(updatedPost);
+    /**
+     * Change some of the editable fields of a post, leaving the others as
+     * they are.
+     *
+     * @throws OptimisticLockingFailureException if the request names a version
+     *                                           the post is no longer at, or
+     *                                           the post was edited by another
+     *                                           request meanwhile
+     */
+    public PostResponse patchPost(String id, PostPatchRequest request, String userEmail) {
+        Post post = findOwnPost(id, userEmail, "update");
+        Long expectedVersion = request.version() != null ? request.version() : post.getVersion();
+        if (!Objects.equals(expectedVersion, post.getVersion())) {
+            throw new OptimisticLockingFailureException(staleVersionMessage(id));
+        }
+        return edit(post, expectedVersion, request.title(), request.description(), request.techStack(),
+                request.visibility());
     }
 
     public void deletePost(String id, String userEmail) {
+        Post post = findOwnPost(id, userEmail, "delete");
+
+        postRepository.delete(post);
+        serializedPostCache.invalidate(post.getId());
+        // Comments and reactions are purged in the background
+        postPurger.schedule(post.getId());
+        timelineService.retract(post);
+        tagCounts.changed(publicTags(post), List.of());
+        if (Boolean.TRUE.equals(post.getVisibility())) {
+            postSuggestions.removed(post.getTitle(), post.getTags());
+        }
+        publicFeedCache.deleted(post.getId(), Boolean.TRUE.equals(post.getVisibility()));
+    }
+
+    private static void checkCanView(String id, boolean visible, String authorEmail, String userEmail) {
+        if (!visible && !authorEmail.equals(userEmail)) {
+            throw new UnauthorizedAccessException("You are not authorized to view post " + id);
+        }
+    }
+
+    private ReactionType userReaction(String postId, String viewerId) {
+        return viewerId == null ? null : reactionService.getUserReaction(postId, viewerId).orElse(null);
+    }
+
+    private byte[] toJson(String id, PostResponse post) {
+        try {
+            return objectMapper.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize post " + id, e);
+        }
+    }
+
+    private Post findOwnPost(String id, String userEmail, String action) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
 
         if (!post.getUserId().equals(userEmail)) {
-            throw new UnauthorizedAccessException("You are not authorized to delete this post");
+            throw new UnauthorizedAccessException("You are not authorized to " + action + " this post");
         }
+        return post;
+    }
 
-        postRepository.delete(post);
+    /**
+     * Write the fields that differ from the post as read, at the expected
+     * version, and apply the change to timelines and in-memory views. Null
+     * fields are left unchanged.
+     */
+    private PostResponse edit(Post post, Long expectedVersion, String title, String description,
+            List<String> techStack, Boolean visibility) {
+        List<String> tags = techStack != null ? tagDictionary.canonical(techStack) : null;
+        PostRepositoryCustom.EditableFields changes = new PostRepositoryCustom.EditableFields(
+                changed(post.getTitle(), title),
+                changed(post.getDescription(), description),
+                changed(post.getTechStack(), techStack),
+                changed(post.getTags(), tags),
+                changed(post.getVisibility(), visibility));
+        if (changes.isEmpty()) {
+            return mapToResponse(post);
+        }
+
+        Post updatedPost = postRepository.updateEditableFields(post.getId(), expectedVersion, changes)
+                .orElseThrow(() -> new OptimisticLockingFailureException(staleVersionMessage(post.getId())));
+        serializedPostCache.invalidate(post.getId());
+
+        boolean wasPublic = Boolean.TRUE.equals(post.getVisibility());
+        boolean isPublic = Boolean.TRUE.equals(updatedPost.getVisibility());
+        List<String> tagsBefore = publicTags(post);
+        tagCounts.changed(tagsBefore, publicTags(updatedPost));
+        if (wasPublic) {
+            postSuggestions.removed(post.getTitle(), tagsBefore);
+        }
+        if (isPublic) {
+            postSuggestions.added(updatedPost.getTitle(), updatedPost.getTags());
+        }
+        // Timelines only hold public posts
+        if (wasPublic != isPublic) {
+            if (wasPublic) {
+                timelineService.retract(updatedPost);
+            } else {
+                timelineService.publish(updatedPost);
+            }
+        }
+
+        PostResponse response = mapToResponse(updatedPost);
+        publicFeedCache.updated(response, wasPublic);
+        return response;
     }
 
-    private PostResponse mapToResponse(Post post) {
-        return mapToResponse(post, null);
+    /**
+     * @return the new value if it differs from the current one, else null
+     */
+    private static <T> T changed(T current, T requested) {
+        return requested == null || requested.equals(current) ? null : requested;
+    }
+
+    private static String staleVersionMessage(String id) {
+        return "Post " + id + " was changed by another request; reload it and try again";
+    }
+
+    private CursorPage<PostResponse> pageAfter(String cursor, int size, String viewerId,
+            BiFunction<PostCursor, Integer, List<Post>> finder) {
+        PostCursor after = cursor == null || cursor.isEmpty() ? null : PostCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // One extra post tells whether there is a next page without counting
+        List<Post> posts = finder.apply(after, pageSize + 1);
+        String next = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            next = PostCursor.of(posts.get(pageSize - 1)).encode();
+        }
+        return new CursorPage<>(posts.stream().map(responseMapper(posts, viewerId)).toList(), next);
+    }
+
+    private static List<String> searchCountKey(String tag, String title) {
+        return List.of("posts.search", Objects.toString(tag, ""), Objects.toString(title, ""));
+    }
+
+    /**
+     * Tags the post counts under in the tag counts: its tags if it is public.
+     */
+    private static List<String> publicTags(Post post) {
+        if (!Boolean.TRUE.equals(post.getVisibility()) || post.getTags() == null) {
+            return List.of();
+        }
+        return post.getTags();
+    }
+
+    /**
+     * The public feed cache window if the page lies within it, loading the
+     * window if needed; null if the page must be read from MongoDB.
+     */
+    private PublicFeedCache.Window cachedPublicFeed(Pageable pageable) {
+        if (pageable.isUnpaged()
+                || !NEWEST_FIRST.equals(pageable.getSort())
+                || pageable.getOffset() + pageable.getPageSize() > publicFeedCache.capacity()) {
+            return null;
+        }
+        PublicFeedCache.Window window = publicFeedCache.get(
+                () -> postRepository.findPublicPostsAfter(null, publicFeedCache.capacity()).stream()
+                        .map(this::mapToResponse)
+                        .toList(),
+                postRepository::countByVisibilityTrue);
+        return window.covers(pageable.getOffset(), pageable.getPageSize()) ? window : null;
+    }
+
+    /**
+     * The page in the order of the cached window if it is sorted newest first.
+     */
+    private static Pageable withIdTiebreak(Pageable pageable) {
+        if (pageable.isUnpaged() || !NEWEST_FIRST.equals(pageable.getSort())) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST_BY_ID);
+    }
+
+    /**
+     * Strong ETag of a page of the feed: the page's total, cursor or
+     * {@code hasNext}, and of each post the fields that change when it is
+     * edited or its counters or the viewer's reaction change.
+     *
+     * @param pageState what the page says about the rest of the feed
+     * @param posts     the posts of the page, with the viewer's reactions
+     */
+    public static String feedETag(Object pageState, List<PostResponse> posts) {
+        return feedETag(pageState, posts, PostResponse::userReaction);
+    }
+
+    private static String feedETag(Object pageState, List<PostResponse> posts,
+            Function<PostResponse, ReactionType> userReaction) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(pageState);
+        for (PostResponse post : posts) {
+            parts.addAll(Arrays.asList(post.id(), post.version(), post.updatedAt(), post.visibility(),
+                    post.commentCount(), post.likeCount(), post.dislikeCount(), userReaction.apply(post)));
+        }
+        return ETags.of(parts);
     }
 
-    private PostResponse mapToResponse(Post post, String userId) {
-        ReactionType userReaction = null;
-        if (userId != null && reactionService != null) {
-            userReaction = reactionService.getUserReaction(post.getId(), userId)
-                    .orElse(null);
+    private static List<PostResponse> withUserReactions(List<PostResponse> posts,
+            Map<String, ReactionType> reactions) {
+        if (reactions.isEmpty()) {
+            return posts;
         }
+        return posts.stream()
+                .map(post -> withUserReaction(post, reactions.get(post.id())))
+                .toList();
+    }
+
+    private static PostResponse withUserReaction(PostResponse post, ReactionType userReaction) {
+        return new PostResponse(post.id(), post.title(), post.description(), post.techStack(), post.visibility(),
+                post.userId(), post.commentCount(), post.likeCount(), post.dislikeCount(), userReaction,
+                post.createdAt(), post.updatedAt(), post.version());
+    }
 
+    /**
+     * Maps a page of posts, filling in the viewer's reaction to each with a
+     * single query for the whole page.
+     */
+    private Function<Post, PostResponse> responseMapper(List<Post> posts, String viewerId) {
+        if (viewerId == null || posts.isEmpty()) {
+            return this::mapToResponse;
+        }
+        List<String> postIds = posts.stream().map(Post::getId).toList();
+        Map<String, ReactionType> reactions = reactionService.getUserReactions(postIds, viewerId);
+        return post -> mapToResponse(post, reactions.get(post.getId()));
+    }
+
+    /**
+     * Maps a page of posts to summaries, like
+     * {@link #responseMapper(List, String)}.
+     */
+    private Function<Post, PostSummary> summaryMapper(List<Post> posts, String viewerId) {
+        Map<String, ReactionType> reactions = userReactions(posts.stream().map(Post::getId).toList(), viewerId);
+        return post -> mapToSummary(post, reactions.get(post.getId()));
+    }
+
+    private Map<String, ReactionType> userReactions(List<String> postIds, String viewerId) {
+        if (viewerId == null || postIds.isEmpty()) {
+            return Map.of();
+        }
+        return reactionService.getUserReactions(postIds, viewerId);
+    }
+
+    private PostSummary mapToSummary(Post post, ReactionType userReaction) {
+        CounterChanges pending = postCounters.pending(post.getId());
+        return new PostSummary(
+                post.getId(),
+                post.getTitle(),
+                post.getTechStack(),
+                post.getUserId(),
+                withPending(post.getCommentCount(), pending.comments()),
+                withPending(post.getLikeCount(), pending.likes()),
+                withPending(post.getDislikeCount(), pending.dislikes()),
+                userReaction,
+                post.getCreatedAt());
+    }
+
+    private static PostSummary mapToSummary(PostResponse post, ReactionType userReaction) {
+        return new PostSummary(
+                post.id(),
+                post.title(),
+                post.techStack(),
+                post.userId(),
+                post.commentCount(),
+                post.likeCount(),
+                post.dislikeCount(),
+                userReaction,
+                post.createdAt());
+    }
+
+    private PostResponse mapToResponse(Post post) {
+        return mapToResponse(post, null);
+    }
+
+    /**
+     * Counter changes not yet written are added, so writers see their own.
+     */
+    private PostResponse mapToResponse(Post post, ReactionType userReaction) {
+        CounterChanges pending = postCounters.pending(post.getId());
         return new PostResponse(
                 post.getId(),
                 post.getTitle(),
@@ -99,11 +655,91 @@ public class PostService {
                 post.getTechStack(),
                 post.getVisibility(),
                 post.getUserId(),
-                post.getCommentCount(),
-                post.getLikeCount(),
-                post.getDislikeCount(),
+                withPending(post.getCommentCount(), pending.comments()),
+                withPending(post.getLikeCount(), pending.likes()),
+                withPending(post.getDislikeCount(), pending.dislikes()),
                 userReaction,
                 post.getCreatedAt(),
-                post.getUpdatedAt());
+                post.getUpdatedAt(),
+                post.getVersion());
+    }
+
+    private static Integer withPending(Integer stored, long pending) {
+        return pending == 0 ? stored : (int) ((stored != null ? stored : 0) + pending);
+    }
+
+    /**
+     * A response body with its ETag. The body is built when first asked for,
+     * which a request answered with 304 never does.
+     */
+    public record Tagged<T>(String eTag, Supplier<T> body) {
+
+        /**
+         * A body that is already built.
+         */
+        public static <T> Tagged<T> of(String eTag, T body) {
+            return new Tagged<>(eTag, () -> body);
+        }
+    }
+
+    /**
+     * A post serialized as JSON, possibly still in the serialized post cache.
+     * Close it once written out.
+     */
+    public interface PostJson extends AutoCloseable {
+
+        /**
+         * Number of bytes written.
+         */
+        int length();
+
+        void writeTo(OutputStream out) throws IOException;
+
+        @Override
+        void close();
+
+        /**
+         * JSON already on the heap.
+         */
+        static PostJson of(byte[] json) {
+            return new PostJson() {
+                @Override
+                public int length() {
+                    return json.length;
+                }
+
+                @Override
+                public void writeTo(OutputStream out) throws IOException {
+                    out.write(json);
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        /**
+         * A cached post with a viewer's reaction, which may be null, written
+         * into it.
+         */
+        private static PostJson of(SerializedPostCache.Entry cached, byte[] reaction) {
+            return new PostJson() {
+                @Override
+                public int length() {
+                    return cached.length(reaction);
+                }
+
+                @Override
+                public void writeTo(OutputStream out) throws IOException {
+                    cached.writeTo(out, reaction);
+                }
+
+                @Override
+                public void close() {
+                    cached.close();
+                }
+            };
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.SuggestProperties;
+import com.backend.devConnectBackend.dto.Suggestions;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.util.PrefixIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Prefix autocomplete over the titles and tags of public posts, answered from
+ * memory without querying MongoDB.
+ * <p>
+ * Titles and tags are held in two {@link PrefixIndex}es, each weighted by the
+ * number of public posts using it. The indexes are built in the background by
+ * streaming the public posts, and post writes made by this instance are
+ * applied as they happen. Writes made through other instances are picked up
+ * when the indexes are rebuilt, every {@code refreshInterval}. Until the first
+ * build finishes there are no suggestions.
+ */
+@Service
+public class PostSuggestions {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSuggestions.class);
+
+    private final PostRepository postRepository;
+    private final SuggestProperties properties;
+
+    private volatile Indexes indexes;
+    private volatile Indexes building;
+
+    public PostSuggestions(PostRepository postRepository, SuggestProperties properties) {
+        this.postRepository = postRepository;
+        this.properties = properties;
+        this.indexes = new Indexes(properties.maxSuggestions());
+    }
+
+    /**
+     * Titles and tags starting with a prefix, most used first.
+     *
+     * @param prefix what the user has typed; blank gives no suggestions
+     * @param limit  maximum number of titles, and of tags
+     */
+    public Suggestions suggest(String prefix, int limit) {
+        if (PrefixIndex.key(prefix).isEmpty()) {
+            return new Suggestions(List.of(), List.of());
+        }
+        Indexes current = indexes;
+        return new Suggestions(current.titles.top(prefix, limit), current.tags.top(prefix, limit));
+    }
+
+    /**
+     * Apply a public post that has been created, or an update that left a
+     * post public or made it public.
+     */
+    public void added(String title, Collection<String> tags) {
+        apply(title, tags, 1);
+    }
+
+    /**
+     * Apply a public post that has been deleted, or an update to a public
+     * post, passing its title and tags from before the change.
+     */
+    public void removed(String title, Collection<String> tags) {
+        apply(title, tags, -1);
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.suggest.refresh-interval:30m}")
+    public void refresh() {
+        Indexes fresh = new Indexes(properties.maxSuggestions());
+        // Writes made while the posts are streamed also go to the new indexes
+        building = fresh;
+        try (Stream<Post> posts = postRepository.streamPublicPostTitles()) {
+            for (Post post : (Iterable<Post>) posts::iterator) {
+                fresh.add(post.getTitle(), post.getTags(), 1);
+            }
+            indexes = fresh;
+            log.info("Post suggestions built with {} titles and {} tags", fresh.titles.size(), fresh.tags.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not build post suggestions", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private void apply(String title, Collection<String> tags, long delta) {
+        indexes.add(title, tags, delta);
+        Indexes inProgress = building;
+        if (inProgress != null) {
+            inProgress.add(title, tags, delta);
+        }
+    }
+
+    private static final class Indexes {
+
+        final PrefixIndex titles;
+        final PrefixIndex tags;
+
+        Indexes(int k) {
+            this.titles = new PrefixIndex(k);
+            this.tags = new PrefixIndex(k);
+        }
+
+        void add(String title, Collection<String> postTags, long delta) {
+            titles.add(title, delta);
+            if (postTags != null) {
+                postTags.forEach(tag -> tags.add(tag, delta));
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.PublicFeedCacheProperties;
+import com.backend.devConnectBackend.dto.PostResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The newest public posts, kept in memory as a sorted window.
+ * <p>
+ * Most feed traffic reads the first few pages, so pages that fall inside the
+ * window are served from here without querying MongoDB. Post writes made by
+ * this instance are applied to the window as they happen; the window is
+ * reloaded once it is older than the configured expiry, which bounds how long
+ * writes made by other instances go unseen.
+ * <p>
+ * The window always holds the newest {@code posts.size()} public posts with
+ * no gaps, so a post that would land past its end is not added. Readers never
+ * lock: every change publishes a new immutable window. An expired window is
+ * reloaded by one caller at a time; the others keep reading the expired one
+ * meanwhile. A load that raced with a post being added, changed or removed is
+ * not installed, while counter changes are applied to whichever window is
+ * current, so a load may miss the ones made while it ran until it is next
+ * reloaded. Hit and miss counts are published as the {@code cache.gets}
+ * metric with {@code cache=public-feed}.
+ */
+@Service
+public class PublicFeedCache implements MeterBinder {
+
+    static final String CACHE_NAME = "public-feed";
+
+    // Same order as the feed query, with the ID breaking ties
+    private static final Comparator<PostResponse> NEWEST_FIRST = Comparator.comparing(PostResponse::createdAt)
+            .thenComparing(PostResponse::id)
+            .reversed();
+
+    private final int capacity;
+    private final long expireAfterNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile Window window;
+    // Guarded by this; incremented by every write that changes which posts
+    // the window holds, so a load that raced with one is not installed
+    private long version;
+    // Guarded by this; the load in progress, if any
+    private CompletableFuture<Window> loading;
+
+    public PublicFeedCache(PublicFeedCacheProperties properties) {
+        this.capacity = Math.max(0, properties.size());
+        this.expireAfterNanos = properties.expireAfterWrite().toNanos();
+    }
+
+    /**
+     * Number of newest posts the window holds when full.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * The current window, loading it if it is missing or expired. While
+     * another caller loads it, an expired window is returned as it is and a
+     * missing one is waited for.
+     *
+     * @param newest newest {@link #capacity()} public posts, newest first
+     * @param count  number of public posts
+     */
+    public Window get(Supplier<List<PostResponse>> newest, LongSupplier count) {
+        Window current = window;
+        if (current != null && System.nanoTime() - current.loadedAt() < expireAfterNanos) {
+            hits.increment();
+            return current;
+        }
+
+        CompletableFuture<Window> load;
+        boolean loader;
+        long loadVersion;
+        synchronized (this) {
+            loader = loading == null;
+            if (loader) {
+                loading = new CompletableFuture<>();
+            }
+            load = loading;
+            loadVersion = version;
+        }
+        if (!loader) {
+            hits.increment();
+            return current != null ? current : await(load);
+        }
+        misses.increment();
+
+        Window loaded;
+        try {
+            loaded = new Window(List.copyOf(newest.get()), count.getAsLong(), System.nanoTime());
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading = null;
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            if (version == loadVersion) {
+                window = loaded;
+            }
+            loading = null;
+        }
+        load.complete(loaded);
+        return loaded;
+    }
+
+    /**
+     * Apply a newly created post.
+     */
+    public synchronized void created(PostResponse post) {
+        update(null, post, false);
+    }
+
+    /**
+     * Apply an updated post.
+     *
+     * @param wasPublic whether the post was public before the update
+     */
+    public synchronized void updated(PostResponse post, boolean wasPublic) {
+        update(post.id(), post, wasPublic);
+    }
+
+    /**
+     * Apply a deleted post.
+     *
+     * @param wasPublic whether the post was public
+     */
+    public synchronized void deleted(String postId, boolean wasPublic) {
+        update(postId, null, wasPublic);
+    }
+
+    /**
+     * Apply counter increments to a post, if it is in the window.
+     */
+    public synchronized void addToCounts(String postId, int comments, int likes, int dislikes) {
+        Window current = window;
+        if (current == null) {
+            return;
+        }
+        List<PostResponse> posts = new ArrayList<>(current.posts());
+        for (int i = 0; i < posts.size(); i++) {
+            PostResponse post = posts.get(i);
+            if (post.id().equals(postId)) {
+                posts.set(i, new PostResponse(post.id(), post.title(), post.description(), post.techStack(),
+                        post.visibility(), post.userId(), plus(post.commentCount(), comments),
+                        plus(post.likeCount(), likes), plus(post.dislikeCount(), dislikes), post.userReaction(),
+                        post.createdAt(), post.updatedAt(), post.version()));
+                window = current.with(posts, current.total());
+                return;
+            }
+        }
+    }
+
+    /**
+     * A counter plus a change; a counter missing from a legacy post counts as
+     * zero once it changes.
+     */
+    private static Integer plus(Integer count, int delta) {
+        return delta == 0 ? count : Objects.requireNonNullElse(count, 0) + delta;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(registry);
+    }
+
+    private static Window await(CompletableFuture<Window> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Replace, remove or add a post. Called holding the lock.
+     *
+     * @param removedId ID of the post to take out, if any
+     * @param added     post to put in, if any; only public posts are kept
+     * @param wasPublic whether the removed post counted as public
+     */
+    private void update(String removedId, PostResponse added, boolean wasPublic) {
+        version++;
+        Window current = window;
+        if (current == null) {
+            return;
+        }
+        boolean isPublic = added != null && Boolean.TRUE.equals(added.visibility());
+        if (isPublic && added.createdAt() == null) {
+            // Cannot place it; reload on the next read instead
+            window = null;
+            return;
+        }
+
+        List<PostResponse> posts = new ArrayList<>(current.posts());
+        if (removedId != null) {
+            posts.removeIf(post -> post.id().equals(removedId));
+        }
+        long total = current.total() + (isPublic ? 1 : 0) - (wasPublic ? 1 : 0);
+
+        if (isPublic) {
+            int position = 0;
+            while (position < posts.size() && NEWEST_FIRST.compare(posts.get(position), added) < 0) {
+                position++;
+            }
+            // Past the end of a partial window there may be posts not held here
+            if (position < posts.size() || current.isComplete()) {
+                posts.add(position, added);
+                if (posts.size() > capacity) {
+                    posts.remove(posts.size() - 1);
+                }
+            }
+        }
+        window = current.with(posts, total);
+    }
+
+    /**
+     * Snapshot of the newest public posts.
+     *
+     * @param posts    newest public posts, newest first
+     * @param total    number of public posts
+     * @param loadedAt {@link System#nanoTime()} of the load
+     */
+    public record Window(List<PostResponse> posts, long total, long loadedAt) {
+
+        /**
+         * Whether the window holds every public post.
+         */
+        boolean isComplete() {
+            return posts.size() >= total;
+        }
+
+        /**
+         * Whether a page of the feed can be served from the window alone.
+         */
+        public boolean covers(long offset, int size) {
+            return offset + size <= posts.size() || isComplete();
+        }
+
+        /**
+         * A page of the feed; only valid if {@link #covers(long, int)}.
+         */
+        public List<PostResponse> page(long offset, int size) {
+            int from = (int) Math.min(offset, posts.size());
+            int to = (int) Math.min(offset + size, posts.size());
+            return posts.subList(from, to);
+        }
+
+        Window with(List<PostResponse> newPosts, long newTotal) {
+            return new Window(List.copyOf(newPosts), newTotal, loadedAt);
+        }
+    }
+}
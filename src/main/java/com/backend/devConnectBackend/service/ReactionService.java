@@ -1,5 +1,6 @@
 package com.backend.devConnectBackend.service;
 
+import com.backend.devConnectBackend.config.ReactionCacheProperties;
 import com.backend.devConnectBackend.constants.ReactionType;
 import com.backend.devConnectBackend.dto.ReactionRequest;
 import com.backend.devConnectBackend.dto.ReactionResponse;
@@ -9,30 +10,59 @@ import com.backend.devConnectBackend.model.Reaction;
 import com.backend.devConnectBackend.model.User;
 import com.backend.devConnectBackend.repository.PostRepository;
 import com.backend.devConnectBackend.repository.ReactionRepository;
-import com.backend.devConnectBackend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Service layer for handling reaction business logic.
+ * <p>
+ * A user's reaction to a single post is read through a cache of recent
+ * lookups, which reactions toggled through this instance invalidate. Hit and
+ * miss counts are published as the {@code cache.*} metrics with
+ * {@code cache=user-reactions}.
  */
 @Service
-public class ReactionService {
+public class ReactionService implements MeterBinder {
+
+    static final String CACHE_NAME = "user-reactions";
 
     private final ReactionRepository reactionRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final PostCounters postCounters;
+    private final SerializedPostCache serializedPostCache;
+    private final Cache<UserPost, Optional<ReactionType>> userReactions;
 
     public ReactionService(ReactionRepository reactionRepository,
             PostRepository postRepository,
-            UserRepository userRepository) {
+            UserLookupService userLookupService,
+            PostCounters postCounters,
+            SerializedPostCache serializedPostCache,
+            ReactionCacheProperties cacheProperties) {
         this.reactionRepository = reactionRepository;
         this.postRepository = postRepository;
-        this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
+        this.postCounters = postCounters;
+        this.serializedPostCache = serializedPostCache;
+        this.userReactions = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .recordStats()
+                .build();
     }
 
     /**
@@ -41,22 +71,18 @@ public class ReactionService {
      * - If user has same reaction: Remove reaction
      * - If user has different reaction: Update to new reaction
      *
-     * @param postId    Post ID
-     * @param request   Reaction request with type
-     * @param userEmail Current user's email
+     * @param postId  Post ID
+     * @param request Reaction request with type
+     * @param user    Authenticated user, as resolved for the request
      * @return Optional containing ReactionResponse if created/updated, empty if
      *         removed
      */
     @Transactional
-    public Optional<ReactionResponse> toggleReaction(String postId, ReactionRequest request, String userEmail) {
+    public Optional<ReactionResponse> toggleReaction(String postId, ReactionRequest request, User user) {
         // Verify post exists
         postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
 
-        // Get current user
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         // Check if user already has a reaction on this post
         Optional<Reaction> existingReaction = reactionRepository.findByPostIdAndUserId(postId, user.getId());
 
@@ -69,10 +95,12 @@ public class ReactionService {
 
                 // Decrement the appropriate counter
                 if (request.type() == ReactionType.LIKE) {
-                    postRepository.incrementLikeCount(postId, -1);
+                    postCounters.addReactions(postId, -1, 0);
                 } else {
-                    postRepository.incrementDislikeCount(postId, -1);
+                    postCounters.addReactions(postId, 0, -1);
                 }
+                serializedPostCache.invalidate(postId);
+                userReactions.invalidate(new UserPost(user.getId(), postId));
 
                 return Optional.empty(); // Reaction removed
             }
@@ -84,12 +112,12 @@ public class ReactionService {
 
             // Update counters: decrement old, increment new
             if (oldType == ReactionType.LIKE) {
-                postRepository.incrementLikeCount(postId, -1);
-                postRepository.incrementDislikeCount(postId, 1);
+                postCounters.addReactions(postId, -1, 1);
             } else {
-                postRepository.incrementDislikeCount(postId, -1);
-                postRepository.incrementLikeCount(postId, 1);
+                postCounters.addReactions(postId, 1, -1);
             }
+            serializedPostCache.invalidate(postId);
+            userReactions.invalidate(new UserPost(user.getId(), postId));
 
             return Optional.of(mapToResponse(updated, user));
         }
@@ -104,10 +132,12 @@ public class ReactionService {
 
         // Increment the appropriate counter
         if (request.type() == ReactionType.LIKE) {
-            postRepository.incrementLikeCount(postId, 1);
+            postCounters.addReactions(postId, 1, 0);
         } else {
-            postRepository.incrementDislikeCount(postId, 1);
+            postCounters.addReactions(postId, 0, 1);
         }
+        serializedPostCache.invalidate(postId);
+        userReactions.invalidate(new UserPost(user.getId(), postId));
 
         return Optional.of(mapToResponse(saved, user));
     }
@@ -132,23 +162,58 @@ public class ReactionService {
             reactions = reactionRepository.findByPostId(postId, pageable);
         }
 
-        return reactions.map(reaction -> {
-            User user = userRepository.findById(reaction.getUserId())
-                    .orElse(null);
-            return mapToResponse(reaction, user);
-        });
+        return reactions.map(this::mapToResponse);
     }
 
     /**
-     * Get user's reaction for a specific post.
+     * Get reactions for a post without counting them.
+     *
+     * @param postId   Post ID
+     * @param type     Optional reaction type filter
+     * @param pageable Pagination parameters
+     * @return Slice of reaction responses
+     */
+    public Slice<ReactionResponse> getReactionsSlice(String postId, ReactionType type, Pageable pageable) {
+        postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+
+        Slice<Reaction> reactions = type != null
+                ? reactionRepository.findSliceByPostIdAndType(postId, type, pageable)
+                : reactionRepository.findSliceByPostId(postId, pageable);
+
+        return reactions.map(this::mapToResponse);
+    }
+
+    private ReactionResponse mapToResponse(Reaction reaction) {
+        User user = userLookupService.findById(reaction.getUserId())
+                .orElse(null);
+        return mapToResponse(reaction, user);
+    }
+
+    /**
+     * Get user's reaction for a specific post. Served from the cache when it
+     * was looked up recently; a reaction toggled through another instance
+     * shows once the cached one expires.
      *
      * @param postId Post ID
      * @param userId User ID
      * @return Optional containing the reaction type if user has reacted
      */
     public Optional<ReactionType> getUserReaction(String postId, String userId) {
-        return reactionRepository.findByPostIdAndUserId(postId, userId)
-                .map(Reaction::getType);
+        return userReactions.get(new UserPost(userId, postId),
+                key -> reactionRepository.findByPostIdAndUserId(postId, userId).map(Reaction::getType));
+    }
+
+    /**
+     * Get a user's reactions to several posts with one query.
+     *
+     * @param postIds Post IDs
+     * @param userId  User ID
+     * @return reaction type by post ID, for the posts the user has reacted to
+     */
+    public Map<String, ReactionType> getUserReactions(Collection<String> postIds, String userId) {
+        return reactionRepository.findByUserIdAndPostIdIn(userId, postIds).stream()
+                .collect(Collectors.toMap(Reaction::getPostId, Reaction::getType));
     }
 
     /**
@@ -164,4 +229,12 @@ public class ReactionService {
                 reaction.getCreatedAt(),
                 reaction.getUpdatedAt());
     }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userReactions, CACHE_NAME);
+    }
+
+    private record UserPost(String userId, String postId) {
+    }
 }
@@ -0,0 +1,141 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.JwtProperties;
+import com.backend.devConnectBackend.model.RefreshToken;
+import com.backend.devConnectBackend.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens.
+ * <p>
+ * Tokens are random and only their SHA-256 digest is stored. Each token can be
+ * exchanged once for a new one of the same family; presenting a token that was
+ * already exchanged means it leaked, so the whole family is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String TOKEN_DIGEST_ALGORITHM = "SHA-256";
+
+    private final RefreshTokenRepository repository;
+    private final Duration lifetime;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository repository, JwtProperties properties) {
+        this(repository, properties, Clock.systemUTC());
+    }
+
+    RefreshTokenService(RefreshTokenRepository repository, JwtProperties properties, Clock clock) {
+        this.repository = repository;
+        this.lifetime = properties.refreshTokenLifetime();
+        this.clock = clock;
+    }
+
+    /**
+     * Lifetime of a newly issued refresh token.
+     */
+    public Duration lifetime() {
+        return lifetime;
+    }
+
+    /**
+     * Issue the first refresh token of a new login.
+     *
+     * @param userId User ID
+     * @return the raw token to hand to the client
+     */
+    public String issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new one.
+     *
+     * @param token raw refresh token
+     * @return the user and the new token, or empty if the token is unknown,
+     *         expired or was already used
+     */
+    public Optional<Rotation> rotate(String token) {
+        String id = digest(token);
+        Optional<RefreshToken> marked = repository.markUsed(id);
+        if (marked.isEmpty()) {
+            repository.findById(id).ifPresent(reused -> {
+                log.warn("Refresh token reused, revoking token family of user {}", reused.getUserId());
+                repository.deleteByFamilyId(reused.getFamilyId());
+            });
+            return Optional.empty();
+        }
+
+        RefreshToken current = marked.get();
+        // Expired documents linger until the TTL monitor removes them
+        if (!current.getExpiresAt().isAfter(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(new Rotation(current.getUserId(), issue(current.getUserId(), current.getFamilyId())));
+    }
+
+    /**
+     * Revoke a refresh token and every token rotated from the same login.
+     *
+     * @param token raw refresh token
+     */
+    public void revoke(String token) {
+        repository.findById(digest(token))
+                .ifPresent(refreshToken -> repository.deleteByFamilyId(refreshToken.getFamilyId()));
+    }
+
+    /**
+     * Revoke every refresh token of a user.
+     *
+     * @param userId User ID
+     */
+    public void revokeAll(String userId) {
+        repository.deleteByUserId(userId);
+    }
+
+    private String issue(String userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        repository.save(new RefreshToken(digest(token), userId, familyId, clock.instant().plus(lifetime)));
+        return token;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(TOKEN_DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(TOKEN_DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Result of a successful rotation.
+     *
+     * @param userId       owner of the token
+     * @param refreshToken raw replacement token
+     */
+    public record Rotation(String userId, String refreshToken) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.EmailFilterProperties;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.util.BloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of registered emails, used to answer "definitely not
+ * registered" without querying MongoDB.
+ * <p>
+ * The filter is built in the background by streaming the users collection.
+ * Until the first build succeeds every email counts as possibly registered.
+ * Registrations on this instance are added immediately. Registrations on other
+ * instances are picked up every {@code refreshInterval} by reading users with
+ * a newer {@code _id} than the last one seen, so a user registered elsewhere
+ * is reported as not registered for at most that long. Once the filter has
+ * grown past its target false-positive rate it is rebuilt at a larger size.
+ */
+@Service
+public class RegisteredEmailFilter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RegisteredEmailFilter.class);
+
+    // ObjectIds are generated client side; tolerate clock skew between instances
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
+
+    private final UserRepository userRepository;
+    private final EmailFilterProperties properties;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    private volatile boolean ready;
+    private volatile ObjectId watermark;
+
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder possiblyPresent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public RegisteredEmailFilter(UserRepository userRepository, EmailFilterProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.filter = BloomFilter.create(properties.expectedUsers(), properties.falsePositiveProbability());
+    }
+
+    /**
+     * @return false only if no user with this email exists, or one was
+     *         registered through another instance since the last refresh
+     */
+    public boolean mightBeRegistered(String email) {
+        if (!ready) {
+            return true;
+        }
+        if (filter.mightContain(email)) {
+            possiblyPresent.increment();
+            return true;
+        }
+        definitelyAbsent.increment();
+        return false;
+    }
+
+    /**
+     * Record that an email reported as possibly registered was not found.
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Add the email of a user that has just been saved.
+     */
+    public void add(String email) {
+        filter.put(email);
+        BloomFilter inProgress = building;
+        if (inProgress != null) {
+            inProgress.put(email);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.email-filter.refresh-interval:2s}")
+    public void refresh() {
+        try {
+            if (!ready || filter.expectedFalsePositiveProbability() > properties.falsePositiveProbability()) {
+                rebuild();
+            } else {
+                watermark = newest(watermark, load(filter, overlapping(watermark)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh registered email filter", e);
+        }
+    }
+
+    /**
+     * Observed share of lookups for unregistered emails that the filter let
+     * through to MongoDB.
+     */
+    public double observedFalsePositiveRate() {
+        double negatives = definitelyAbsent.sum() + falsePositives.sum();
+        return negatives == 0 ? 0 : falsePositives.sum() / negatives;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("auth.email_filter.lookups", definitelyAbsent, LongAdder::sum)
+                .tag("result", "absent")
+                .register(registry);
+        FunctionCounter.builder("auth.email_filter.lookups", possiblyPresent, LongAdder::sum)
+                .tag("result", "possibly_present")
+                .register(registry);
+        FunctionCounter.builder("auth.email_filter.false_positives", falsePositives, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("auth.email_filter.false_positive_rate", this, RegisteredEmailFilter::observedFalsePositiveRate)
+                .tag("kind", "observed")
+                .register(registry);
+        Gauge.builder("auth.email_filter.false_positive_rate", this, f -> f.filter.expectedFalsePositiveProbability())
+                .tag("kind", "expected")
+                .register(registry);
+    }
+
+    private void rebuild() {
+        long expected = Math.max(properties.expectedUsers(), filter.insertions() * 2);
+        BloomFilter fresh = BloomFilter.create(expected, properties.falsePositiveProbability());
+        // Registrations saved while the collection is streamed also go to the new filter
+        building = fresh;
+        try {
+            ObjectId last = load(fresh, null);
+            filter = fresh;
+            watermark = last;
+            ready = true;
+            log.info("Registered email filter built with {} users", fresh.insertions());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * @return the newest user ID seen, or null if there was none
+     */
+    private ObjectId load(BloomFilter target, ObjectId after) {
+        ObjectId last = null;
+        try (Stream<User> users = userRepository.streamEmails(after)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                // Refreshes re-read the overlap; counting those emails again
+                // would inflate the estimated false-positive rate and force
+                // needless rebuilds
+                if (user.getEmail() != null && !target.mightContain(user.getEmail())) {
+                    target.put(user.getEmail());
+                }
+                if (ObjectId.isValid(user.getId())) {
+                    last = newest(last, new ObjectId(user.getId()));
+                }
+            }
+        }
+        return last;
+    }
+
+    private static ObjectId newest(ObjectId a, ObjectId b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.compareTo(a) > 0 ? b : a;
+    }
+
+    private static ObjectId overlapping(ObjectId watermark) {
+        if (watermark == null) {
+            return null;
+        }
+        long seconds = Math.max(0, watermark.getTimestamp() - WATERMARK_OVERLAP.toSeconds());
+        return new ObjectId(String.format("%08x%016x", seconds, 0));
+    }
+}
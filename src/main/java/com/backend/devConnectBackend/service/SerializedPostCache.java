@@ -0,0 +1,211 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.SerializedPostCacheProperties;
+import com.backend.devConnectBackend.dto.PostResponse;
+import com.backend.devConnectBackend.util.OffHeapLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single posts, kept as the JSON they are served as, outside the heap.
+ * <p>
+ * A hit is written to the client straight from off-heap memory, without
+ * mapping the post or serializing it again. Each entry keeps the post's
+ * visibility and author next to the JSON, so access can be checked without
+ * reading the post, and where its {@code userReaction} is, so a viewer's
+ * reaction can be written in its place. Edits, deletions and counter changes
+ * made by this instance remove
+ * the post's entry; entries expire after the configured time, which bounds
+ * how long writes made by other instances go unseen.
+ * <p>
+ * Hit and miss counts are published as the {@code cache.gets} metric with
+ * {@code cache=serialized-post}, along with the entry count and evictions.
+ */
+@Service
+public class SerializedPostCache implements MeterBinder {
+
+    static final String CACHE_NAME = "serialized-post";
+
+    // How a post without a viewer's reaction serializes it; never found inside
+    // a string value, where the quotes would be escaped
+    private static final byte[] NO_REACTION = "\"userReaction\":null".getBytes(StandardCharsets.UTF_8);
+    private static final int NULL_LENGTH = "null".length();
+
+    // Invalidation stamps are kept per stripe of post IDs rather than per post
+    private static final int STRIPES = 256;
+
+    private final OffHeapLruCache<Metadata> cache;
+    private final long expireAfterNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Guarded by this; a stripe's stamp is incremented by every invalidation
+    // of a post in it, so a load that raced with a write is not stored
+    private final long[] stamps = new long[STRIPES];
+
+    public SerializedPostCache(SerializedPostCacheProperties properties) {
+        this.cache = new OffHeapLruCache<>(properties.capacity().toBytes(),
+                (int) properties.blockSize().toBytes(), (int) properties.maxEntrySize().toBytes());
+        this.expireAfterNanos = properties.expireAfterWrite().toNanos();
+    }
+
+    /**
+     * The cached post, or null if it is missing or expired. The entry must be
+     * closed once written out.
+     */
+    public Entry get(String postId) {
+        OffHeapLruCache.Value<Metadata> value = cache.get(postId);
+        if (value != null && System.nanoTime() - value.metadata().storedAt() >= expireAfterNanos) {
+            value.close();
+            value = null;
+        }
+        if (value == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new Entry(value);
+    }
+
+    /**
+     * Stamp to pass to {@link #put(long, PostResponse, byte[])}; take it
+     * before reading the post.
+     */
+    public synchronized long stamp(String postId) {
+        return stamps[stripe(postId)];
+    }
+
+    /**
+     * Cache a post read after the stamp was taken, unless it has been
+     * invalidated since. A post whose JSON has no null {@code userReaction}
+     * is not cached.
+     *
+     * @param json the post serialized, without a viewer's reaction
+     */
+    public void put(long stamp, PostResponse post, byte[] json) {
+        int reactionAt = reactionOffset(json);
+        if (reactionAt < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (stamps[stripe(post.id())] == stamp) {
+                cache.put(post.id(), new Metadata(Boolean.TRUE.equals(post.visibility()), post.userId(), reactionAt,
+                        System.nanoTime()), json);
+            }
+        }
+    }
+
+    /**
+     * Offset of the {@code null} of the {@code userReaction} field in a post's
+     * JSON, or -1 if it has none.
+     */
+    private static int reactionOffset(byte[] json) {
+        for (int i = 0; i <= json.length - NO_REACTION.length; i++) {
+            if (Arrays.equals(json, i, i + NO_REACTION.length, NO_REACTION, 0, NO_REACTION.length)) {
+                return i + NO_REACTION.length - NULL_LENGTH;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Drop a post after it was written. Call after the write.
+     */
+    public synchronized void invalidate(String postId) {
+        stamps[stripe(postId)]++;
+        cache.remove(postId);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, OffHeapLruCache::evictions)
+                .tags("cache", CACHE_NAME)
+                .register(registry);
+        Gauge.builder("cache.size", cache, OffHeapLruCache::size)
+                .tags("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    private static int stripe(String postId) {
+        return Math.floorMod(postId.hashCode(), STRIPES);
+    }
+
+    /**
+     * A cached post, serialized without a viewer's reaction. Its memory is not
+     * reused until it is closed.
+     */
+    public static final class Entry implements AutoCloseable {
+
+        private final OffHeapLruCache.Value<Metadata> value;
+
+        private Entry(OffHeapLruCache.Value<Metadata> value) {
+            this.value = value;
+        }
+
+        /**
+         * Whether the post is public.
+         */
+        public boolean visible() {
+            return value.metadata().visible();
+        }
+
+        /**
+         * Email of the author.
+         */
+        public String userId() {
+            return value.metadata().userId();
+        }
+
+        /**
+         * Length of the JSON once the given reaction is written into it.
+         *
+         * @param reaction the reaction serialized as JSON; null for none
+         */
+        public int length(byte[] reaction) {
+            return value.length() + (reaction != null ? reaction.length - NULL_LENGTH : 0);
+        }
+
+        /**
+         * Write the JSON with the given reaction in place of {@code null}.
+         *
+         * @param reaction the reaction serialized as JSON; null for none
+         */
+        public void writeTo(OutputStream out, byte[] reaction) throws IOException {
+            if (reaction == null) {
+                value.writeTo(out);
+                return;
+            }
+            int reactionAt = value.metadata().reactionAt();
+            value.writeTo(out, 0, reactionAt);
+            out.write(reaction);
+            value.writeTo(out, reactionAt + NULL_LENGTH, value.length());
+        }
+
+        @Override
+        public void close() {
+            value.close();
+        }
+    }
+
+    /**
+     * @param reactionAt offset of the {@code null} of {@code userReaction}
+     */
+    private record Metadata(boolean visible, String userId, int reactionAt, long storedAt) {
+    }
+}
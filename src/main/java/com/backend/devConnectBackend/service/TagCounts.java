@@ -0,0 +1,148 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.TagProperties;
+import com.backend.devConnectBackend.dto.TagCount;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Number of public posts per tag, kept in memory so the tag facet never
+ * queries MongoDB.
+ * <p>
+ * Counts are loaded in the background by grouping the public posts by tag,
+ * and post writes made by this instance are applied as they happen. Writes
+ * made through other instances are picked up when the counts are reloaded,
+ * every {@code refreshInterval}. Writes made during a reload go to both the
+ * old and the new counts, so one already seen by the reload is counted twice
+ * until the next one.
+ * <p>
+ * The first refresh also tags posts saved before tags existed.
+ */
+@Service
+public class TagCounts {
+
+    static final int MAX_LIMIT = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(TagCounts.class);
+
+    private static final Comparator<TagCount> MOST_USED_FIRST = Comparator.comparingLong(TagCount::count)
+            .reversed()
+            .thenComparing(TagCount::tag);
+
+    private final PostRepository postRepository;
+    private final TagDictionary tagDictionary;
+    private final TagProperties properties;
+
+    private volatile Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private volatile Map<String, LongAdder> building;
+    private volatile boolean backfilled;
+
+    public TagCounts(PostRepository postRepository, TagDictionary tagDictionary, TagProperties properties) {
+        this.postRepository = postRepository;
+        this.tagDictionary = tagDictionary;
+        this.properties = properties;
+    }
+
+    /**
+     * The most used tags, most used first.
+     *
+     * @param limit maximum number of tags, capped at {@value #MAX_LIMIT}
+     */
+    public List<TagCount> top(int limit) {
+        return counts.entrySet().stream()
+                .map(entry -> new TagCount(entry.getKey(), entry.getValue().sum()))
+                .filter(tag -> tag.count() > 0)
+                .sorted(MOST_USED_FIRST)
+                .limit(Math.max(0, Math.min(limit, MAX_LIMIT)))
+                .toList();
+    }
+
+    /**
+     * Apply a change to the public tags of a post. Pass an empty collection
+     * for a post that is, or was, private or missing.
+     *
+     * @param before tags the post was counted under
+     * @param after  tags the post is now counted under
+     */
+    public void changed(Collection<String> before, Collection<String> after) {
+        Set<String> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        removed.forEach(tag -> add(tag, -1));
+        added.forEach(tag -> add(tag, 1));
+    }
+
+    @Scheduled(fixedDelayString = "${devconnect.tags.refresh-interval:15m}")
+    public void refresh() {
+        try {
+            if (!backfilled) {
+                backfill();
+                backfilled = true;
+            }
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh tag counts", e);
+        }
+    }
+
+    private void add(String tag, long delta) {
+        counts.computeIfAbsent(tag, key -> new LongAdder()).add(delta);
+        Map<String, LongAdder> inProgress = building;
+        if (inProgress != null) {
+            inProgress.computeIfAbsent(tag, key -> new LongAdder()).add(delta);
+        }
+    }
+
+    private void reload() {
+        Map<String, LongAdder> fresh = new ConcurrentHashMap<>();
+        // Writes made while the posts are grouped also go to the new counts
+        building = fresh;
+        try {
+            postRepository.countPublicPostsByTag()
+                    .forEach((tag, count) -> fresh.computeIfAbsent(tag, key -> new LongAdder()).add(count));
+            counts = fresh;
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Tag the posts that have no tags field yet, one batch at a time.
+     */
+    private void backfill() {
+        Map<String, List<String>> batch = new LinkedHashMap<>();
+        long tagged = 0;
+        try (Stream<Post> posts = postRepository.streamPostsWithoutTags()) {
+            for (Post post : (Iterable<Post>) posts::iterator) {
+                batch.put(post.getId(), tagDictionary.canonical(post.getTechStack()));
+                if (batch.size() >= properties.backfillBatchSize()) {
+                    tagged += postRepository.setTagsIfMissing(batch);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            tagged += postRepository.setTagsIfMissing(batch);
+        }
+        if (tagged > 0) {
+            log.info("Tagged {} posts saved before tags existed", tagged);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.TagProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of tech stack tags, so "Java", "java " and "JAVA" are one
+ * tag.
+ * <p>
+ * A tag is trimmed, lower-cased and its inner whitespace collapsed, then
+ * common alternative spellings are mapped to one name. Configured aliases are
+ * added to the built-in ones and take precedence over them.
+ */
+@Service
+public class TagDictionary {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> BUILT_IN_ALIASES = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("golang", "go"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("node", "node.js"),
+            Map.entry("nodejs", "node.js"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("springboot", "spring boot"),
+            Map.entry("spring-boot", "spring boot"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("mongo", "mongodb"));
+
+    private final Map<String, String> aliases;
+
+    public TagDictionary(TagProperties properties) {
+        Map<String, String> merged = new HashMap<>(BUILT_IN_ALIASES);
+        if (properties.aliases() != null) {
+            properties.aliases().forEach((alias, tag) -> {
+                String from = normalize(alias);
+                String to = normalize(tag);
+                if (from != null && to != null) {
+                    merged.put(from, to);
+                }
+            });
+        }
+        this.aliases = Map.copyOf(merged);
+    }
+
+    /**
+     * @return the canonical tag, or null if the tag is blank
+     */
+    public String canonical(String tag) {
+        String normalized = normalize(tag);
+        return normalized == null ? null : aliases.getOrDefault(normalized, normalized);
+    }
+
+    /**
+     * Canonical tags of a tech stack, without blanks or duplicates, in their
+     * original order.
+     */
+    public List<String> canonical(Collection<String> techStack) {
+        if (techStack == null) {
+            return new ArrayList<>();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (String tag : techStack) {
+            String canonical = canonical(tag);
+            if (canonical != null) {
+                tags.add(canonical);
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    private static String normalize(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(tag.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,297 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.TimelineProperties;
+import com.backend.devConnectBackend.model.Follow;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.model.TimelineBucket;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.FollowRepository;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.TimelineRepository;
+import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.util.PostCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Home timelines: the public posts of the authors a user follows, newest
+ * first.
+ * <p>
+ * Posts of most authors are written into each follower's timeline when they
+ * are published (fan-out on write), so reading a timeline touches only the
+ * reader's own buckets. Writing into every follower's timeline does not scale
+ * for authors with very many followers, so posts of authors at or above the
+ * pull threshold are not fanned out; they are read from the posts collection
+ * and merged in when a timeline is served (fan-out on read).
+ * <p>
+ * Fan-out runs on a dedicated, bounded pool so publishing a post costs the
+ * same however many followers its author has. When the queue is full the
+ * job is dropped and logged; the post itself is unaffected.
+ */
+@Service
+public class TimelineService implements MeterBinder {
+
+    static final String EXECUTOR_NAME = "timeline-fan-out";
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineService.class);
+
+    private static final Comparator<Post> NEWEST_FIRST = Comparator.comparing(Post::getCreatedAt)
+            .thenComparing(Post::getId)
+            .reversed();
+
+    private final TimelineRepository timelineRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final TimelineProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public TimelineService(TimelineRepository timelineRepository, FollowRepository followRepository,
+            PostRepository postRepository, UserRepository userRepository, TimelineProperties properties) {
+        this.timelineRepository = timelineRepository;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.poolSize(), properties.poolSize(), 0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queue delivery of a newly published post to its author's followers.
+     * Private posts are not delivered.
+     */
+    public void publish(Post post) {
+        if (Boolean.TRUE.equals(post.getVisibility())) {
+            submit("publish post " + post.getId(), () -> fanOut(post));
+        }
+    }
+
+    /**
+     * Queue removal of a post from every timeline.
+     */
+    public void retract(Post post) {
+        submit("retract post " + post.getId(), () -> timelineRepository.pullPost(post.getId()));
+    }
+
+    /**
+     * Queue removal of an author's posts from a user's timeline after the user
+     * stopped following them.
+     *
+     * @param userId   User ID of the follower
+     * @param authorId User ID of the author
+     */
+    public void unfollowed(String userId, String authorId) {
+        submit("unfollow " + authorId, () -> timelineRepository.pullAuthor(userId, authorId));
+    }
+
+    /**
+     * Posts of a user's timeline older than the cursor, newest first.
+     *
+     * @param userId User ID of the timeline owner
+     * @param after  position of the last post seen; null for the first page
+     * @param limit  maximum number of posts
+     */
+    public List<Post> findAfter(String userId, PostCursor after, int limit) {
+        List<Post> pushed = pushedPosts(userId, after, limit);
+        List<String> pulledAuthors = pulledAuthorsFollowedBy(userId);
+        List<Post> pulled = pulledAuthors.isEmpty()
+                ? List.of()
+                : postRepository.findPublicPostsOfUsersAfter(pulledAuthors, after, limit);
+
+        return merge(pushed, pulled, limit);
+    }
+
+    /**
+     * Write a post into the timeline of each follower of its author, one batch
+     * of followers at a time.
+     */
+    void fanOut(Post post) {
+        // Read directly rather than from the user cache: the follower count
+        // must agree with the one timelines are served with
+        User author = userRepository.findByEmail(post.getUserId()).orElse(null);
+        if (author == null || author.getFollowerCount() >= properties.pullThreshold()) {
+            return;
+        }
+
+        TimelineBucket.Entry entry = TimelineBucket.Entry.of(post, author.getId());
+        Limit batchSize = Limit.of(properties.fanOutBatchSize());
+        String lastFollowerId = "";
+        List<Follow> batch;
+        do {
+            batch = followRepository.findByFolloweeIdAndFollowerIdGreaterThanOrderByFollowerIdAsc(
+                    author.getId(), lastFollowerId, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            timelineRepository.push(batch.stream().map(Follow::getFollowerId).toList(), entry);
+            lastFollowerId = batch.get(batch.size() - 1).getFollowerId();
+        } while (batch.size() == properties.fanOutBatchSize());
+    }
+
+    /**
+     * Emails of the authors at or above the pull threshold that a user
+     * follows. There are few such authors, so they are looked up first rather
+     * than every author the user follows.
+     */
+    private List<String> pulledAuthorsFollowedBy(String userId) {
+        Map<String, String> emailsById = userRepository.findWithFollowersAtLeast(properties.pullThreshold())
+                .stream()
+                .filter(user -> user.getEmail() != null)
+                .collect(Collectors.toMap(User::getId, User::getEmail));
+        if (emailsById.isEmpty()) {
+            return List.of();
+        }
+        return followRepository.findByFollowerIdAndFolloweeIdIn(userId, emailsById.keySet()).stream()
+                .map(follow -> emailsById.get(follow.getFolloweeId()))
+                .toList();
+    }
+
+    /**
+     * Visible posts of the user's buckets older than the cursor, newest first.
+     * Entries of posts deleted or made private since they were fanned out are
+     * skipped and more are read in their place, so a page is only short at
+     * the end of the timeline.
+     */
+    private List<Post> pushedPosts(String userId, PostCursor after, int limit) {
+        List<Post> posts = new ArrayList<>(limit);
+        PostCursor from = after;
+        while (posts.size() < limit) {
+            int wanted = limit - posts.size();
+            List<TimelineBucket.Entry> entries = pushedEntries(userId, from, wanted);
+            posts.addAll(loadPosts(entries));
+            if (entries.size() < wanted) {
+                break;
+            }
+            TimelineBucket.Entry last = entries.get(entries.size() - 1);
+            from = new PostCursor(last.createdAt(), last.postId());
+        }
+        return posts;
+    }
+
+    /**
+     * Entries of the user's buckets older than the cursor, newest first,
+     * reading a few days at a time until there are enough.
+     */
+    private List<TimelineBucket.Entry> pushedEntries(String userId, PostCursor after, int limit) {
+        List<TimelineBucket.Entry> entries = new ArrayList<>(limit);
+        LocalDate day = after != null ? after.createdAt().toLocalDate() : null;
+        Limit bucketsPerRead = Limit.of(properties.bucketsPerRead());
+
+        while (entries.size() < limit) {
+            List<TimelineBucket> buckets = day == null
+                    ? timelineRepository.findByUserIdOrderByDayDesc(userId, bucketsPerRead)
+                    : timelineRepository.findByUserIdAndDayLessThanEqualOrderByDayDesc(userId, day, bucketsPerRead);
+            for (TimelineBucket bucket : buckets) {
+                for (TimelineBucket.Entry entry : bucket.getEntries()) {
+                    if (after == null || isOlder(entry, after)) {
+                        entries.add(entry);
+                    }
+                }
+            }
+            if (buckets.size() < properties.bucketsPerRead()) {
+                break;
+            }
+            day = buckets.get(buckets.size() - 1).getDay().minusDays(1);
+        }
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private static boolean isOlder(TimelineBucket.Entry entry, PostCursor after) {
+        int byTime = entry.createdAt().compareTo(after.createdAt());
+        return byTime < 0 || (byTime == 0 && entry.postId().compareTo(after.id()) < 0);
+    }
+
+    /**
+     * Posts of the entries in entry order. Posts deleted or made private since
+     * they were fanned out are left out.
+     */
+    private List<Post> loadPosts(List<TimelineBucket.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Post> posts = postRepository.findAllById(entries.stream().map(TimelineBucket.Entry::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return entries.stream()
+                .map(entry -> posts.get(entry.postId()))
+                .filter(post -> post != null && Boolean.TRUE.equals(post.getVisibility()))
+                .toList();
+    }
+
+    /**
+     * Merge two newest-first lists. A post can be in both while its author
+     * crosses the pull threshold; it is kept once.
+     */
+    private static List<Post> merge(List<Post> pushed, List<Post> pulled, int limit) {
+        if (pulled.isEmpty()) {
+            return pushed;
+        }
+        List<Post> merged = new ArrayList<>(Math.min(limit, pushed.size() + pulled.size()));
+        Set<String> seen = new HashSet<>();
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < pushed.size() || j < pulled.size())) {
+            Post next;
+            if (j >= pulled.size() || (i < pushed.size() && NEWEST_FIRST.compare(pushed.get(i), pulled.get(j)) <= 0)) {
+                next = pushed.get(i++);
+            } else {
+                next = pulled.get(j++);
+            }
+            if (seen.add(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(String description, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Timeline job failed: {}", description, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Timeline queue full, dropped: {}", description);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.UserImportProperties;
+import com.backend.devConnectBackend.dto.RegisterRequest;
+import com.backend.devConnectBackend.dto.UserImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users from newline-delimited JSON, one {@link RegisterRequest} per
+ * line.
+ * <p>
+ * Lines are read, validated and registered in fixed-size batches, and the
+ * result of every line is written out as soon as its batch completes, so an
+ * import holds at most one batch in memory whatever the size of the file.
+ * Invalid lines are reported immediately and may therefore appear ahead of
+ * earlier lines still waiting in the batch.
+ */
+@Service
+public class UserImportService {
+
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserImportProperties properties;
+
+    public UserImportService(AuthService authService, ObjectMapper objectMapper, Validator validator,
+            UserImportProperties properties) {
+        this.authService = authService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    /**
+     * Import users and stream one {@link UserImportResult} per non-blank line.
+     *
+     * @param in  NDJSON registration requests
+     * @param out receives NDJSON results
+     */
+    public void importUsers(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<RegisterRequest> batch = new ArrayList<>(properties.batchSize());
+        List<Long> batchLines = new ArrayList<>(properties.batchSize());
+
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            RegisterRequest request;
+            try {
+                request = objectMapper.readValue(line, RegisterRequest.class);
+            } catch (JsonProcessingException e) {
+                write(out, new UserImportResult(lineNumber, null, UserImportResult.Status.INVALID, "Malformed JSON"));
+                continue;
+            }
+
+            Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                write(out, new UserImportResult(lineNumber, request.email(), UserImportResult.Status.INVALID, message));
+                continue;
+            }
+
+            batch.add(request);
+            batchLines.add(lineNumber);
+            if (batch.size() == properties.batchSize()) {
+                flush(batch, batchLines, out);
+            }
+        }
+        flush(batch, batchLines, out);
+    }
+
+    private void flush(List<RegisterRequest> batch, List<Long> batchLines, OutputStream out) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<UserImportResult.Status> statuses = authService.registerAll(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            UserImportResult.Status status = statuses.get(i);
+            write(out, new UserImportResult(batchLines.get(i), batch.get(i).email(), status, messageOf(status)));
+        }
+        out.flush();
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private void write(OutputStream out, UserImportResult result) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(result));
+        out.write('\n');
+    }
+
+    private static String messageOf(UserImportResult.Status status) {
+        return switch (status) {
+            case CREATED -> null;
+            case DUPLICATE -> "User already exists!";
+            case INVALID, FAILED -> "User could not be saved";
+        };
+    }
+}
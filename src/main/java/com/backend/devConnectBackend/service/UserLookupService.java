@@ -0,0 +1,118 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.UserCacheProperties;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Read-through cache of users, indexed by both id and email.
+ * <p>
+ * Users are held once, keyed by id, in a size-bounded cache with TinyLFU
+ * admission so a burst of one-off lookups cannot push out the active users. A
+ * second index maps email to id and is cleaned up when a user is evicted.
+ * Writes to a user must go through {@link #evictById(String)} or
+ * {@link #evictByEmail(String)}. Hit and miss counts are published as the
+ * {@code cache.*} metrics with {@code cache=users}.
+ */
+@Service
+public class UserLookupService implements MeterBinder {
+
+    static final String CACHE_NAME = "users";
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> usersById;
+    private final Cache<String, String> idsByEmail;
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+
+    public UserLookupService(UserRepository userRepository, UserCacheProperties properties) {
+        this.userRepository = userRepository;
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats(() -> stats)
+                .removalListener((String id, User user, RemovalCause cause) -> {
+                    if (user != null && cause.wasEvicted()) {
+                        idsByEmail.asMap().remove(user.getEmail(), id);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Find a user by id, loading it from MongoDB on a miss.
+     * Unknown ids are not cached.
+     */
+    public Optional<User> findById(String id) {
+        return Optional.ofNullable(usersById.get(id, key -> userRepository.findById(key).orElse(null)));
+    }
+
+    /**
+     * Find a user by email, loading it from MongoDB on a miss.
+     * Unknown emails are not cached.
+     */
+    public Optional<User> findByEmail(String email) {
+        String id = idsByEmail.getIfPresent(email);
+        if (id == null) {
+            stats.recordMisses(1);
+        } else {
+            User cached = usersById.getIfPresent(id);
+            if (cached != null && email.equals(cached.getEmail())) {
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    /**
+     * Drop a user from the cache after it has been written.
+     *
+     * @param id User ID
+     */
+    public void evictById(String id) {
+        User user = usersById.asMap().remove(id);
+        if (user != null) {
+            idsByEmail.asMap().remove(user.getEmail(), id);
+        }
+    }
+
+    /**
+     * Drop a user from the cache after it has been written.
+     *
+     * @param email User email
+     */
+    public void evictByEmail(String email) {
+        String id = idsByEmail.asMap().remove(email);
+        if (id != null) {
+            usersById.invalidate(id);
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, usersById, CACHE_NAME);
+    }
+
+    private void put(User user) {
+        usersById.put(user.getId(), user);
+        idsByEmail.put(user.getEmail(), user.getId());
+    }
+}
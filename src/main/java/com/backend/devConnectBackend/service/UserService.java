@@ -3,7 +3,6 @@ package com.backend.devConnectBackend.service;
 import com.backend.devConnectBackend.dto.ProfileResult;
 import com.backend.devConnectBackend.model.Role;
 import com.backend.devConnectBackend.model.User;
-import com.backend.devConnectBackend.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -11,14 +10,14 @@ import java.util.Optional;
 @Service
 public class UserService {
 
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
 
-    public UserService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserService(UserLookupService userLookupService) {
+        this.userLookupService = userLookupService;
     }
 
     public ProfileResult getUserProfile(String profileId, String requestingUserRole, String requestingUserId) {
-        Optional<User> userOptional = userRepository.findById(profileId);
+        Optional<User> userOptional = userLookupService.findById(profileId);
 
         if (userOptional.isEmpty()) {
             return new ProfileResult.ProfileNotFound();
@@ -46,7 +45,7 @@ public class UserService {
     }
 
     public ProfileResult getCurrentUserProfile(String email) {
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userLookupService.findByEmail(email);
 
         if (userOpt.isEmpty()) {
             return new ProfileResult.ProfileNotFound();
@@ -0,0 +1,117 @@
+package com.backend.devConnectBackend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * <p>
+ * Answers "definitely absent" or "possibly present". Bits are set with
+ * lock-free compare-and-set, so {@link #put} and {@link #mightContain} may be
+ * called concurrently. Elements cannot be removed; rebuild the filter instead.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+    }
+
+    /**
+     * Create a filter sized for the expected number of elements.
+     *
+     * @param expectedInsertions        number of elements the filter should hold
+     * @param falsePositiveProbability  target false-positive rate at that size
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be in (0, 1)");
+        }
+        long n = Math.max(expectedInsertions, 1);
+        long bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of {@link #put} calls so far, duplicates included.
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    /**
+     * Estimated probability that {@link #mightContain} answers true for an
+     * element that was never added, given the current number of insertions.
+     */
+    public double expectedFalsePositiveProbability() {
+        double fillRatio = 1 - Math.exp(-(double) hashCount * insertions() / bitCount);
+        return Math.pow(fillRatio, hashCount);
+    }
+
+    private long index(int combinedHash) {
+        return Math.floorMod(combinedHash, bitCount);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 64-bit FNV-1a followed by a murmur3 finalizer to spread the bits.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,69 @@
+package com.backend.devConnectBackend.util;
+
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Strong entity tags for conditional GETs.
+ * <p>
+ * A tag is a hash of the values a response is built from, such as a post's
+ * version and counters, so it can often be computed, and a request answered
+ * with 304, without building or serializing the response.
+ */
+public final class ETags {
+
+    /**
+     * Cache-Control sent with tagged responses: clients may keep them but must
+     * revalidate before each use. Private, as they can hold the viewer's own
+     * reactions or salary.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // Bytes of SHA-256 kept; plenty to tell versions of one resource apart
+    private static final int TAG_BYTES = 16;
+
+    private ETags() {
+    }
+
+    /**
+     * Tag of a response built from the given values, quoted for the ETag
+     * header. Equal values give equal tags on every instance.
+     */
+    public static String of(Object... parts) {
+        return of(Arrays.asList(parts));
+    }
+
+    /**
+     * Tag of a response built from the given values, quoted for the ETag
+     * header.
+     */
+    public static String of(Iterable<?> parts) {
+        MessageDigest digest = sha256();
+        for (Object part : parts) {
+            // Length-prefixed so that no two sequences of values hash alike;
+            // null differs from the string "null"
+            byte[] bytes = part == null ? new byte[0] : Objects.toString(part).getBytes(StandardCharsets.UTF_8);
+            digest.update(lengthPrefix(part == null ? -1 : bytes.length));
+            digest.update(bytes);
+        }
+        return '"' + HexFormat.of().formatHex(digest.digest(), 0, TAG_BYTES) + '"';
+    }
+
+    private static byte[] lengthPrefix(int length) {
+        return new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length };
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
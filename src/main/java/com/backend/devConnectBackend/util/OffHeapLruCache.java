@@ -0,0 +1,365 @@
+package com.backend.devConnectBackend.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Thread-safe LRU cache of byte arrays stored outside the Java heap.
+ * <p>
+ * Values live in direct {@link ByteBuffer} slabs, which are allocated as
+ * needed up to the capacity and split into fixed-size blocks; a value takes
+ * as many blocks as it needs, not necessarily adjacent. Only the index, with
+ * each key's block numbers and a small piece of metadata, is on the heap, so
+ * a large cache adds little to garbage collection. When the blocks run out
+ * the least recently read values are evicted.
+ * <p>
+ * Keys are spread over up to {@value #MAX_SEGMENTS} segments, each with its
+ * own lock, blocks and LRU order, so threads reading different keys rarely
+ * wait for each other. A read takes the lock only to find the value and pin
+ * its blocks; the value is then written out from the buffers without being
+ * copied onto the heap, and its blocks are not reused until it is closed.
+ *
+ * @param <M> metadata kept on the heap with each value
+ */
+public final class OffHeapLruCache<M> {
+
+    private static final int SLAB_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<M>[] segments;
+
+    /**
+     * @param capacityBytes most bytes of values held; 0 disables the cache
+     * @param blockSize     bytes per block, at most 4 MiB
+     * @param maxValueBytes largest value that is kept
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapLruCache(long capacityBytes, int blockSize, int maxValueBytes) {
+        if (blockSize < 1 || blockSize > SLAB_BYTES) {
+            throw new IllegalArgumentException("blockSize must be between 1 byte and 4 MiB");
+        }
+        int totalBlocks = (int) Math.min(Integer.MAX_VALUE, Math.max(0, capacityBytes) / blockSize);
+        int maxValueBlocks = Math.max(1, (maxValueBytes + blockSize - 1) / blockSize);
+        // As many segments as leave each room for the largest value
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && totalBlocks / (segmentCount * 2) >= maxValueBlocks) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int blocks = totalBlocks / segmentCount + (i < totalBlocks % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(blocks, blockSize, maxValueBytes);
+        }
+    }
+
+    /**
+     * Store a value, replacing any held under the key and evicting the least
+     * recently read values to make room.
+     *
+     * @return whether the value was stored; false if it is too large, or the
+     *         room it needs is held by values still being read, in which case
+     *         any value held under the key is removed
+     */
+    public boolean put(String key, M metadata, byte[] value) {
+        return segment(key).put(key, metadata, value);
+    }
+
+    /**
+     * The value held under a key, marking it as recently read. The value must
+     * be closed once written out.
+     *
+     * @return the value with its metadata, or null if none is held
+     */
+    public Value<M> get(String key) {
+        return segment(key).get(key);
+    }
+
+    /**
+     * Remove the value held under a key, if any. Its blocks are reused once
+     * reads of it in progress are closed.
+     */
+    public void remove(String key) {
+        segment(key).remove(key);
+    }
+
+    /**
+     * Number of values held.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<M> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Bytes of values held, not counting the unused ends of their last blocks.
+     */
+    public long usedBytes() {
+        long usedBytes = 0;
+        for (Segment<M> segment : segments) {
+            usedBytes += segment.usedBytes();
+        }
+        return usedBytes;
+    }
+
+    /**
+     * Number of values evicted to make room since the cache was created.
+     */
+    public long evictions() {
+        long evictions = 0;
+        for (Segment<M> segment : segments) {
+            evictions += segment.evictions();
+        }
+        return evictions;
+    }
+
+    private Segment<M> segment(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * A value read from the cache, pinned until closed.
+     */
+    public static final class Value<M> implements AutoCloseable {
+
+        private final Segment<M> segment;
+        private final Entry<M> entry;
+        private boolean closed;
+
+        private Value(Segment<M> segment, Entry<M> entry) {
+            this.segment = segment;
+            this.entry = entry;
+        }
+
+        /**
+         * Metadata stored with the value.
+         */
+        public M metadata() {
+            return entry.metadata;
+        }
+
+        /**
+         * Number of bytes in the value.
+         */
+        public int length() {
+            return entry.length;
+        }
+
+        /**
+         * Write the bytes of the value from {@code from}, inclusive, to
+         * {@code to}, exclusive, a block at a time.
+         */
+        public void writeTo(OutputStream out, int from, int to) throws IOException {
+            if (from < 0 || to > entry.length || from > to) {
+                throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + entry.length);
+            }
+            int blockSize = segment.blockSize;
+            byte[] chunk = new byte[Math.min(blockSize, to - from)];
+            int position = from;
+            while (position < to) {
+                int block = entry.blocks[position / blockSize];
+                int inBlock = position % blockSize;
+                int length = Math.min(Math.min(blockSize - inBlock, to - position), chunk.length);
+                segment.slab(block).get(segment.position(block) + inBlock, chunk, 0, length);
+                out.write(chunk, 0, length);
+                position += length;
+            }
+        }
+
+        /**
+         * Write the whole value.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            writeTo(out, 0, entry.length);
+        }
+
+        /**
+         * Copy of the value on the heap.
+         */
+        public byte[] bytes() {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream(entry.length);
+            try {
+                writeTo(copy);
+            } catch (IOException e) {
+                // Not thrown by a ByteArrayOutputStream
+                throw new IllegalStateException(e);
+            }
+            return copy.toByteArray();
+        }
+
+        /**
+         * Unpin the value, letting its blocks be reused if it was removed
+         * meanwhile. Closing twice has no further effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                segment.unpin(entry);
+            }
+        }
+    }
+
+    /**
+     * One lock's share of the cache: its own blocks and LRU order.
+     */
+    private static final class Segment<M> {
+
+        private final int blockSize;
+        private final int blocksPerSlab;
+        private final int totalBlocks;
+        private final int maxValueBytes;
+        private final ByteBuffer[] slabs;
+        // Least recently read first
+        private final LinkedHashMap<String, Entry<M>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        // Blocks freed by removals; blocks past allocatedBlocks have never been used
+        private int[] freeBlocks = new int[0];
+        private int freeCount;
+        private int allocatedBlocks;
+        private long usedBytes;
+        private long evictions;
+
+        Segment(int totalBlocks, int blockSize, int maxValueBytes) {
+            this.blockSize = blockSize;
+            this.blocksPerSlab = SLAB_BYTES / blockSize;
+            this.totalBlocks = totalBlocks;
+            this.maxValueBytes = maxValueBytes;
+            this.slabs = new ByteBuffer[(totalBlocks + blocksPerSlab - 1) / blocksPerSlab];
+        }
+
+        synchronized boolean put(String key, M metadata, byte[] value) {
+            remove(key);
+            int needed = (value.length + blockSize - 1) / blockSize;
+            if (value.length > maxValueBytes || needed > totalBlocks) {
+                return false;
+            }
+            Iterator<Entry<M>> leastRecent = entries.values().iterator();
+            while (availableBlocks() < needed) {
+                if (!leastRecent.hasNext()) {
+                    // The rest of the blocks are pinned by reads
+                    return false;
+                }
+                Entry<M> evicted = leastRecent.next();
+                leastRecent.remove();
+                retire(evicted);
+                evictions++;
+            }
+
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = takeBlock();
+                int offset = i * blockSize;
+                slab(blocks[i]).put(position(blocks[i]), value, offset, Math.min(blockSize, value.length - offset));
+            }
+            entries.put(key, new Entry<>(metadata, blocks, value.length));
+            usedBytes += value.length;
+            return true;
+        }
+
+        synchronized Value<M> get(String key) {
+            Entry<M> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.readers++;
+            return new Value<>(this, entry);
+        }
+
+        synchronized void remove(String key) {
+            Entry<M> removed = entries.remove(key);
+            if (removed != null) {
+                retire(removed);
+            }
+        }
+
+        synchronized void unpin(Entry<M> entry) {
+            entry.readers--;
+            if (entry.retired && entry.readers == 0) {
+                release(entry);
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long usedBytes() {
+            return usedBytes;
+        }
+
+        synchronized long evictions() {
+            return evictions;
+        }
+
+        ByteBuffer slab(int block) {
+            return slabs[block / blocksPerSlab];
+        }
+
+        int position(int block) {
+            return (block % blocksPerSlab) * blockSize;
+        }
+
+        private int availableBlocks() {
+            return freeCount + totalBlocks - allocatedBlocks;
+        }
+
+        private int takeBlock() {
+            if (freeCount > 0) {
+                return freeBlocks[--freeCount];
+            }
+            int block = allocatedBlocks++;
+            if (block % blocksPerSlab == 0) {
+                int remaining = totalBlocks - block;
+                slabs[block / blocksPerSlab] = ByteBuffer.allocateDirect(Math.min(blocksPerSlab, remaining) * blockSize);
+            }
+            return block;
+        }
+
+        /**
+         * Take an entry out of the index; its blocks are freed now, or by the
+         * last of its reads to close.
+         */
+        private void retire(Entry<M> entry) {
+            usedBytes -= entry.length;
+            entry.retired = true;
+            if (entry.readers == 0) {
+                release(entry);
+            }
+        }
+
+        private void release(Entry<M> entry) {
+            if (freeCount + entry.blocks.length > freeBlocks.length) {
+                int[] grown = new int[Math.max(freeCount + entry.blocks.length, freeBlocks.length * 2)];
+                System.arraycopy(freeBlocks, 0, grown, 0, freeCount);
+                freeBlocks = grown;
+            }
+            for (int block : entry.blocks) {
+                freeBlocks[freeCount++] = block;
+            }
+        }
+    }
+
+    private static final class Entry<M> {
+
+        final M metadata;
+        final int[] blocks;
+        final int length;
+        // Guarded by the segment
+        int readers;
+        boolean retired;
+
+        Entry(M metadata, int[] blocks, int length) {
+            this.metadata = metadata;
+            this.blocks = blocks;
+            this.length = length;
+        }
+    }
+}
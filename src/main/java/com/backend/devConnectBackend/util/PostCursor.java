@@ -0,0 +1,48 @@
+package com.backend.devConnectBackend.util;
+
+import com.backend.devConnectBackend.exception.InvalidCursorException;
+import com.backend.devConnectBackend.model.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a feed ordered by {@code createdAt} and then {@code _id}, both
+ * descending. The ID breaks ties between posts created in the same
+ * millisecond. Clients receive it as an opaque URL-safe string.
+ *
+ * @param createdAt creation time of the last post seen
+ * @param id        ID of the last post seen
+ */
+public record PostCursor(LocalDateTime createdAt, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException if the cursor was not produced by
+     *                                {@link #encode()}
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.backend.devConnectBackend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-safe prefix index over weighted strings, for autocomplete.
+ * <p>
+ * A radix tree: each edge holds a run of characters, so the tree has at most
+ * about two nodes per string. Every node keeps the best {@code k} strings
+ * below it, so a lookup walks the prefix and returns a stored list without
+ * visiting the subtree. A change updates those lists on the path from the
+ * string's node back to the root.
+ * <p>
+ * Keys are matched case-insensitively with whitespace collapsed; each string
+ * is returned as it was first added. Lookups share a read lock; changes take
+ * the write lock.
+ */
+public final class PrefixIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Heaviest first; ties in key order so results are stable
+    private static final Comparator<Entry> BEST_FIRST = Comparator.comparingLong(Entry::weight)
+            .reversed()
+            .thenComparing(Entry::key);
+
+    private final int k;
+    private final Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    /**
+     * @param k number of strings kept per node, the most a lookup returns
+     */
+    public PrefixIndex(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+    }
+
+    /**
+     * Key a string is indexed and looked up under: lower-cased and trimmed,
+     * with runs of whitespace collapsed to one space.
+     */
+    public static String key(String text) {
+        return text == null ? "" : WHITESPACE.matcher(text.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Add to the weight of a string, adding it if missing. A string whose
+     * weight drops to zero or below is removed.
+     *
+     * @param text  string to suggest
+     * @param delta weight to add; negative to subtract
+     */
+    public void add(String text, long delta) {
+        String key = key(text);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = find(key, delta > 0);
+            if (path == null) {
+                return;
+            }
+            Node node = path.get(path.size() - 1);
+            if (node.text == null) {
+                if (delta < 0) {
+                    return;
+                }
+                node.text = text.trim();
+                size++;
+            }
+            node.weight += delta;
+            if (node.weight <= 0) {
+                node.text = null;
+                node.weight = 0;
+                size--;
+                compact(path);
+            }
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).updateTop(k);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The heaviest strings starting with a prefix, heaviest first.
+     *
+     * @param prefix start of the strings, matched like a key
+     * @param limit  maximum number of strings, at most {@code k}
+     */
+    public List<String> top(String prefix, int limit) {
+        String key = key(prefix);
+        lock.readLock().lock();
+        try {
+            Entry[] top = subtree(key).top;
+            int count = Math.max(0, Math.min(limit, top.length));
+            List<String> texts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                texts.add(top[i].text());
+            }
+            return texts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of strings indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Node whose subtree holds every key starting with the prefix; an empty
+     * node if there is none.
+     */
+    private Node subtree(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return Node.EMPTY;
+            }
+            int common = commonPrefixLength(child.edge, prefix, i);
+            if (i + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.edge.length()) {
+                return Node.EMPTY;
+            }
+            i += common;
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Nodes from the root to the key's node.
+     *
+     * @param create whether to create the node if missing
+     * @return the path, or null if the node is missing and not created
+     */
+    private List<Node> find(String key, boolean create) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node(key.substring(i));
+                node.putChild(child);
+                path.add(child);
+                return path;
+            }
+            int common = commonPrefixLength(child.edge, key, i);
+            if (common < child.edge.length()) {
+                if (!create) {
+                    return null;
+                }
+                child = split(node, child, common);
+            }
+            i += common;
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Split a child's edge after {@code at} characters, putting a new node
+     * between it and its parent.
+     *
+     * @return the new node
+     */
+    private static Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.edge.substring(0, at));
+        middle.top = child.top;
+        // Replaces the child, whose edge starts with the same character
+        parent.putChild(middle);
+        child.edge = child.edge.substring(at);
+        middle.putChild(child);
+        return middle;
+    }
+
+    /**
+     * After a string was removed, drop nodes on the path that hold no string
+     * and merge ones left with a single child into it.
+     */
+    private static void compact(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (node.text != null) {
+                return;
+            }
+            if (node.children.length == 0) {
+                parent.removeChild(node.edge.charAt(0));
+            } else if (node.children.length == 1) {
+                Node only = node.children[0];
+                only.edge = node.edge + only.edge;
+                parent.putChild(only);
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int commonPrefixLength(String edge, String key, int from) {
+        int max = Math.min(edge.length(), key.length() - from);
+        int i = 0;
+        while (i < max && edge.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private record Entry(String key, String text, long weight) {
+    }
+
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        static final Node EMPTY = new Node("");
+
+        String edge;
+        // Sorted by the first character of their edge
+        Node[] children = NO_CHILDREN;
+        String text;
+        long weight;
+        Entry[] top = NO_ENTRIES;
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        Node child(char first) {
+            int i = indexOf(first);
+            return i >= 0 ? children[i] : null;
+        }
+
+        void putChild(Node child) {
+            int i = indexOf(child.edge.charAt(0));
+            if (i >= 0) {
+                children[i] = child;
+                return;
+            }
+            int insertAt = -i - 1;
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, insertAt);
+            grown[insertAt] = child;
+            System.arraycopy(children, insertAt, grown, insertAt + 1, children.length - insertAt);
+            children = grown;
+        }
+
+        void removeChild(char first) {
+            int i = indexOf(first);
+            if (i < 0) {
+                return;
+            }
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, i);
+            System.arraycopy(children, i + 1, shrunk, i, children.length - i - 1);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        /**
+         * Recompute the best strings below this node from its own string and
+         * its children's lists.
+         */
+        void updateTop(int k) {
+            List<Entry> candidates = new ArrayList<>();
+            if (text != null) {
+                candidates.add(new Entry(key(text), text, weight));
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BEST_FIRST);
+            top = candidates.size() > k
+                    ? candidates.subList(0, k).toArray(NO_ENTRIES)
+                    : candidates.toArray(NO_ENTRIES);
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].edge.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -low - 1;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.devConnectBackend.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Turns user input into plain words for a MongoDB text search.
+ * <p>
+ * {@code $search} gives quotes (phrases) and a leading minus (negation) a
+ * meaning of their own; both are stripped so a query only ever matches any
+ * of its words.
+ */
+public final class SearchTerms {
+
+    private SearchTerms() {
+    }
+
+    /**
+     * @param query    user input; may be null
+     * @param maxTerms maximum number of words kept
+     * @return distinct words of the query, in order
+     */
+    public static List<String> parse(String query, int maxTerms) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.replace("\"", " ").trim().split("\\s+"))
+                .map(word -> word.replaceFirst("^-+", ""))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .limit(maxTerms)
+                .toList();
+    }
+}
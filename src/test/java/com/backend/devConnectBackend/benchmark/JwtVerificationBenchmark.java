@@ -0,0 +1,110 @@
+package com.backend.devConnectBackend.benchmark;
+
+import com.backend.devConnectBackend.model.Role;
+import com.backend.devConnectBackend.security.InMemorySigningKeys;
+import com.backend.devConnectBackend.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification cost of one authenticated request.
+ * <p>
+ * {@code uncachedVerificationPerRequest} replays what the filter used to do:
+ * {@code extractUsername} followed by {@code isTokenValid}, which parses the
+ * token three times with a freshly built parser each time.
+ * {@code cachedVerificationPerRequest} is the current path: one
+ * {@link JwtService#extractAllClaims} lookup shared by the filter and the
+ * validity check.
+ * <p>
+ * Run with:
+ * 
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *      com.backend.devConnectBackend.benchmark.JwtVerificationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    private final Key legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final UserDetails user = User.withUsername(EMAIL).password("unused").authorities("USER").build();
+
+    private JwtService jwtService;
+    private String legacyToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(InMemorySigningKeys.PROPERTIES, InMemorySigningKeys.newKeyRing());
+        token = jwtService.generateToken(
+                new com.backend.devConnectBackend.model.User("bench-id", "Bench", EMAIL, "unused", Role.USER, List.of(), null, null));
+        legacyToken = Jwts.builder()
+                .setSubject(EMAIL)
+                .claim("role", "USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(24).toMillis()))
+                .signWith(legacyKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean uncachedVerificationPerRequest() {
+        String username = legacyParse(legacyToken).getSubject();
+        String usernameAgain = legacyParse(legacyToken).getSubject();
+        Date expiration = legacyParse(legacyToken).getExpiration();
+        return username.equals(user.getUsername())
+                && usernameAgain.equals(user.getUsername())
+                && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean cachedVerificationPerRequest() {
+        Claims claims = jwtService.extractAllClaims(token);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    private Claims legacyParse(String jws) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacyKey)
+                .build()
+                .parseClaimsJws(jws)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
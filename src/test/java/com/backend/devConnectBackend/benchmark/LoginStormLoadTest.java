@@ -0,0 +1,181 @@
+package com.backend.devConnectBackend.benchmark;
+
+import com.backend.devConnectBackend.model.Role;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.security.JwtService;
+import com.backend.devConnectBackend.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Feed latency while the server is flooded with logins.
+ * <p>
+ * Measures the p99 of {@code GET /posts} on its own, then again while a pool
+ * of clients hammers {@code POST /auth/login}. Password checks run on the
+ * bounded hashing pool, which leaves half the processors to the servlet
+ * threads, so the feed stays within 1.5 times its baseline p99 plus 25 ms and
+ * excess logins are shed with 503. MongoDB is replaced by mocks so only the
+ * web tier and hashing are measured.
+ * <p>
+ * Opt-in, as it takes about half a minute:
+ *
+ * <pre>
+ * mvn test -Dtest=LoginStormLoadTest -Dloadtest=true
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=16",
+        "devconnect.password-hashing.queue-capacity=16",
+        // the storm comes from one client; measure hashing isolation, not throttling
+        "devconnect.login-throttle.email-burst=1000000",
+        "devconnect.login-throttle.ip-burst=1000000"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoginStormLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginStormLoadTest.class);
+
+    private static final int FEED_REQUESTS = 400;
+    private static final int FEED_CLIENTS = 4;
+    private static final int LOGIN_CLIENTS = 64;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private PostService postService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(LOGIN_CLIENTS + FEED_CLIENTS))
+            .build();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("user123", "Storm", "storm@test.com", passwordEncoder.encode("Password123"),
+                Role.USER, List.of(), null, null);
+        when(userRepository.findByEmail("storm@test.com")).thenReturn(Optional.of(user));
+        when(postService.getAllPublicPostsTagged(any(Pageable.class), any()))
+                .thenReturn(PostService.Tagged.of("\"feed\"", Page.empty()));
+        token = jwtService.generateToken(user);
+    }
+
+    @Test
+    void feedP99_StaysStable_DuringLoginStorm() throws Exception {
+        measureFeed(); // warm-up
+        long baselineP99 = percentile(measureFeed(), 0.99);
+
+        AtomicBoolean storming = new AtomicBoolean(true);
+        Map<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+        ExecutorService storm = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            storm.submit(() -> {
+                while (storming.get()) {
+                    int status = login();
+                    loginStatuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        Thread.sleep(1000);
+        long stormP99;
+        try {
+            stormP99 = percentile(measureFeed(), 0.99);
+        } finally {
+            storming.set(false);
+            storm.shutdown();
+            storm.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        log.info("Feed p99: baseline {} ms, during login storm {} ms; login statuses {}",
+                baselineP99, stormP99, loginStatuses);
+
+        assertTrue(loginStatuses.containsKey(200), "some logins must succeed");
+        assertTrue(stormP99 <= baselineP99 * 3 / 2 + 25,
+                "feed p99 degraded from " + baselineP99 + " ms to " + stormP99 + " ms");
+    }
+
+    private List<Long> measureFeed() throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService feedClients = Executors.newFixedThreadPool(FEED_CLIENTS);
+        for (int i = 0; i < FEED_REQUESTS; i++) {
+            feedClients.submit(() -> {
+                HttpRequest request = HttpRequest.newBuilder(uri("/posts"))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                long start = System.nanoTime();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                assertEquals(200, response.statusCode());
+                return null;
+            });
+        }
+        feedClients.shutdown();
+        feedClients.awaitTermination(2, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private int login() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"storm@test.com\",\"password\":\"Password123\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentile(List<Long> latencies, double percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+}
@@ -1,6 +1,10 @@
 package com.backend.devConnectBackend.controller;
 
+import com.backend.devConnectBackend.exception.LoginThrottledException;
+import com.backend.devConnectBackend.exception.ServiceOverloadedException;
+import com.backend.devConnectBackend.security.LoginThrottle;
 import com.backend.devConnectBackend.service.AuthService;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
@@ -9,11 +13,24 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
@@ -35,16 +52,26 @@ class AuthControllerTest {
     @MockBean
     private com.backend.devConnectBackend.security.JwtService jwtService;
 
+    @MockBean
+    private com.backend.devConnectBackend.security.JwtPrincipalResolver jwtPrincipalResolver;
+
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     @Test
     @WithMockUser
     void register_FourParameters() throws Exception {
-        org.mockito.Mockito.doNothing().when(authService).register(any());
+        when(authService.register(any())).thenReturn(CompletableFuture.completedFuture(null));
         String requestBody = "{\"name\":\"John\",\"email\":\"john@example.com\",\"password\":\"Password123\",\"role\":\"USER\",\"skills\":[\"Java\"]}";
 
-        mockMvc.perform(post("/register")
+        MvcResult result = mockMvc.perform(post("/register")
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isCreated());
     }
 
@@ -62,14 +89,56 @@ class AuthControllerTest {
     @WithMockUser
     void login_TwoParameters() throws Exception {
         when(authService.login(any()))
-                .thenReturn(new com.backend.devConnectBackend.dto.LoginResult.Success("jwt-token"));
+                .thenReturn(CompletableFuture.completedFuture(
+                        new com.backend.devConnectBackend.dto.LoginResult.Success("jwt-token", "refresh-token",
+                                Duration.ofDays(30))));
+        String requestBody = "{\"email\":\"john@example.com\",\"password\":\"Password123\"}";
+
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(cookie().value("refresh_token", "refresh-token"))
+                .andExpect(cookie().httpOnly("refresh_token", true))
+                .andExpect(cookie().secure("refresh_token", true))
+                .andExpect(cookie().path("refresh_token", "/auth"));
+    }
+
+    @Test
+    @WithMockUser
+    void login_HashingSaturated_ReturnsServiceUnavailable() throws Exception {
+        when(authService.login(any()))
+                .thenThrow(new ServiceOverloadedException("Too many authentication requests", Duration.ofSeconds(2)));
         String requestBody = "{\"email\":\"john@example.com\",\"password\":\"Password123\"}";
 
         mockMvc.perform(post("/auth/login")
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
-                .andExpect(status().isOk());
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    @WithMockUser
+    void login_Throttled_ReturnsTooManyRequestsWithoutCheckingPassword() throws Exception {
+        doThrow(new LoginThrottledException("Too many login attempts", Duration.ofMillis(11_100)))
+                .when(loginThrottle).acquire(eq("john@example.com"), any());
+        String requestBody = "{\"email\":\"john@example.com\",\"password\":\"Password123\"}";
+
+        mockMvc.perform(post("/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+
+        verify(authService, never()).login(any());
     }
 
     @Test
@@ -81,4 +150,56 @@ class AuthControllerTest {
                 .content("{\"email\":\"\",\"password\":\"\"}"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void refresh_ValidCookie_ReturnsNewTokens() throws Exception {
+        when(authService.refresh("refresh-token")).thenReturn(new com.backend.devConnectBackend.dto.RefreshResult.Success(
+                "jwt-token", "next-refresh-token", Duration.ofDays(30)));
+
+        mockMvc.perform(post("/auth/refresh")
+                .with(csrf())
+                .cookie(new Cookie("refresh_token", "refresh-token")))
+                .andExpect(status().isOk())
+                .andExpect(content().string("jwt-token"))
+                .andExpect(cookie().value("refresh_token", "next-refresh-token"));
+    }
+
+    @Test
+    @WithMockUser
+    void refresh_RejectedCookie_ReturnsUnauthorizedAndClearsCookie() throws Exception {
+        when(authService.refresh("refresh-token"))
+                .thenReturn(new com.backend.devConnectBackend.dto.RefreshResult.Rejected());
+
+        mockMvc.perform(post("/auth/refresh")
+                .with(csrf())
+                .cookie(new Cookie("refresh_token", "refresh-token")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(cookie().maxAge("refresh_token", 0));
+    }
+
+    @Test
+    @WithMockUser
+    void refresh_MissingCookie_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/auth/refresh").with(csrf()))
+                .andExpect(status().isUnauthorized());
+
+        verify(authService, never()).refresh(any());
+    }
+
+    @Test
+    @WithMockUser
+    void logout_ExpiredAccessToken_RevokesTokensAndClearsCookie() throws Exception {
+        when(jwtService.extractAllClaims("jwt-token"))
+                .thenThrow(new io.jsonwebtoken.ExpiredJwtException(null, null, "expired"));
+
+        mockMvc.perform(post("/auth/logout")
+                .with(csrf())
+                .header("Authorization", "Bearer jwt-token")
+                .cookie(new Cookie("refresh_token", "refresh-token")))
+                .andExpect(status().isNoContent())
+                .andExpect(cookie().maxAge("refresh_token", 0));
+
+        verify(authService).logout("jwt-token", "refresh-token");
+    }
+}
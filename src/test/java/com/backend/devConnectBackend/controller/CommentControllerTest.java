@@ -2,10 +2,12 @@ package com.backend.devConnectBackend.controller;
 
 import com.backend.devConnectBackend.dto.CommentRequest;
 import com.backend.devConnectBackend.dto.CommentResponse;
+import com.backend.devConnectBackend.model.Post;
 import com.backend.devConnectBackend.security.JwtAuthenticationFilter;
 import com.backend.devConnectBackend.security.JwtService;
 import com.backend.devConnectBackend.service.CommentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -24,6 +26,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -47,6 +51,14 @@ class CommentControllerTest {
         @MockBean
         private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+        private static final CommentService.CommentsVersion VERSION = new CommentService.CommentsVersion(new Post(),
+                        2, "\"def\"");
+
+        @BeforeEach
+        void setUp() {
+                when(commentService.getCommentsVersion(eq("post123"), any(Pageable.class))).thenReturn(VERSION);
+        }
+
         @Test
         @WithMockUser(username = "test@example.com")
         void getComments_Success_WithPagination() throws Exception {
@@ -72,7 +84,7 @@ class CommentControllerTest {
                 Pageable pageable = PageRequest.of(0, 2);
                 Page<CommentResponse> commentsPage = new PageImpl<>(commentsList, pageable, 2);
 
-                when(commentService.getComments(eq("post123"), any(Pageable.class)))
+                when(commentService.getComments(eq(VERSION), any(Pageable.class)))
                                 .thenReturn(commentsPage);
 
                 // When & Then
@@ -125,7 +137,7 @@ class CommentControllerTest {
                 Pageable pageable = PageRequest.of(0, 5);
                 Page<CommentResponse> commentsPage = new PageImpl<>(commentsList, pageable, 3);
 
-                when(commentService.getComments(eq("post123"), any(Pageable.class)))
+                when(commentService.getComments(eq(VERSION), any(Pageable.class)))
                                 .thenReturn(commentsPage);
 
                 // When & Then
@@ -145,7 +157,7 @@ class CommentControllerTest {
                 Pageable pageable = PageRequest.of(0, 2);
                 Page<CommentResponse> emptyPage = new PageImpl<>(new ArrayList<>(), pageable, 0);
 
-                when(commentService.getComments(eq("post123"), any(Pageable.class)))
+                when(commentService.getComments(eq(VERSION), any(Pageable.class)))
                                 .thenReturn(emptyPage);
 
                 // When & Then
@@ -183,7 +195,7 @@ class CommentControllerTest {
                 Pageable pageable = PageRequest.of(1, 2);
                 Page<CommentResponse> commentsPage = new PageImpl<>(commentsList, pageable, 5);
 
-                when(commentService.getComments(eq("post123"), any(Pageable.class)))
+                when(commentService.getComments(eq(VERSION), any(Pageable.class)))
                                 .thenReturn(commentsPage);
 
                 // When & Then
@@ -225,7 +237,7 @@ class CommentControllerTest {
                 Pageable pageable = PageRequest.of(0, 2);
                 Page<CommentResponse> commentsPage = new PageImpl<>(commentsList, pageable, 2);
 
-                when(commentService.getComments(eq("post123"), any(Pageable.class)))
+                when(commentService.getComments(eq(VERSION), any(Pageable.class)))
                                 .thenReturn(commentsPage);
 
                 // When & Then
@@ -238,6 +250,36 @@ class CommentControllerTest {
                                 .andExpect(jsonPath("$.content[1].content").value("Newer comment"));
         }
 
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getComments_MatchingETag_NotModifiedWithoutReadingPage() throws Exception {
+                // Given
+                when(commentService.getCommentsVersion(eq("post123"), any(Pageable.class)))
+                                .thenReturn(new CommentService.CommentsVersion(new Post(), 0, "\"abc\""));
+
+                // When & Then
+                mockMvc.perform(get("/posts/post123/comments")
+                                .header("If-None-Match", "\"abc\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "\"abc\""));
+                verify(commentService, never()).getComments(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getComments_StaleETag_ReturnsPageWithCurrentETag() throws Exception {
+                // Given
+                when(commentService.getComments(eq(VERSION), any(Pageable.class)))
+                                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 2), 0));
+
+                // When & Then
+                mockMvc.perform(get("/posts/post123/comments")
+                                .header("If-None-Match", "\"abc\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", VERSION.eTag()))
+                                .andExpect(jsonPath("$.content.length()").value(0));
+        }
+
         @Test
         void getComments_Unauthorized_WithoutAuthentication() throws Exception {
                 // When & Then
@@ -1,28 +1,43 @@
 package com.backend.devConnectBackend.controller;
 
+import com.backend.devConnectBackend.dto.CursorPage;
 import com.backend.devConnectBackend.dto.PostRequest;
 import com.backend.devConnectBackend.dto.PostResponse;
+import com.backend.devConnectBackend.dto.PostSummary;
+import com.backend.devConnectBackend.dto.Suggestions;
+import com.backend.devConnectBackend.dto.TagCount;
 import com.backend.devConnectBackend.service.PostService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -47,6 +62,9 @@ class PostControllerTest {
         @MockitoBean
         private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
 
+        @MockitoBean
+        private com.backend.devConnectBackend.security.JwtPrincipalResolver jwtPrincipalResolver;
+
         @Test
         @WithMockUser(username = "test@example.com")
         void createPost_Success() throws Exception {
@@ -68,7 +86,8 @@ class PostControllerTest {
                                 0,
                                 null,
                                 LocalDateTime.now(),
-                                LocalDateTime.now());
+                                LocalDateTime.now(),
+                                null);
 
                 when(postService.createPost(any(PostRequest.class), eq("test@example.com")))
                                 .thenReturn(response);
@@ -148,7 +167,8 @@ class PostControllerTest {
                                                 0,
                                                 null,
                                                 LocalDateTime.now(),
-                                                LocalDateTime.now()),
+                                                LocalDateTime.now(),
+                                                null),
                                 new PostResponse(
                                                 "post2",
                                                 "Public Post 2",
@@ -161,10 +181,11 @@ class PostControllerTest {
                                                 0,
                                                 null,
                                                 LocalDateTime.now(),
-                                                LocalDateTime.now()));
+                                                LocalDateTime.now(),
+                                                null));
 
                 Page<PostResponse> responses = new PageImpl<>(responseList, PageRequest.of(0, 10), responseList.size());
-                when(postService.getAllPublicPosts(any())).thenReturn(responses);
+                when(postService.getAllPublicPostsTagged(any(), any())).thenReturn(tagged(responses));
 
                 mockMvc.perform(get("/posts")
                                 .with(csrf()))
@@ -175,6 +196,62 @@ class PostControllerTest {
                                 .andExpect(jsonPath("$.totalElements").value(2));
         }
 
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getAllPublicPosts_MatchingETag_NotModified() throws Exception {
+                PostResponse post = new PostResponse("post1", "Public Post 1", "Description 1", List.of("Java"), true,
+                                "user123", 0, 2, 0, null, LocalDateTime.of(2026, 1, 1, 12, 0),
+                                LocalDateTime.of(2026, 1, 1, 12, 0), 3L);
+                when(postService.getAllPublicPostsTagged(any(), any()))
+                                .thenReturn(tagged(new PageImpl<>(List.of(post), PageRequest.of(0, 10), 1)));
+
+                String eTag = mockMvc.perform(get("/posts"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/posts").header("If-None-Match", eTag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getAllPublicPosts_MatchingETag_PageNotBuilt() throws Exception {
+                AtomicInteger built = new AtomicInteger();
+                when(postService.getAllPublicPostsTagged(any(), any())).thenReturn(new PostService.Tagged<>("\"abc\"",
+                                () -> {
+                                        built.incrementAndGet();
+                                        return Page.empty();
+                                }));
+
+                mockMvc.perform(get("/posts").header("If-None-Match", "\"abc\""))
+                                .andExpect(status().isNotModified());
+
+                assertEquals(0, built.get());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getAllPublicPosts_CounterChanged_NewETag() throws Exception {
+                PostResponse post = new PostResponse("post1", "Public Post 1", "Description 1", List.of("Java"), true,
+                                "user123", 0, 2, 0, null, LocalDateTime.of(2026, 1, 1, 12, 0),
+                                LocalDateTime.of(2026, 1, 1, 12, 0), 3L);
+                PostResponse liked = new PostResponse("post1", "Public Post 1", "Description 1", List.of("Java"), true,
+                                "user123", 0, 3, 0, null, LocalDateTime.of(2026, 1, 1, 12, 0),
+                                LocalDateTime.of(2026, 1, 1, 12, 0), 3L);
+                when(postService.getAllPublicPostsTagged(any(), any()))
+                                .thenReturn(tagged(new PageImpl<>(List.of(post), PageRequest.of(0, 10), 1)))
+                                .thenReturn(tagged(new PageImpl<>(List.of(liked), PageRequest.of(0, 10), 1)));
+
+                String eTag = mockMvc.perform(get("/posts"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/posts").header("If-None-Match", eTag))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].likeCount").value(3));
+        }
+
         @Test
         void getAllPublicPosts_Unauthorized_WithoutAuthentication() throws Exception {
                 mockMvc.perform(get("/posts")
@@ -186,7 +263,7 @@ class PostControllerTest {
         @WithMockUser(username = "test@example.com")
         void getAllPublicPosts_ReturnsEmptyPage() throws Exception {
                 Page<PostResponse> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-                when(postService.getAllPublicPosts(any())).thenReturn(emptyPage);
+                when(postService.getAllPublicPostsTagged(any(), any())).thenReturn(tagged(emptyPage));
 
                 mockMvc.perform(get("/posts")
                                 .with(csrf()))
@@ -194,4 +271,171 @@ class PostControllerTest {
                                 .andExpect(jsonPath("$.content.length()").value(0))
                                 .andExpect(jsonPath("$.totalElements").value(0));
         }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getPostsAfter_CursorMode_ReturnsNextCursorWithoutTotals() throws Exception {
+                PostResponse post = new PostResponse("post1", "Public Post 1", "Description 1", List.of("Java"),
+                                true, "user123", 0, 0, 0, null, LocalDateTime.now(), LocalDateTime.now(), null);
+                when(postService.getPublicPostsAfter("abc", 2, null))
+                                .thenReturn(new CursorPage<>(List.of(post), "next-cursor"));
+
+                mockMvc.perform(get("/posts")
+                                .param("after", "abc")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content.length()").value(1))
+                                .andExpect(jsonPath("$.next").value("next-cursor"))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+                verify(postService, never()).getAllPublicPostsTagged(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getPostsAfter_MyPosts() throws Exception {
+                when(postService.getMyPostsAfter("test@example.com", "", 5, null))
+                                .thenReturn(new CursorPage<>(List.of(), null));
+
+                mockMvc.perform(get("/posts")
+                                .param("after", "")
+                                .param("owner", "me")
+                                .param("size", "5")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.next").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getAllPosts_SliceMode_ReturnsHasNextWithoutTotals() throws Exception {
+                PostResponse post = new PostResponse("post1", "Public Post 1", "Description 1", List.of("Java"),
+                                true, "user123", 0, 0, 0, null, LocalDateTime.now(), LocalDateTime.now(), null);
+                when(postService.getAllPublicPostsSliceTagged(any(), any()))
+                                .thenReturn(PostService.Tagged.of(PostService.feedETag(true, List.of(post)),
+                                                new SliceImpl<>(List.of(post), PageRequest.of(0, 2), true)));
+
+                mockMvc.perform(get("/posts")
+                                .param("slice", "true")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content.length()").value(1))
+                                .andExpect(jsonPath("$.last").value(false))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+                verify(postService, never()).getAllPublicPostsTagged(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getAllPosts_SummaryView_OmitsDescription() throws Exception {
+                PostSummary post = new PostSummary("post1", "Public Post 1", List.of("Java"), "user123", 0, 0, 0,
+                                null, LocalDateTime.now());
+                when(postService.getAllPublicPostSummaries(any(), any()))
+                                .thenReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 2), 1));
+
+                mockMvc.perform(get("/posts")
+                                .param("view", "summary")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].title").value("Public Post 1"))
+                                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                                .andExpect(jsonPath("$.totalElements").value(1));
+
+                verify(postService, never()).getAllPublicPostsTagged(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void searchPosts_TextQueryWithSummaryOrSliceView_BadRequest() throws Exception {
+                mockMvc.perform(get("/posts/search")
+                                .param("q", "spring")
+                                .param("view", "summary"))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/posts/search")
+                                .param("q", "spring")
+                                .param("slice", "true"))
+                                .andExpect(status().isBadRequest());
+
+                verify(postService, never()).searchPublicPostSummaries(any(), any(), any(), any());
+                verify(postService, never()).searchPublicPostsSlice(any(), any(), any(), any());
+                verify(postService, never()).searchPublicPostsByText(any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getTopTags_ReturnsCounts() throws Exception {
+                when(postService.getTopTags(5)).thenReturn(List.of(new TagCount("java", 3), new TagCount("go", 1)));
+
+                mockMvc.perform(get("/posts/tags")
+                                .param("limit", "5")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].tag").value("java"))
+                                .andExpect(jsonPath("$[0].count").value(3))
+                                .andExpect(jsonPath("$[1].tag").value("go"));
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void suggest_ReturnsTitlesAndTags() throws Exception {
+                when(postService.suggest("spr", 5)).thenReturn(
+                                new Suggestions(List.of("Spring Boot tips"), List.of("spring boot")));
+
+                mockMvc.perform(get("/posts/suggest")
+                                .param("q", "spr")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.titles[0]").value("Spring Boot tips"))
+                                .andExpect(jsonPath("$.tags[0]").value("spring boot"));
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void patchPost_BlankTitle_BadRequest() throws Exception {
+                mockMvc.perform(patch("/posts/post1")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\": \"  \"}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(postService, never()).patchPost(any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void patchPost_StaleVersion_Conflict() throws Exception {
+                when(postService.patchPost(eq("post1"), any(), eq("test@example.com")))
+                                .thenThrow(new OptimisticLockingFailureException("Post post1 was changed"));
+
+                mockMvc.perform(patch("/posts/post1")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"description\": \"New\", \"version\": 2}"))
+                                .andExpect(status().isConflict());
+        }
+
+        @Test
+        @WithMockUser(username = "test@example.com")
+        void getPost_WritesSerializedPostAsJsonAndClosesIt() throws Exception {
+                byte[] body = "{\"id\":\"post1\",\"title\":\"Shared\"}".getBytes(StandardCharsets.UTF_8);
+                PostService.PostJson json = mock(PostService.PostJson.class);
+                when(json.length()).thenReturn(body.length);
+                doAnswer(invocation -> {
+                        invocation.<OutputStream>getArgument(0).write(body);
+                        return null;
+                }).when(json).writeTo(any());
+                when(postService.getPostJson(eq("post1"), eq("test@example.com"), any())).thenReturn(json);
+
+                mockMvc.perform(get("/posts/post1"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(header().string("Content-Length", String.valueOf(body.length)))
+                                .andExpect(jsonPath("$.title").value("Shared"));
+                verify(json).close();
+        }
+
+        private static PostService.Tagged<Page<PostResponse>> tagged(Page<PostResponse> page) {
+                return PostService.Tagged.of(PostService.feedETag(page.getTotalElements(), page.getContent()), page);
+        }
 }
@@ -0,0 +1,201 @@
+package com.backend.devConnectBackend.repository;
+
+import com.backend.devConnectBackend.config.MongoIndexPlan;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs {@code explain} on the shape of every repository query and fails if a
+ * query scans a collection or sorts in memory. Needs a local mongod; skipped
+ * without one.
+ */
+@DataMongoTest(properties = "spring.data.mongodb.uri=mongodb://localhost:27017/devConnect-test?serverSelectionTimeoutMS=2000")
+class IndexPlanExplainTest {
+
+    private static Boolean mongoAvailable;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void ensureIndexes() {
+        if (mongoAvailable == null) {
+            try {
+                mongoTemplate.executeCommand(new Document("ping", 1));
+                mongoAvailable = true;
+            } catch (DataAccessException e) {
+                mongoAvailable = false;
+            }
+        }
+        assumeTrue(mongoAvailable, "no local mongod");
+        new MongoIndexPlan(mongoTemplate).ensureIndexes();
+    }
+
+    @Test
+    void postQueries_UseIndexes() {
+        Date createdAt = new Date();
+        ObjectId id = new ObjectId();
+        Document newestFirst = new Document("createdAt", -1);
+        Document seek = new Document("$or", List.of(
+                new Document("createdAt", new Document("$lt", createdAt)),
+                new Document("createdAt", createdAt).append("_id", new Document("$lt", id))));
+
+        // findByVisibilityTrue, findSliceByVisibilityTrue
+        assertIndexed(find("posts", new Document("visibility", true), newestFirst));
+        // findByUserId, findSliceByUserId
+        assertIndexed(find("posts", new Document("userId", "user@test.com"), newestFirst));
+        // findPublicPostsAfter
+        assertIndexed(find("posts",
+                new Document("$and", List.of(new Document("visibility", true), seek)),
+                new Document("createdAt", -1).append("_id", -1)));
+        // findUserPostsAfter
+        assertIndexed(find("posts",
+                new Document("$and", List.of(new Document("userId", "user@test.com"), seek)),
+                new Document("createdAt", -1).append("_id", -1)));
+        // findPublicPostsOfUsersAfter
+        assertIndexed(find("posts",
+                new Document("userId", new Document("$in", List.of("a@test.com", "b@test.com")))
+                        .append("visibility", true),
+                new Document("createdAt", -1).append("_id", -1)));
+        // searchPublicPosts and countPublicPosts, by tag and by title
+        Document byTag = new Document("$and", List.of(
+                new Document("visibility", true),
+                new Document("tags", "java")));
+        assertIndexed(find("posts", byTag, newestFirst));
+        assertIndexed(count("posts", byTag));
+        Document byTitle = new Document("$and", List.of(
+                new Document("visibility", true),
+                new Document("title", new Document("$regex", "spring").append("$options", "i"))));
+        assertIndexed(find("posts", byTitle, newestFirst));
+        assertIndexed(count("posts", byTitle));
+        // searchPublicPostsByText and countPublicPostsByText
+        Document text = new Document("$text", new Document("$search", "spring java")).append("visibility", true);
+        assertIndexed(find("posts", text, null));
+        assertIndexed(count("posts", text));
+    }
+
+    @Test
+    void commentQueries_UseIndexes() {
+        // findByPostOrderByCreatedAtDesc, findSliceByPostOrderByCreatedAtDesc
+        assertIndexed(find("comments", new Document("post", new DBRef("posts", new ObjectId())),
+                new Document("createdAt", -1)));
+        // deleteBatchByPostId
+        assertIndexed(find("comments", new Document("post", new DBRef("posts", new ObjectId())), null));
+        // findPostIdsAfter
+        assertIndexed(find("comments", new Document("post", new Document("$gt", new DBRef("posts", new ObjectId()))),
+                new Document("post", 1)));
+    }
+
+    @Test
+    void reactionQueries_UseIndexes() {
+        // findByPostIdAndUserId, deleteByPostIdAndUserId
+        assertIndexed(find("reactions", new Document("postId", "post1").append("userId", "user1"), null));
+        // findByUserIdAndPostIdIn
+        assertIndexed(find("reactions", new Document("userId", "user1")
+                .append("postId", new Document("$in", List.of("post1", "post2"))), null));
+        // findByPostId, findSliceByPostId
+        assertIndexed(find("reactions", new Document("postId", "post1"), new Document("createdAt", -1)));
+        // findByPostIdAndType, findSliceByPostIdAndType
+        assertIndexed(find("reactions", new Document("postId", "post1").append("type", "LIKE"),
+                new Document("createdAt", -1)));
+        // deleteBatchByPostId
+        assertIndexed(find("reactions", new Document("postId", "post1"), null));
+        // findPostIdsAfter
+        assertIndexed(find("reactions", new Document("postId", new Document("$gt", "post1")),
+                new Document("postId", 1)));
+    }
+
+    @Test
+    void postDeletionQueries_UseIndexes() {
+        // findByOrderByRequestedAtAsc
+        assertIndexed(find("post_deletions", new Document(), new Document("requestedAt", 1)));
+    }
+
+    @Test
+    void followAndTimelineQueries_UseIndexes() {
+        // existsByFollowerIdAndFolloweeId, deleteByFollowerIdAndFolloweeId
+        assertIndexed(find("follows", new Document("followerId", "user1").append("followeeId", "user2"), null));
+        // findByFollowerIdAndFolloweeIdIn
+        assertIndexed(find("follows", new Document("followerId", "user1")
+                .append("followeeId", new Document("$in", List.of("user2", "user3"))), null));
+        // findByFolloweeIdAndFollowerIdGreaterThanOrderByFollowerIdAsc
+        assertIndexed(find("follows", new Document("followeeId", "user2")
+                .append("followerId", new Document("$gt", "user1")), new Document("followerId", 1)));
+        // findByUserIdOrderByDayDesc, findByUserIdAndDayLessThanEqualOrderByDayDesc
+        assertIndexed(find("timelines", new Document("userId", "user1")
+                .append("day", new Document("$lte", new Date())), new Document("day", -1)));
+        // pullPost
+        assertIndexed(find("timelines", new Document("entries.postId", "post1"), null));
+        // pullAuthor
+        assertIndexed(find("timelines", new Document("userId", "user1"), null));
+    }
+
+    @Test
+    void userAndTokenQueries_UseIndexes() {
+        // findByEmail
+        assertIndexed(find("users", new Document("email", "user@test.com"), null));
+        // findWithFollowersAtLeast
+        assertIndexed(find("users", new Document("followerCount", new Document("$gte", 10000)), null));
+        // findRevokedTokenEpochs
+        assertIndexed(find("users", new Document("tokenEpoch", new Document("$gt", 0)), null));
+        // findByActivatedAtAfter
+        assertIndexed(find("signing_keys", new Document("activatedAt", new Document("$gt", new Date())), null));
+        // deleteByFamilyId, deleteByUserId
+        assertIndexed(find("refresh_tokens", new Document("familyId", "family"), null));
+        assertIndexed(find("refresh_tokens", new Document("userId", "user1"), null));
+        // findByRevokedAtAfter
+        assertIndexed(find("revoked_tokens", new Document("revokedAt", new Document("$gt", new Date())), null));
+    }
+
+    private Document find(String collection, Document filter, Document sort) {
+        Document find = new Document("find", collection).append("filter", filter);
+        if (sort != null) {
+            find.append("sort", sort);
+        }
+        return explain(find);
+    }
+
+    private Document count(String collection, Document filter) {
+        return explain(new Document("count", collection).append("query", filter));
+    }
+
+    private Document explain(Document command) {
+        Document explained = mongoTemplate.executeCommand(
+                new Document("explain", command).append("verbosity", "queryPlanner"));
+        return explained.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+    }
+
+    private static void assertIndexed(Document winningPlan) {
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+        assertFalse(stages.contains("COLLSCAN"), "collection scan: " + winningPlan.toJson());
+        assertFalse(stages.contains("SORT"), "in-memory sort: " + winningPlan.toJson());
+    }
+
+    private static void collectStages(Object node, List<String> stages) {
+        if (node instanceof Map<?, ?> map) {
+            Object stage = map.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+            }
+            map.values().forEach(child -> collectStages(child, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(child -> collectStages(child, stages));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.Role;
+import com.backend.devConnectBackend.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrentUserTest {
+
+    @Test
+    void user_PrincipalIsUser_ReturnedWithoutLoading() {
+        User user = user();
+        CurrentUser currentUser = new CurrentUser(user, user.getEmail(), email -> fail("should not load"));
+
+        assertSame(user, currentUser.user());
+        assertEquals("user123", currentUser.getId());
+    }
+
+    @Test
+    void tokenPrincipal_IdentityFromClaims_UserLoadedOnceOnDemand() {
+        AtomicInteger loads = new AtomicInteger();
+        User user = user();
+        CurrentUser currentUser = new CurrentUser(new TokenPrincipal("user123", "john@test.com", Role.USER),
+                "john@test.com", email -> {
+                    loads.incrementAndGet();
+                    return Optional.of(user);
+                });
+
+        assertEquals("user123", currentUser.getId());
+        assertEquals(Role.USER, currentUser.getRole());
+        assertEquals(0, loads.get());
+
+        assertSame(user, currentUser.user());
+        assertSame(user, currentUser.user());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void user_NoLongerExists_ThrowsUsernameNotFound() {
+        CurrentUser currentUser = new CurrentUser(new TokenPrincipal("user123", "john@test.com", Role.USER),
+                "john@test.com", email -> Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, currentUser::user);
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId("user123");
+        user.setEmail("john@test.com");
+        user.setRole(Role.USER);
+        return user;
+    }
+}
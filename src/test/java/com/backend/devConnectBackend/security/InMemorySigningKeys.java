@@ -0,0 +1,58 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.config.JwtProperties;
+import com.backend.devConnectBackend.model.SigningKey;
+import com.backend.devConnectBackend.repository.SigningKeyRepository;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Signing key store backed by a map, for tests that need a working
+ * {@link SigningKeyRing} without MongoDB.
+ */
+public final class InMemorySigningKeys {
+
+    public static final JwtProperties PROPERTIES =
+            new JwtProperties(Duration.ofMinutes(15), 100, Duration.ofDays(7), Duration.ofMinutes(10), Duration.ofDays(30));
+
+    private final Map<String, SigningKey> keys = new ConcurrentHashMap<>();
+    private final SigningKeyRepository repository = mock(SigningKeyRepository.class);
+
+    public InMemorySigningKeys() {
+        when(repository.existsById(any())).thenAnswer(invocation -> keys.containsKey(invocation.<String>getArgument(0)));
+        when(repository.insert(any(SigningKey.class))).thenAnswer(invocation -> {
+            SigningKey key = invocation.getArgument(0);
+            if (keys.putIfAbsent(key.getId(), key) != null) {
+                throw new DuplicateKeyException(key.getId());
+            }
+            return key;
+        });
+        when(repository.findByActivatedAtAfter(any())).thenAnswer(invocation -> {
+            Instant after = invocation.getArgument(0);
+            return keys.values().stream().filter(key -> key.getActivatedAt().isAfter(after)).toList();
+        });
+    }
+
+    public SigningKeyRepository repository() {
+        return repository;
+    }
+
+    public Map<String, SigningKey> keys() {
+        return keys;
+    }
+
+    /**
+     * A key ring over a fresh, empty key store.
+     */
+    public static SigningKeyRing newKeyRing() {
+        return new SigningKeyRing(new InMemorySigningKeys().repository(), PROPERTIES);
+    }
+}
@@ -1,16 +1,25 @@
 package com.backend.devConnectBackend.security;
 
+import com.backend.devConnectBackend.model.Role;
+import com.backend.devConnectBackend.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class JwtServiceTest {
 
-    private final JwtService jwtService = new JwtService();
+    private final InMemorySigningKeys signingKeys = new InMemorySigningKeys();
+    private final JwtService jwtService = new JwtService(InMemorySigningKeys.PROPERTIES,
+            new SigningKeyRing(signingKeys.repository(), InMemorySigningKeys.PROPERTIES));
 
     @Test
     void generateToken_ValidInput() {
-        String token = jwtService.generateToken("test@example.com", "USER");
+        String token = jwtService.generateToken(user("test@example.com", Role.USER));
         
         assertNotNull(token);
         assertTrue(token.length() > 0);
@@ -18,7 +27,7 @@ class JwtServiceTest {
 
     @Test
     void generateToken_ContainsCorrectStructure() {
-        String token = jwtService.generateToken("test@example.com", "ADMIN");
+        String token = jwtService.generateToken(user("test@example.com", Role.ADMIN));
         
         String[] parts = token.split("\\.");
         assertEquals(3, parts.length); // JWT has header.payload.signature
@@ -26,9 +35,75 @@ class JwtServiceTest {
 
     @Test
     void generateToken_DifferentInputsProduceDifferentTokens() {
-        String token1 = jwtService.generateToken("user1@test.com", "USER");
-        String token2 = jwtService.generateToken("user2@test.com", "ADMIN");
+        String token1 = jwtService.generateToken(user("user1@test.com", Role.USER));
+        String token2 = jwtService.generateToken(user("user2@test.com", Role.ADMIN));
         
         assertNotEquals(token1, token2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void extractAllClaims_SameToken_ReturnsCachedClaims() {
+        String token = jwtService.generateToken(user("test@example.com", Role.USER));
+
+        Claims first = jwtService.extractAllClaims(token);
+        Claims second = jwtService.extractAllClaims(token);
+
+        assertSame(first, second);
+        assertEquals("test@example.com", first.getSubject());
+        assertEquals("USER", first.get("role", String.class));
+    }
+
+    @Test
+    void extractAllClaims_TamperedToken_Throws() {
+        String token = jwtService.generateToken(user("test@example.com", Role.USER));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(tampered));
+    }
+
+    @Test
+    void extractAllClaims_TokenFromAnotherKeyStore_Throws() {
+        JwtService otherDeployment = new JwtService(InMemorySigningKeys.PROPERTIES, InMemorySigningKeys.newKeyRing());
+        String foreignToken = otherDeployment.generateToken(user("test@example.com", Role.USER));
+
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(foreignToken));
+    }
+
+    @Test
+    void extractAllClaims_TokenFromAnotherInstanceSharingKeys_Verifies() {
+        JwtService otherInstance = new JwtService(InMemorySigningKeys.PROPERTIES,
+                new SigningKeyRing(signingKeys.repository(), InMemorySigningKeys.PROPERTIES));
+        String token = otherInstance.generateToken(user("test@example.com", Role.USER));
+
+        assertEquals("test@example.com", jwtService.extractAllClaims(token).getSubject());
+    }
+
+    @Test
+    void extractAllClaims_TokenWithoutKeyId_Throws() {
+        String legacyToken = io.jsonwebtoken.Jwts.builder()
+                .setSubject("test@example.com")
+                .signWith(io.jsonwebtoken.security.Keys.secretKeyFor(io.jsonwebtoken.SignatureAlgorithm.HS256))
+                .compact();
+
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(legacyToken));
+    }
+
+    @Test
+    void generateToken_CarriesUserIdRoleAndEpoch() {
+        User user = user("test@example.com", Role.ADMIN);
+        user.setTokenEpoch(3);
+
+        Claims claims = jwtService.extractAllClaims(jwtService.generateToken(user));
+        Optional<TokenPrincipal> principal = TokenPrincipal.fromClaims(claims);
+
+        assertTrue(principal.isPresent());
+        assertEquals("id-test@example.com", principal.get().getId());
+        assertEquals("test@example.com", principal.get().getEmail());
+        assertEquals(Role.ADMIN, principal.get().getRole());
+        assertEquals(3, jwtService.extractTokenEpoch(claims));
+    }
+
+    private static User user(String email, Role role) {
+        return new User("id-" + email, "Test", email, "hashed", role, List.of(), null, null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.config.LoginThrottleProperties;
+import com.backend.devConnectBackend.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottle = new LoginThrottle(new LoginThrottleProperties(3, 10, Duration.ofMinutes(1), 1000),
+                clock::get);
+    }
+
+    @Test
+    void acquire_BurstPerEmail_ThenThrottledUntilNextSlot() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("john@test.com", "10.0.0." + i);
+        }
+
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.acquire("JOHN@test.com", "10.0.0.9"));
+        assertEquals(Duration.ofSeconds(20), ex.getRetryAfter());
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertDoesNotThrow(() -> loginThrottle.acquire("john@test.com", "10.0.0.9"));
+    }
+
+    @Test
+    void acquire_ManyEmailsFromOneIp_ThrottledByIp() {
+        for (int i = 0; i < 10; i++) {
+            loginThrottle.acquire("user" + i + "@test.com", "10.0.0.1");
+        }
+
+        assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.acquire("other@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> loginThrottle.acquire("other@test.com", "10.0.0.2"));
+    }
+
+    @Test
+    void bindTo_CountsThrottledAttemptsPerKey() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        loginThrottle.bindTo(registry);
+
+        for (int i = 0; i < 5; i++) {
+            try {
+                loginThrottle.acquire("john@test.com", "10.0.0.1");
+            } catch (LoginThrottledException ignored) {
+                // expected once the burst is used up
+            }
+        }
+
+        assertEquals(2.0, registry.get("auth.login.throttled").tag("key", "email").functionCounter().count());
+        assertEquals(0.0, registry.get("auth.login.throttled").tag("key", "ip").functionCounter().count());
+    }
+}
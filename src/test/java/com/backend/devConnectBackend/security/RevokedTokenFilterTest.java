@@ -0,0 +1,164 @@
+package com.backend.devConnectBackend.security;
+
+import com.backend.devConnectBackend.model.RevokedToken;
+import com.backend.devConnectBackend.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:30Z");
+
+    private Instant now = NOW;
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    };
+
+    @Mock
+    private RevokedTokenRepository repository;
+
+    private RevokedTokenFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RevokedTokenFilter(repository, clock);
+    }
+
+    @Test
+    void isRevoked_UnknownToken_NoDatabaseRead() {
+        assertFalse(filter.isRevoked("jti-1", NOW.plus(Duration.ofMinutes(10))));
+
+        verify(repository, never()).existsById(anyString());
+    }
+
+    @Test
+    void revoke_TokenRejectedWithoutDatabaseRead() {
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(10));
+
+        filter.revoke("jti-1", expiresAt);
+
+        assertTrue(filter.isRevoked("jti-1", expiresAt));
+        verify(repository).save(any(RevokedToken.class));
+        verify(repository, never()).existsById(anyString());
+    }
+
+    @Test
+    void revoke_ExpiredToken_Ignored() {
+        filter.revoke("jti-1", NOW.minusSeconds(1));
+
+        verify(repository, never()).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void refresh_PicksUpRevocationsFromOtherInstances() {
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(10));
+        when(repository.findByRevokedAtAfter(any()))
+                .thenReturn(List.of(new RevokedToken("jti-1", expiresAt, NOW)));
+
+        filter.refresh();
+
+        assertTrue(filter.isRevoked("jti-1", expiresAt));
+        assertFalse(filter.isRevoked("jti-2", expiresAt));
+    }
+
+    @Test
+    void refresh_PollsFromLastWatermark() {
+        Instant revokedAt = NOW.minusSeconds(5);
+        when(repository.findByRevokedAtAfter(any()))
+                .thenReturn(List.of(new RevokedToken("jti-1", NOW.plus(Duration.ofMinutes(10)), revokedAt)))
+                .thenReturn(List.of());
+
+        filter.refresh();
+        filter.refresh();
+
+        verify(repository).findByRevokedAtAfter(revokedAt.minusSeconds(30));
+    }
+
+    @Test
+    void refresh_DropsBucketsOfExpiredTokens() {
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(10));
+        filter.revoke("jti-1", expiresAt);
+        when(repository.findByRevokedAtAfter(any())).thenReturn(List.of());
+
+        now = expiresAt.plus(Duration.ofMinutes(2));
+        filter.refresh();
+
+        // expired tokens are rejected by signature validation anyway
+        assertFalse(filter.isRevoked("jti-1", expiresAt));
+    }
+
+    @Test
+    void isRevoked_FalsePositive_ConfirmedOnceByRepository() {
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(10));
+        String falsePositive = findFalsePositive(expiresAt);
+        when(repository.existsById(falsePositive)).thenReturn(false);
+
+        assertFalse(filter.isRevoked(falsePositive, expiresAt));
+        assertFalse(filter.isRevoked(falsePositive, expiresAt));
+        verify(repository).existsById(falsePositive);
+    }
+
+    @Test
+    void isRevoked_CannotConfirm_TreatedAsRevoked() {
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(10));
+        String falsePositive = findFalsePositive(expiresAt);
+        when(repository.existsById(falsePositive)).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertTrue(filter.isRevoked(falsePositive, expiresAt));
+    }
+
+    @Test
+    void isRevoked_TokenWithoutId_NotRevoked() {
+        assertFalse(filter.isRevoked(null, NOW.plus(Duration.ofMinutes(10))));
+    }
+
+    /**
+     * Overfill one bucket, then find a token ID it wrongly reports as revoked.
+     */
+    private String findFalsePositive(Instant expiresAt) {
+        List<RevokedToken> revoked = IntStream.range(0, 50_000)
+                .mapToObj(i -> new RevokedToken("revoked-" + i, expiresAt, NOW))
+                .toList();
+        when(repository.findByRevokedAtAfter(any())).thenReturn(revoked);
+        filter.refresh();
+
+        return IntStream.range(0, 100_000)
+                .mapToObj(i -> "candidate-" + i)
+                .filter(id -> filter.mightBeRevoked(id, expiresAt))
+                .findFirst()
+                .orElseThrow();
+    }
+}
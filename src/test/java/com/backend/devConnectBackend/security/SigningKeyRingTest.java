@@ -0,0 +1,81 @@
+package com.backend.devConnectBackend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigningKeyRingTest {
+
+    private static final Duration ROTATION = InMemorySigningKeys.PROPERTIES.keyRotationPeriod();
+
+    private final InMemorySigningKeys store = new InMemorySigningKeys();
+    // One minute into a rotation period, well within an access token lifetime
+    private Instant now = Instant.ofEpochMilli(ROTATION.toMillis() * 2900).plus(Duration.ofMinutes(1));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    };
+
+    @Test
+    void current_CreatesKeyForThisAndNextPeriod() {
+        SigningKeyRing ring = new SigningKeyRing(store.repository(), InMemorySigningKeys.PROPERTIES, clock);
+
+        SigningKeyRing.ActiveKey active = ring.current();
+
+        assertEquals(2, store.keys().size());
+        assertSame(active.key(), ring.resolve(active.kid()));
+    }
+
+    @Test
+    void current_TwoInstances_AgreeOnKey() {
+        SigningKeyRing first = new SigningKeyRing(store.repository(), InMemorySigningKeys.PROPERTIES, clock);
+        SigningKeyRing second = new SigningKeyRing(store.repository(), InMemorySigningKeys.PROPERTIES, clock);
+
+        SigningKeyRing.ActiveKey active = first.current();
+
+        assertEquals(active.kid(), second.current().kid());
+        assertEquals(active.key(), second.resolve(active.kid()));
+    }
+
+    @Test
+    void refresh_AfterRotation_KeepsPreviousKeyUntilItsTokensExpire() {
+        SigningKeyRing ring = new SigningKeyRing(store.repository(), InMemorySigningKeys.PROPERTIES, clock);
+        String previousKid = ring.current().kid();
+
+        now = now.plus(ROTATION);
+        ring.refresh();
+
+        assertNotEquals(previousKid, ring.current().kid());
+        assertNotNull(ring.resolve(previousKid));
+
+        now = now.plus(ROTATION).plus(InMemorySigningKeys.PROPERTIES.expiration());
+        ring.refresh();
+
+        assertNull(ring.resolve(previousKid));
+    }
+
+    @Test
+    void resolve_UnknownKeyId_ReturnsNull() {
+        SigningKeyRing ring = new SigningKeyRing(store.repository(), InMemorySigningKeys.PROPERTIES, clock);
+
+        assertNull(ring.resolve("p1"));
+        assertNull(ring.resolve(null));
+    }
+}
@@ -1,14 +1,24 @@
 package com.backend.devConnectBackend.service;
 
+import com.backend.devConnectBackend.config.PasswordHashingProperties;
 import com.backend.devConnectBackend.dto.LoginRequest;
 import com.backend.devConnectBackend.dto.LoginResult;
+import com.backend.devConnectBackend.dto.RefreshResult;
 import com.backend.devConnectBackend.dto.RegisterRequest;
+import com.backend.devConnectBackend.dto.UserImportResult;
 import com.backend.devConnectBackend.model.Role;
 import com.backend.devConnectBackend.model.User;
 import com.backend.devConnectBackend.repository.UserRepository;
 import com.backend.devConnectBackend.security.JwtService;
+import com.backend.devConnectBackend.security.RevokedTokenFilter;
+import com.backend.devConnectBackend.security.TokenEpochRegistry;
+import com.mongodb.bulk.BulkWriteError;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.bson.BsonDocument;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,10 +26,18 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -32,12 +50,37 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Mock
+    private UserLookupService userLookupService;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmails;
+
+    @Mock
+    private RefreshTokenService refreshTokens;
+
+    @Mock
+    private RevokedTokenFilter revokedTokens;
+
     private AuthService authService;
     private PasswordEncoder encoder = new BCryptPasswordEncoder();
+    private PasswordHashingService passwordHashing;
 
     @BeforeEach
     void setUp() {
-        authService = new AuthService(userRepository, jwtService, encoder);
+        passwordHashing = new PasswordHashingService(encoder,
+                new PasswordHashingProperties(1, 4, Duration.ofSeconds(1)));
+        authService = new AuthService(userRepository, jwtService, passwordHashing, tokenEpochRegistry,
+                userLookupService, registeredEmails, refreshTokens, revokedTokens, Runnable::run);
+        lenient().when(registeredEmails.mightBeRegistered(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashing.shutdown();
     }
 
     @Test
@@ -45,11 +88,61 @@ class AuthServiceTest {
         RegisterRequest request = createRegisterRequest();
         when(userRepository.findByEmail(request.email())).thenReturn(Optional.empty());
 
-        authService.register(request);
+        authService.register(request).join();
+
+        verify(userRepository).save(any(User.class));
+        verify(userLookupService).evictByEmail(request.email());
+        verify(registeredEmails).add(request.email());
+    }
+
+    @Test
+    void register_SavesOffHashingPool() {
+        ExecutorService writes = Executors.newSingleThreadExecutor();
+        authService = new AuthService(userRepository, jwtService, passwordHashing, tokenEpochRegistry,
+                userLookupService, registeredEmails, refreshTokens, revokedTokens, writes);
+        RegisterRequest request = createRegisterRequest();
+        AtomicReference<String> savingThread = new AtomicReference<>();
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            savingThread.set(Thread.currentThread().getName());
+            return invocation.getArgument(0);
+        });
+
+        try {
+            authService.register(request).join();
+        } finally {
+            writes.shutdown();
+        }
+
+        assertFalse(savingThread.get().startsWith(PasswordHashingService.EXECUTOR_NAME));
+    }
+
+    @Test
+    void register_EmailNeverSeen_SkipsExistenceQuery() {
+        RegisterRequest request = createRegisterRequest();
+        when(registeredEmails.mightBeRegistered(request.email())).thenReturn(false);
 
+        authService.register(request).join();
+
+        verify(userRepository, never()).findByEmail(anyString());
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    void registerAll_DuplicateEmail_ReportedPerUser() {
+        RegisterRequest first = createRegisterRequest();
+        RegisterRequest second = new RegisterRequest("Jane", "jane@test.com", "Password123", Role.USER,
+                List.of(), null, null);
+        when(userRepository.insertUnordered(anyList()))
+                .thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 0)));
+
+        List<UserImportResult.Status> statuses = authService.registerAll(List.of(first, second));
+
+        assertEquals(List.of(UserImportResult.Status.DUPLICATE, UserImportResult.Status.CREATED), statuses);
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(registeredEmails).add("jane@test.com");
+        verify(registeredEmails, never()).add(first.email());
+    }
+
     @Test
     void login_Success() {
         LoginRequest request = createLoginRequest();
@@ -62,14 +155,17 @@ class AuthServiceTest {
                 java.util.List.of(),
                 new BigDecimal("50000.00"),
                 new BigDecimal("60000.00"));
+        user.setId("user123");
         when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
-        when(jwtService.generateToken("john@test.com", "USER")).thenReturn("jwt-token");
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
+        when(refreshTokens.issue("user123")).thenReturn("refresh-token");
 
-        LoginResult result = authService.login(request);
+        LoginResult result = authService.login(request).join();
 
         assertTrue(result instanceof LoginResult.Success);
         assertEquals("jwt-token", ((LoginResult.Success) result).token());
-        verify(jwtService).generateToken("john@test.com", "USER");
+        assertEquals("refresh-token", ((LoginResult.Success) result).refreshToken());
+        verify(jwtService).generateToken(user);
     }
 
     @Test
@@ -86,10 +182,10 @@ class AuthServiceTest {
                 new BigDecimal("60000.00"));
         when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
 
-        LoginResult result = authService.login(request);
+        LoginResult result = authService.login(request).join();
 
         assertTrue(result instanceof LoginResult.InvalidPassword);
-        verify(jwtService, never()).generateToken(anyString(), anyString());
+        verify(jwtService, never()).generateToken(any(User.class));
     }
 
     @Test
@@ -97,10 +193,88 @@ class AuthServiceTest {
         LoginRequest request = createLoginRequest();
         when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.empty());
 
-        LoginResult result = authService.login(request);
+        LoginResult result = authService.login(request).join();
+
+        assertTrue(result instanceof LoginResult.UserNotFound);
+        verify(jwtService, never()).generateToken(any(User.class));
+        verify(registeredEmails).recordFalsePositive();
+    }
+
+    @Test
+    void login_EmailNeverSeen_NotFoundWithoutQuery() {
+        LoginRequest request = createLoginRequest();
+        when(registeredEmails.mightBeRegistered("john@test.com")).thenReturn(false);
+
+        LoginResult result = authService.login(request).join();
 
         assertTrue(result instanceof LoginResult.UserNotFound);
-        verify(jwtService, never()).generateToken(anyString(), anyString());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void revokeAllTokens_BumpsEpochAndEvictsCachedUser() {
+        authService.revokeAllTokens("user123");
+
+        verify(tokenEpochRegistry).revokeAll("user123");
+        verify(refreshTokens).revokeAll("user123");
+        verify(userLookupService).evictById("user123");
+    }
+
+    @Test
+    void refresh_ValidToken_IssuesNewAccessToken() {
+        User user = new User("user123", "John", "john@test.com", "hashed", Role.USER,
+                java.util.List.of(), null, null);
+        when(refreshTokens.rotate("refresh-token"))
+                .thenReturn(Optional.of(new RefreshTokenService.Rotation("user123", "next-refresh-token")));
+        when(userLookupService.findById("user123")).thenReturn(Optional.of(user));
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
+
+        RefreshResult result = authService.refresh("refresh-token");
+
+        assertEquals("jwt-token", ((RefreshResult.Success) result).token());
+        assertEquals("next-refresh-token", ((RefreshResult.Success) result).refreshToken());
+    }
+
+    @Test
+    void refresh_RejectedToken() {
+        when(refreshTokens.rotate("refresh-token")).thenReturn(Optional.empty());
+
+        assertTrue(authService.refresh("refresh-token") instanceof RefreshResult.Rejected);
+        verify(jwtService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void refresh_UserDeleted_Rejected() {
+        when(refreshTokens.rotate("refresh-token"))
+                .thenReturn(Optional.of(new RefreshTokenService.Rotation("user123", "next-refresh-token")));
+        when(userLookupService.findById("user123")).thenReturn(Optional.empty());
+
+        assertTrue(authService.refresh("refresh-token") instanceof RefreshResult.Rejected);
+    }
+
+    @Test
+    void logout_RevokesAccessTokenAndRefreshFamily() {
+        Claims claims = mock(Claims.class);
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.getExpiration()).thenReturn(expiration);
+        when(jwtService.extractAllClaims("jwt-token")).thenReturn(claims);
+
+        authService.logout("jwt-token", "refresh-token");
+
+        verify(revokedTokens).revoke("jti-1", expiration.toInstant());
+        verify(refreshTokens).revoke("refresh-token");
+    }
+
+    @Test
+    void logout_ExpiredAccessToken_StillRevokesRefreshToken() {
+        when(jwtService.extractAllClaims("jwt-token"))
+                .thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        authService.logout("jwt-token", "refresh-token");
+
+        verify(revokedTokens, never()).revoke(anyString(), any(Instant.class));
+        verify(refreshTokens).revoke("refresh-token");
     }
 
     private RegisterRequest createRegisterRequest() {
@@ -1,5 +1,6 @@
 package com.backend.devConnectBackend.service;
 
+import com.backend.devConnectBackend.dto.CommentRequest;
 import com.backend.devConnectBackend.dto.CommentResponse;
 import com.backend.devConnectBackend.exception.PostNotFoundException;
 import com.backend.devConnectBackend.exception.UnauthorizedAccessException;
@@ -8,16 +9,16 @@ import com.backend.devConnectBackend.model.Post;
 import com.backend.devConnectBackend.model.User;
 import com.backend.devConnectBackend.repository.CommentRepository;
 import com.backend.devConnectBackend.repository.PostRepository;
-import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom.CounterChanges;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,6 +27,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +40,10 @@ class CommentServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private PostCounters postCounters;
+
+    @Mock
+    private SerializedPostCache serializedPostCache;
 
     private CommentService commentService;
 
@@ -48,7 +53,9 @@ class CommentServiceTest {
 
     @BeforeEach
     void setUp() {
-        commentService = new CommentService(commentRepository, postRepository, userRepository);
+        commentService = new CommentService(commentRepository, postRepository, postCounters, serializedPostCache);
+        lenient().when(postCounters.pending(anyString())).thenAnswer(
+                invocation -> new CounterChanges(invocation.getArgument(0), 0, 0, 0, 0));
 
         user = new User();
         user.setId("user123");
@@ -74,14 +81,14 @@ class CommentServiceTest {
                 createComment("comment2", "Thanks for sharing!", publicPost, user));
 
         Pageable pageable = PageRequest.of(0, 2);
-        Page<Comment> commentsPage = new PageImpl<>(commentsList, pageable, commentsList.size());
+        publicPost.setCommentCount(2);
 
         when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
-        when(commentRepository.findByPostOrderByCreatedAtDesc(publicPost, pageable))
-                .thenReturn(commentsPage);
+        when(commentRepository.findSliceByPostOrderByCreatedAtDesc(publicPost, pageable))
+                .thenReturn(new SliceImpl<>(commentsList, pageable, false));
 
         // When
-        Page<CommentResponse> result = commentService.getComments("post123", pageable);
+        Page<CommentResponse> result = getComments("post123", pageable);
 
         // Then
         assertNotNull(result);
@@ -93,21 +100,21 @@ class CommentServiceTest {
         assertEquals("Thanks for sharing!", result.getContent().get(1).content());
 
         verify(postRepository).findById("post123");
-        verify(commentRepository).findByPostOrderByCreatedAtDesc(publicPost, pageable);
+        verify(commentRepository).findSliceByPostOrderByCreatedAtDesc(publicPost, pageable);
+        verify(commentRepository, never()).findByPostOrderByCreatedAtDesc(any(), any(Pageable.class));
     }
 
     @Test
     void getComments_ReturnsEmptyPage_WhenNoComments() {
         // Given
         Pageable pageable = PageRequest.of(0, 2);
-        Page<Comment> emptyPage = new PageImpl<>(new ArrayList<>(), pageable, 0);
 
         when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
-        when(commentRepository.findByPostOrderByCreatedAtDesc(publicPost, pageable))
-                .thenReturn(emptyPage);
+        when(commentRepository.findSliceByPostOrderByCreatedAtDesc(publicPost, pageable))
+                .thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, false));
 
         // When
-        Page<CommentResponse> result = commentService.getComments("post123", pageable);
+        Page<CommentResponse> result = getComments("post123", pageable);
 
         // Then
         assertNotNull(result);
@@ -116,7 +123,7 @@ class CommentServiceTest {
         assertEquals(0, result.getContent().size());
 
         verify(postRepository).findById("post123");
-        verify(commentRepository).findByPostOrderByCreatedAtDesc(publicPost, pageable);
+        verify(commentRepository).findSliceByPostOrderByCreatedAtDesc(publicPost, pageable);
     }
 
     @Test
@@ -127,10 +134,10 @@ class CommentServiceTest {
 
         // When & Then
         assertThrows(PostNotFoundException.class,
-                () -> commentService.getComments("nonexistent", pageable));
+                () -> commentService.getCommentsVersion("nonexistent", pageable));
 
         verify(postRepository).findById("nonexistent");
-        verify(commentRepository, never()).findByPostOrderByCreatedAtDesc(any(), any());
+        verifyNoInteractions(commentRepository);
     }
 
     @Test
@@ -141,10 +148,10 @@ class CommentServiceTest {
 
         // When & Then
         assertThrows(UnauthorizedAccessException.class,
-                () -> commentService.getComments("post456", pageable));
+                () -> commentService.getCommentsVersion("post456", pageable));
 
         verify(postRepository).findById("post456");
-        verify(commentRepository, never()).findByPostOrderByCreatedAtDesc(any(), any());
+        verifyNoInteractions(commentRepository);
     }
 
     @Test
@@ -156,14 +163,14 @@ class CommentServiceTest {
                 createComment("comment3", "Third comment", publicPost, user));
 
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Comment> commentsPage = new PageImpl<>(commentsList, pageable, 3);
+        publicPost.setCommentCount(3);
 
         when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
-        when(commentRepository.findByPostOrderByCreatedAtDesc(publicPost, pageable))
-                .thenReturn(commentsPage);
+        when(commentRepository.findSliceByPostOrderByCreatedAtDesc(publicPost, pageable))
+                .thenReturn(new SliceImpl<>(commentsList, pageable, false));
 
         // When
-        Page<CommentResponse> result = commentService.getComments("post123", pageable);
+        Page<CommentResponse> result = getComments("post123", pageable);
 
         // Then
         assertNotNull(result);
@@ -173,7 +180,7 @@ class CommentServiceTest {
         assertTrue(result.isFirst());
         assertTrue(result.isLast());
 
-        verify(commentRepository).findByPostOrderByCreatedAtDesc(publicPost, pageable);
+        verify(commentRepository).findSliceByPostOrderByCreatedAtDesc(publicPost, pageable);
     }
 
     @Test
@@ -184,14 +191,14 @@ class CommentServiceTest {
                 createComment("comment4", "Fourth comment", publicPost, user));
 
         Pageable pageable = PageRequest.of(1, 2); // Second page, size 2
-        Page<Comment> commentsPage = new PageImpl<>(commentsList, pageable, 5); // Total 5 comments
+        publicPost.setCommentCount(5); // Total 5 comments
 
         when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
-        when(commentRepository.findByPostOrderByCreatedAtDesc(publicPost, pageable))
-                .thenReturn(commentsPage);
+        when(commentRepository.findSliceByPostOrderByCreatedAtDesc(publicPost, pageable))
+                .thenReturn(new SliceImpl<>(commentsList, pageable, true));
 
         // When
-        Page<CommentResponse> result = commentService.getComments("post123", pageable);
+        Page<CommentResponse> result = getComments("post123", pageable);
 
         // Then
         assertNotNull(result);
@@ -201,7 +208,97 @@ class CommentServiceTest {
         assertFalse(result.isFirst());
         assertFalse(result.isLast());
 
-        verify(commentRepository).findByPostOrderByCreatedAtDesc(publicPost, pageable);
+        verify(commentRepository).findSliceByPostOrderByCreatedAtDesc(publicPost, pageable);
+    }
+
+    @Test
+    void getComments_PendingComment_CountedInTotal() {
+        Pageable pageable = PageRequest.of(0, 2);
+        publicPost.setCommentCount(2);
+        when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
+        when(postCounters.pending("post123")).thenReturn(new CounterChanges("post123", 1, 0, 0, 1));
+        when(commentRepository.findSliceByPostOrderByCreatedAtDesc(publicPost, pageable))
+                .thenReturn(new SliceImpl<>(List.of(createComment("comment3", "Third", publicPost, user),
+                        createComment("comment2", "Second", publicPost, user)), pageable, true));
+
+        assertEquals(3, getComments("post123", pageable).getTotalElements());
+    }
+
+    @Test
+    void getCommentsVersion_ChangesWithCommentsNotPage_WithoutReadingComments() {
+        Pageable pageable = PageRequest.of(0, 2);
+        when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
+
+        publicPost.setCommentCount(3);
+        publicPost.setCommentRevision(7L);
+        String first = commentService.getCommentsVersion("post123", pageable).eTag();
+        String unchanged = commentService.getCommentsVersion("post123", pageable).eTag();
+        // One comment deleted and one added, not yet written: same count, new revision
+        when(postCounters.pending("post123")).thenReturn(new CounterChanges("post123", 0, 0, 0, 2));
+        String afterSwap = commentService.getCommentsVersion("post123", pageable).eTag();
+        // The same changes once written
+        when(postCounters.pending("post123")).thenReturn(new CounterChanges("post123", 0, 0, 0, 0));
+        publicPost.setCommentRevision(9L);
+        String afterFlush = commentService.getCommentsVersion("post123", pageable).eTag();
+        // Another comment added
+        publicPost.setCommentCount(4);
+        publicPost.setCommentRevision(10L);
+        String afterAdd = commentService.getCommentsVersion("post123", pageable).eTag();
+
+        assertEquals(first, unchanged);
+        assertNotEquals(first, afterSwap);
+        assertEquals(afterSwap, afterFlush);
+        assertNotEquals(afterFlush, afterAdd);
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void getCommentsVersion_PrivatePost_ThrowsUnauthorized() {
+        when(postRepository.findById("post456")).thenReturn(Optional.of(privatePost));
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> commentService.getCommentsVersion("post456", PageRequest.of(0, 2)));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void addComment_UsesResolvedUser_WithoutLookup() {
+        when(postRepository.findById("post123")).thenReturn(Optional.of(publicPost));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CommentResponse result = commentService.addComment("post123", new CommentRequest("Nice!"), user);
+
+        assertEquals("Nice!", result.content());
+        assertEquals("Test User", result.userName());
+        verify(postCounters).addComments("post123", 1);
+        verify(serializedPostCache).invalidate("post123");
+    }
+
+    @Test
+    void deleteComment_ByOtherUser_ThrowsUnauthorized() {
+        Comment comment = createComment("comment1", "Great post!", publicPost, user);
+        when(commentRepository.findById("comment1")).thenReturn(Optional.of(comment));
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> commentService.deleteComment("comment1", "otherUser"));
+
+        verify(commentRepository, never()).delete(any());
+    }
+
+    @Test
+    void deleteComment_ByAuthor_DeletesAndDecrementsCount() {
+        Comment comment = createComment("comment1", "Great post!", publicPost, user);
+        when(commentRepository.findById("comment1")).thenReturn(Optional.of(comment));
+
+        commentService.deleteComment("comment1", "user123");
+
+        verify(commentRepository).delete(comment);
+        verify(postCounters).addComments("post123", -1);
+        verify(serializedPostCache).invalidate("post123");
+    }
+
+    private Page<CommentResponse> getComments(String postId, Pageable pageable) {
+        return commentService.getComments(commentService.getCommentsVersion(postId, pageable), pageable);
     }
 
     // Helper method to create Comment objects
@@ -0,0 +1,87 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.exception.InvalidFollowException;
+import com.backend.devConnectBackend.exception.UserNotFoundException;
+import com.backend.devConnectBackend.model.Follow;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.FollowRepository;
+import com.backend.devConnectBackend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserLookupService userLookupService;
+
+    @Mock
+    private TimelineService timelineService;
+
+    private FollowService followService;
+
+    @BeforeEach
+    void setUp() {
+        followService = new FollowService(followRepository, userRepository, userLookupService, timelineService);
+    }
+
+    @Test
+    void follow_NewFollow_IncrementsFollowerCount() {
+        when(userLookupService.findById("author1")).thenReturn(Optional.of(new User()));
+        when(followRepository.existsByFollowerIdAndFolloweeId("reader", "author1")).thenReturn(false);
+
+        followService.follow("reader", "author1");
+
+        verify(followRepository).save(any(Follow.class));
+        verify(userRepository).incrementFollowerCount("author1", 1);
+        verify(userLookupService).evictById("author1");
+    }
+
+    @Test
+    void follow_AlreadyFollowing_NoChange() {
+        when(userLookupService.findById("author1")).thenReturn(Optional.of(new User()));
+        when(followRepository.existsByFollowerIdAndFolloweeId("reader", "author1")).thenReturn(true);
+
+        followService.follow("reader", "author1");
+
+        verify(followRepository, never()).save(any());
+        verify(userRepository, never()).incrementFollowerCount(any(), anyInt());
+    }
+
+    @Test
+    void follow_Self_Throws() {
+        assertThrows(InvalidFollowException.class, () -> followService.follow("reader", "reader"));
+    }
+
+    @Test
+    void follow_UnknownAuthor_Throws() {
+        when(userLookupService.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> followService.follow("reader", "missing"));
+    }
+
+    @Test
+    void unfollow_RemovesAuthorFromTimeline() {
+        when(followRepository.deleteByFollowerIdAndFolloweeId("reader", "author1")).thenReturn(1L);
+
+        followService.unfollow("reader", "author1");
+
+        verify(userRepository).incrementFollowerCount("author1", -1);
+        verify(timelineService).unfollowed("reader", "author1");
+    }
+}
@@ -0,0 +1,110 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.PasswordHashingProperties;
+import com.backend.devConnectBackend.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService passwordHashing;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashing.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_RunOnHashingPool() {
+        passwordHashing = new PasswordHashingService(new BCryptPasswordEncoder(4), properties(1, 4));
+
+        String hashed = passwordHashing.encode("secret").join();
+
+        assertTrue(passwordHashing.matches("secret", hashed).join());
+        assertFalse(passwordHashing.matches("other", hashed).join());
+    }
+
+    @Test
+    void encode_PoolAndQueueFull_RejectedWithRetryAfter() {
+        passwordHashing = new PasswordHashingService(blockingEncoder(), properties(1, 1));
+
+        CompletableFuture<String> running = passwordHashing.encode("first");
+        CompletableFuture<String> queued = passwordHashing.encode("second");
+
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class,
+                () -> passwordHashing.encode("third"));
+        assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+
+        release.countDown();
+        assertEquals("hashed", running.join());
+        assertEquals("hashed", queued.join());
+    }
+
+    @Test
+    void encodeAll_MoreThanPoolAndQueue_HashesEveryPasswordInOrder() {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        passwordHashing = new PasswordHashingService(encoder, properties(2, 1));
+        List<String> passwords = List.of("one", "two", "three", "four", "five", "six");
+
+        List<String> hashes = passwordHashing.encodeAll(passwords);
+
+        assertEquals(passwords.size(), hashes.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(encoder.matches(passwords.get(i), hashes.get(i)));
+        }
+    }
+
+    @Test
+    void encodeAll_PoolSaturated_HashesOnCallingThread() {
+        PasswordEncoder blocking = blockingEncoder();
+        passwordHashing = new PasswordHashingService(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "blocked".contentEquals(rawPassword) ? blocking.encode(rawPassword) : "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        }, properties(1, 1));
+        passwordHashing.encode("blocked");
+        passwordHashing.encode("blocked");
+
+        assertEquals(List.of("hashed-a"), passwordHashing.encodeAll(List.of("a")));
+    }
+
+    private PasswordHashingProperties properties(int poolSize, int queueCapacity) {
+        return new PasswordHashingProperties(poolSize, queueCapacity, Duration.ofSeconds(2));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.CounterProperties;
+import com.backend.devConnectBackend.config.PublicFeedCacheProperties;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom.CounterChanges;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCountersTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    void add_WriteBehindOff_WritesAtOnce() {
+        PostCounters counters = counters(false);
+
+        counters.addComments("post1", 1);
+        counters.addReactions("post1", -1, 1);
+
+        verify(postRepository).incrementCommentCount("post1", 1);
+        verify(postRepository).incrementLikeCount("post1", -1);
+        verify(postRepository).incrementDislikeCount("post1", 1);
+        verify(postRepository, never()).incrementCounters(any());
+    }
+
+    @Test
+    void add_EitherMode_PatchesPublicFeedCache() {
+        PublicFeedCache publicFeedCache = mock(PublicFeedCache.class);
+        for (boolean writeBehind : new boolean[] { false, true }) {
+            PostCounters counters = new PostCounters(postRepository, publicFeedCache,
+                    new CounterProperties(writeBehind, Duration.ofMillis(250)));
+
+            counters.addComments("post1", 1);
+            counters.addReactions("post1", 1, -1);
+        }
+
+        verify(publicFeedCache, times(2)).addToCounts("post1", 1, 0, 0);
+        verify(publicFeedCache, times(2)).addToCounts("post1", 0, 1, -1);
+    }
+
+    @Test
+    void flush_CombinesChangesPerPostIntoOneBulkWrite() {
+        PostCounters counters = counters(true);
+        when(postRepository.incrementCounters(any())).thenReturn(List.of());
+
+        counters.addReactions("post1", 1, 0);
+        counters.addReactions("post1", 1, 0);
+        counters.addReactions("post1", -1, 1);
+        counters.addComments("post1", 1);
+        counters.addComments("post2", 1);
+        counters.flush();
+
+        verify(postRepository).incrementCounters(argThat(changes -> changes.size() == 2
+                && changes.contains(new CounterChanges("post1", 1, 1, 1, 1))
+                && changes.contains(new CounterChanges("post2", 1, 0, 0, 1))));
+        verify(postRepository, never()).incrementLikeCount(any(), anyInt());
+    }
+
+    @Test
+    void pending_AddedUntilFlushed() {
+        PostCounters counters = counters(true);
+        when(postRepository.incrementCounters(any())).thenReturn(List.of());
+
+        counters.addReactions("post1", 1, 0);
+        counters.addReactions("post1", 1, 0);
+
+        assertEquals(new CounterChanges("post1", 0, 2, 0, 0), counters.pending("post1"));
+
+        counters.flush();
+
+        assertEquals(0, counters.pending("post1").likes());
+    }
+
+    @Test
+    void flush_CommentAddedAndDeleted_WritesRevision() {
+        PostCounters counters = counters(true);
+        when(postRepository.incrementCounters(any())).thenReturn(List.of());
+
+        counters.addComments("post1", 1);
+        counters.addComments("post1", -1);
+        counters.flush();
+
+        verify(postRepository).incrementCounters(List.of(new CounterChanges("post1", 0, 0, 0, 2)));
+    }
+
+    @Test
+    void flush_FailedUpdates_KeptForNextFlush() {
+        PostCounters counters = counters(true);
+        BulkWriteError error = new BulkWriteError(11000, "failed", new BsonDocument(), 0);
+        List<List<CounterChanges>> written = new ArrayList<>();
+        when(postRepository.incrementCounters(any())).thenAnswer(invocation -> {
+            written.add(List.copyOf(invocation.getArgument(0)));
+            return written.size() == 1 ? List.of(error) : List.of();
+        });
+
+        counters.addComments("post1", 2);
+        counters.flush();
+        counters.flush();
+
+        assertEquals(List.of(List.of(new CounterChanges("post1", 2, 0, 0, 2)),
+                List.of(new CounterChanges("post1", 2, 0, 0, 2))), written);
+    }
+
+    @Test
+    void flush_DatabaseUnavailable_KeepsChanges() {
+        PostCounters counters = counters(true);
+        when(postRepository.incrementCounters(any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of());
+
+        counters.addComments("post1", 1);
+        counters.flush();
+
+        assertEquals(1, counters.pending("post1").comments());
+        counters.flush();
+        verify(postRepository, times(2)).incrementCounters(List.of(new CounterChanges("post1", 1, 0, 0, 1)));
+    }
+
+    @Test
+    void close_FlushesThenWritesLaterChangesAtOnce() {
+        PostCounters counters = counters(true);
+        when(postRepository.incrementCounters(any())).thenReturn(List.of());
+
+        counters.addComments("post1", 1);
+        counters.close();
+        counters.addComments("post1", 1);
+
+        verify(postRepository).incrementCounters(List.of(new CounterChanges("post1", 1, 0, 0, 1)));
+        verify(postRepository).incrementCommentCount("post1", 1);
+    }
+
+    @Test
+    void concurrentAddsAndFlushes_NothingLostOrCountedTwice() throws Exception {
+        PostCounters counters = counters(true);
+        AtomicLong written = new AtomicLong();
+        when(postRepository.incrementCounters(any())).thenAnswer(invocation -> {
+            List<CounterChanges> changes = invocation.getArgument(0);
+            changes.forEach(change -> written.addAndGet(change.likes()));
+            return List.of();
+        });
+
+        int threads = 4;
+        int addsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < addsPerThread; i++) {
+                    counters.addReactions("post" + (i % 3), 1, 0);
+                }
+                done.countDown();
+            });
+        }
+        executor.execute(() -> {
+            while (done.getCount() > 0) {
+                counters.flush();
+            }
+        });
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        counters.close();
+
+        assertEquals((long) threads * addsPerThread, written.get());
+    }
+
+    private PostCounters counters(boolean writeBehind) {
+        return new PostCounters(postRepository,
+                new PublicFeedCache(new PublicFeedCacheProperties(10, Duration.ofMinutes(1))),
+                new CounterProperties(writeBehind, Duration.ofMillis(250)));
+    }
+}
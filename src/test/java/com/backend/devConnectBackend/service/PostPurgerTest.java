@@ -0,0 +1,123 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.PurgeProperties;
+import com.backend.devConnectBackend.model.PostDeletion;
+import com.backend.devConnectBackend.repository.CommentRepository;
+import com.backend.devConnectBackend.repository.PostDeletionRepository;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.ReactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostPurgerTest {
+
+    @Mock
+    private PostDeletionRepository postDeletionRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ReactionRepository reactionRepository;
+
+    private PostPurger postPurger;
+
+    @BeforeEach
+    void setUp() {
+        postPurger = new PostPurger(postDeletionRepository, postRepository, commentRepository, reactionRepository,
+                new PurgeProperties(2, Duration.ZERO, 3, Duration.ofSeconds(30), Duration.ofMinutes(1),
+                        Duration.ofHours(6)));
+    }
+
+    @Test
+    void schedule_RecordsDeletion() {
+        postPurger.schedule("post1");
+
+        ArgumentCaptor<PostDeletion> deletion = ArgumentCaptor.forClass(PostDeletion.class);
+        verify(postDeletionRepository).save(deletion.capture());
+        assertEquals("post1", deletion.getValue().getPostId());
+        assertNotNull(deletion.getValue().getRequestedAt());
+    }
+
+    @Test
+    void purge_DeletesInBatchesUntilNothingIsLeft() {
+        when(postDeletionRepository.findByOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(new PostDeletion("post1", LocalDateTime.now())));
+        when(commentRepository.deleteBatchByPostId("post1", 2)).thenReturn(2L, 1L);
+        when(reactionRepository.deleteBatchByPostId("post1", 2)).thenReturn(2L, 0L);
+
+        postPurger.purge();
+
+        verify(commentRepository, times(2)).deleteBatchByPostId("post1", 2);
+        verify(reactionRepository, times(2)).deleteBatchByPostId("post1", 2);
+        verify(postDeletionRepository).deleteById("post1");
+    }
+
+    @Test
+    void purge_StopsAtBatchBudgetAndKeepsDeletion() {
+        when(postDeletionRepository.findByOrderByRequestedAtAsc(any())).thenReturn(List.of(
+                new PostDeletion("post1", LocalDateTime.now()), new PostDeletion("post2", LocalDateTime.now())));
+        when(commentRepository.deleteBatchByPostId("post1", 2)).thenReturn(2L);
+        when(reactionRepository.deleteBatchByPostId("post1", 2)).thenReturn(0L);
+
+        postPurger.purge();
+
+        verify(commentRepository, times(3)).deleteBatchByPostId("post1", 2);
+        verify(commentRepository, never()).deleteBatchByPostId(eq("post2"), anyInt());
+        verify(postDeletionRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void purge_PostStillExists_DropsDeletionWithoutPurging() {
+        when(postDeletionRepository.findByOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(new PostDeletion("post1", LocalDateTime.now())));
+        when(postRepository.existsById("post1")).thenReturn(true);
+
+        postPurger.purge();
+
+        verify(postDeletionRepository).deleteById("post1");
+        verifyNoInteractions(commentRepository, reactionRepository);
+    }
+
+    @Test
+    void purge_DatabaseUnavailable_DoesNotThrow() {
+        when(postDeletionRepository.findByOrderByRequestedAtAsc(any()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertDoesNotThrow(postPurger::purge);
+    }
+
+    @Test
+    void sweepOrphans_SchedulesMissingPostsOnly() {
+        when(commentRepository.findPostIdsAfter(null, 2)).thenReturn(List.of("post1", "post2"));
+        when(commentRepository.findPostIdsAfter("post2", 2)).thenReturn(List.of("post3"));
+        when(reactionRepository.findPostIdsAfter(null, 2)).thenReturn(List.of());
+        when(postRepository.findExistingIds(List.of("post1", "post2"))).thenReturn(Set.of("post1"));
+        when(postRepository.findExistingIds(List.of("post3"))).thenReturn(Set.of());
+
+        postPurger.sweepOrphans();
+
+        ArgumentCaptor<PostDeletion> deletions = ArgumentCaptor.forClass(PostDeletion.class);
+        verify(postDeletionRepository, times(2)).save(deletions.capture());
+        assertEquals(List.of("post2", "post3"), deletions.getAllValues().stream().map(PostDeletion::getPostId).toList());
+    }
+}
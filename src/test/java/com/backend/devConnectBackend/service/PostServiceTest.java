@@ -1,26 +1,53 @@
 package com.backend.devConnectBackend.service;
 
+import com.backend.devConnectBackend.config.CountCacheProperties;
+import com.backend.devConnectBackend.config.CounterProperties;
+import com.backend.devConnectBackend.config.PublicFeedCacheProperties;
+import com.backend.devConnectBackend.config.SearchProperties;
+import com.backend.devConnectBackend.config.SerializedPostCacheProperties;
+import com.backend.devConnectBackend.config.TagProperties;
+import com.backend.devConnectBackend.constants.ReactionType;
+import com.backend.devConnectBackend.dto.CursorPage;
+import com.backend.devConnectBackend.dto.PostPatchRequest;
 import com.backend.devConnectBackend.dto.PostRequest;
 import com.backend.devConnectBackend.dto.PostResponse;
+import com.backend.devConnectBackend.dto.PostSummary;
+import com.backend.devConnectBackend.exception.UnauthorizedAccessException;
 import com.backend.devConnectBackend.model.Post;
 import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.PostRepositoryCustom;
+import com.backend.devConnectBackend.util.PostCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,13 +59,39 @@ class PostServiceTest {
     @Mock
     private ReactionService reactionService;
 
+    @Mock
+    private TimelineService timelineService;
+
+    @Mock
+    private TagCounts tagCounts;
+
+    @Mock
+    private PostSuggestions postSuggestions;
+
+    @Mock
+    private PostPurger postPurger;
+
     private PostService postService;
 
     @BeforeEach
     void setUp() {
         postRepository = mock(PostRepository.class);
         reactionService = mock(ReactionService.class);
-        postService = new PostService(postRepository, reactionService);
+        timelineService = mock(TimelineService.class);
+        tagCounts = mock(TagCounts.class);
+        postSuggestions = mock(PostSuggestions.class);
+        postPurger = mock(PostPurger.class);
+        postService = new PostService(postRepository, reactionService,
+                new CountCache(new CountCacheProperties(100, Duration.ofMinutes(1))), timelineService,
+                new PublicFeedCache(new PublicFeedCacheProperties(10, Duration.ofMinutes(1))),
+                new SearchProperties(Duration.ofDays(7), 1.0, 3),
+                new TagDictionary(new TagProperties(null, Duration.ofMinutes(15), 500)), tagCounts,
+                postSuggestions, postPurger,
+                new SerializedPostCache(new SerializedPostCacheProperties(DataSize.ofMegabytes(1),
+                        DataSize.ofKilobytes(1), DataSize.ofKilobytes(64), Duration.ofMinutes(1))),
+                new PostCounters(postRepository, new PublicFeedCache(new PublicFeedCacheProperties(10, Duration.ofMinutes(1))),
+                        new CounterProperties(false, Duration.ofMillis(250))),
+                new ObjectMapper().findAndRegisterModules());
     }
 
     @Test
@@ -81,6 +134,7 @@ class PostServiceTest {
         assertEquals("Test Post", capturedPost.getTitle());
         assertEquals("Test Description", capturedPost.getDescription());
         assertEquals("user123", capturedPost.getUserId());
+        verify(timelineService).publish(savedPost);
     }
 
     @Test
@@ -112,6 +166,22 @@ class PostServiceTest {
         assertTrue(response.techStack().isEmpty());
     }
 
+    @Test
+    void createPost_StoresAndCountsCanonicalTags() {
+        PostRequest request = new PostRequest("Test Post", "Test Description",
+                List.of("Java", "java ", "JS", "Spring  Boot"), true);
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        postService.createPost(request, "user123");
+
+        ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
+        verify(postRepository).save(postCaptor.capture());
+        assertEquals(List.of("Java", "java ", "JS", "Spring  Boot"), postCaptor.getValue().getTechStack());
+        assertEquals(List.of("java", "javascript", "spring boot"), postCaptor.getValue().getTags());
+        verify(tagCounts).changed(List.of(), List.of("java", "javascript", "spring boot"));
+        verify(postSuggestions).added("Test Post", List.of("java", "javascript", "spring boot"));
+    }
+
     @Test
     void getAllPublicPosts_ReturnsOnlyPublicPosts() {
         List<Post> publicPostsList = List.of(
@@ -144,7 +214,7 @@ class PostServiceTest {
         Page<Post> publicPosts = new PageImpl<>(publicPostsList, pageable, publicPostsList.size());
         when(postRepository.findByVisibilityTrue(pageable)).thenReturn(publicPosts);
 
-        Page<PostResponse> responses = postService.getAllPublicPosts(pageable);
+        Page<PostResponse> responses = postService.getAllPublicPosts(pageable, null);
 
         assertEquals(2, responses.getTotalElements());
         assertEquals("Public Post 1", responses.getContent().get(0).title());
@@ -161,10 +231,385 @@ class PostServiceTest {
         Page<Post> emptyPage = new PageImpl<>(new ArrayList<>(), pageable, 0);
         when(postRepository.findByVisibilityTrue(pageable)).thenReturn(emptyPage);
 
-        Page<PostResponse> responses = postService.getAllPublicPosts(pageable);
+        Page<PostResponse> responses = postService.getAllPublicPosts(pageable, null);
 
         assertTrue(responses.isEmpty());
         assertEquals(0, responses.getTotalElements());
         verify(postRepository).findByVisibilityTrue(pageable);
     }
+
+    @Test
+    void getPublicPostsAfter_MorePosts_ReturnsNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_000_000);
+        List<Post> posts = List.of(post("post3", createdAt.plusSeconds(2)), post("post2", createdAt),
+                post("post1", createdAt.minusSeconds(1)));
+        when(postRepository.findPublicPostsAfter(null, 3)).thenReturn(posts);
+
+        CursorPage<PostResponse> page = postService.getPublicPostsAfter("", 2, null);
+
+        assertEquals(List.of("post3", "post2"), page.content().stream().map(PostResponse::id).toList());
+        assertEquals(new PostCursor(createdAt, "post2"), PostCursor.decode(page.next()));
+        verify(postRepository, never()).count();
+    }
+
+    @Test
+    void getMyPostsAfter_LastPage_NoNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        PostCursor after = new PostCursor(createdAt, "post9");
+        when(postRepository.findUserPostsAfter("user123", after, 3))
+                .thenReturn(List.of(post("post1", createdAt.minusSeconds(1))));
+
+        CursorPage<PostResponse> page = postService.getMyPostsAfter("user123", after.encode(), 2, null);
+
+        assertEquals(1, page.content().size());
+        assertNull(page.next());
+    }
+
+    @Test
+    void getPublicPostsAfter_InvalidCursor_Throws() {
+        assertThrows(com.backend.devConnectBackend.exception.InvalidCursorException.class,
+                () -> postService.getPublicPostsAfter("not a cursor", 2, null));
+    }
+
+    private static Post post(String id, LocalDateTime createdAt) {
+        return new Post(id, "Title " + id, "Description", List.of(), true, "user123", 0, 0, 0, createdAt,
+                createdAt);
+    }
+
+    @Test
+    void searchPublicPosts_FullPage_CountsOnceThenUsesCachedTotal() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable pageable = PageRequest.of(0, 1);
+        when(postRepository.searchPublicPosts("java", null, pageable))
+                .thenReturn(new SliceImpl<>(List.of(post("post1", createdAt)), pageable, true));
+        when(postRepository.countPublicPosts("java", null)).thenReturn(42L);
+
+        assertEquals(42, postService.searchPublicPosts("java", null, pageable, null).getTotalElements());
+        assertEquals(42, postService.searchPublicPosts("java", null, pageable, null).getTotalElements());
+
+        verify(postRepository, times(1)).countPublicPosts("java", null);
+    }
+
+    @Test
+    void searchPublicPosts_MatchesCanonicalTag() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepository.searchPublicPosts("javascript", null, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        postService.searchPublicPosts(" JS ", null, pageable, null);
+
+        verify(postRepository).searchPublicPosts("javascript", null, pageable);
+    }
+
+    @Test
+    void searchPublicPosts_LastPartialPage_NoCount() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepository.searchPublicPosts(null, "spring", pageable))
+                .thenReturn(new SliceImpl<>(List.of(post("post1", createdAt)), pageable, false));
+
+        assertEquals(1, postService.searchPublicPosts(null, "spring", pageable, null).getTotalElements());
+
+        verify(postRepository, never()).countPublicPosts(any(), any());
+    }
+
+    @Test
+    void getAllPublicPosts_NewestFirstPastCachedWindow_BreaksTiesById() {
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable byId = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+        when(postRepository.findByVisibilityTrue(byId)).thenReturn(new PageImpl<>(List.of(), byId, 10));
+
+        postService.getAllPublicPosts(pageable, null);
+
+        verify(postRepository).findByVisibilityTrue(byId);
+    }
+
+    @Test
+    void getAllPublicPostsSlice_NoCount() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable pageable = PageRequest.of(0, 1);
+        when(postRepository.findSliceByVisibilityTrue(pageable))
+                .thenReturn(new SliceImpl<>(List.of(post("post1", createdAt)), pageable, true));
+
+        Slice<PostResponse> slice = postService.getAllPublicPostsSlice(pageable, null);
+
+        assertTrue(slice.hasNext());
+        assertEquals("post1", slice.getContent().get(0).id());
+        verify(postRepository, never()).findByVisibilityTrue(any());
+    }
+
+    @Test
+    void getAllPublicPosts_WithViewer_LoadsReactionsOnceForPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable pageable = PageRequest.of(0, 3);
+        List<Post> posts = List.of(post("post3", createdAt), post("post2", createdAt), post("post1", createdAt));
+        when(postRepository.findByVisibilityTrue(pageable)).thenReturn(new PageImpl<>(posts, pageable, 3));
+        when(reactionService.getUserReactions(List.of("post3", "post2", "post1"), "viewer1"))
+                .thenReturn(Map.of("post2", ReactionType.LIKE, "post1", ReactionType.DISLIKE));
+
+        Page<PostResponse> responses = postService.getAllPublicPosts(pageable, "viewer1");
+
+        assertNull(responses.getContent().get(0).userReaction());
+        assertEquals(ReactionType.LIKE, responses.getContent().get(1).userReaction());
+        assertEquals(ReactionType.DISLIKE, responses.getContent().get(2).userReaction());
+        verify(reactionService, times(1)).getUserReactions(any(), any());
+        verify(reactionService, never()).getUserReaction(any(), any());
+    }
+
+    @Test
+    void getAllPublicPosts_WithoutViewer_SkipsReactionLookup() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable pageable = PageRequest.of(0, 1);
+        when(postRepository.findByVisibilityTrue(pageable))
+                .thenReturn(new PageImpl<>(List.of(post("post1", createdAt)), pageable, 1));
+
+        postService.getAllPublicPosts(pageable, null);
+
+        verifyNoInteractions(reactionService);
+    }
+
+    @Test
+    void updatePost_MadePrivate_RetractsFromTimelines() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        post.setTags(List.of("java"));
+        Post updated = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        updated.setVisibility(false);
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+        when(postRepository.updateEditableFields(eq("post1"), isNull(), any())).thenReturn(Optional.of(updated));
+
+        postService.updatePost("post1", new PostRequest("Title", "Description", List.of("Java"), false), "user123");
+
+        verify(timelineService).retract(updated);
+        verify(timelineService, never()).publish(any());
+        verify(tagCounts).changed(List.of("java"), List.of());
+        verify(postSuggestions).removed("Title post1", List.of("java"));
+        verify(postSuggestions, never()).added(any(), any());
+    }
+
+    @Test
+    void updatePost_WritesOnlyChangedFields() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        post.setVersion(3L);
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+        when(postRepository.updateEditableFields(eq("post1"), eq(3L), any())).thenReturn(Optional.of(post));
+
+        postService.updatePost("post1",
+                new PostRequest("New title", "Description", List.of("Java "), true), "user123");
+
+        verify(postRepository).updateEditableFields("post1", 3L, new PostRepositoryCustom.EditableFields(
+                "New title", null, List.of("Java "), List.of("java"), null));
+        verify(postRepository, never()).save(any());
+    }
+
+    @Test
+    void getPostJson_SecondRead_ServedFromCache() throws Exception {
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post("post1", LocalDateTime.of(2026, 1, 1, 12, 0))));
+
+        String first = json(postService.getPostJson("post1", "other@test.com", null));
+        String second = json(postService.getPostJson("post1", "other@test.com", null));
+
+        assertEquals(first, second);
+        assertTrue(second.contains("\"title\":\"Title post1\""));
+        verify(postRepository, times(1)).findById("post1");
+    }
+
+    @Test
+    void getPostJson_ViewerReacted_ReactionWrittenIntoCachedJson() throws Exception {
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post("post1", LocalDateTime.of(2026, 1, 1, 12, 0))));
+        when(reactionService.getUserReaction("post1", "viewer1")).thenReturn(Optional.of(ReactionType.LIKE));
+
+        String uncached = json(postService.getPostJson("post1", "viewer@test.com", "viewer1"));
+        String cached = json(postService.getPostJson("post1", "viewer@test.com", "viewer1"));
+
+        assertEquals(uncached, cached);
+        assertTrue(cached.contains("\"userReaction\":\"LIKE\""));
+        verify(postRepository, times(1)).findById("post1");
+        verify(reactionService, never()).getUserReactions(any(), any());
+    }
+
+    @Test
+    void getPostJson_PrivatePostOfOtherUser_ThrowsUnauthorized() throws Exception {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        post.setVisibility(false);
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+
+        assertNotNull(json(postService.getPostJson("post1", "user123", null)));
+        assertThrows(UnauthorizedAccessException.class, () -> postService.getPostJson("post1", "other@test.com", null));
+    }
+
+    @Test
+    void getPostJson_AfterEdit_ReadsPostAgain() throws Exception {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        Post updated = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        updated.setTitle("New title");
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post), Optional.of(post), Optional.of(updated));
+        when(postRepository.updateEditableFields(eq("post1"), isNull(), any())).thenReturn(Optional.of(updated));
+
+        postService.getPostJson("post1", "user123", null).close();
+        postService.updatePost("post1", new PostRequest("New title", "Description", List.of(), true), "user123");
+        String body = json(postService.getPostJson("post1", "user123", null));
+
+        assertTrue(body.contains("\"title\":\"New title\""));
+    }
+
+    private static String json(PostService.PostJson post) throws IOException {
+        try (post) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            post.writeTo(out);
+            assertEquals(post.length(), out.size());
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void updatePost_NothingChanged_NoWrite() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+
+        PostResponse response = postService.updatePost("post1",
+                new PostRequest("Title post1", "Description", List.of(), true), "user123");
+
+        assertEquals("Title post1", response.title());
+        verify(postRepository, never()).updateEditableFields(any(), any(), any());
+    }
+
+    @Test
+    void updatePost_EditedMeanwhile_Conflict() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        post.setVersion(3L);
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+        when(postRepository.updateEditableFields(eq("post1"), eq(3L), any())).thenReturn(Optional.empty());
+
+        assertThrows(OptimisticLockingFailureException.class, () -> postService.updatePost("post1",
+                new PostRequest("New title", "Description", List.of(), true), "user123"));
+        verifyNoInteractions(tagCounts, postSuggestions);
+    }
+
+    @Test
+    void patchPost_OnlyGivenFields() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        post.setVersion(3L);
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+        when(postRepository.updateEditableFields(eq("post1"), eq(3L), any())).thenReturn(Optional.of(post));
+
+        postService.patchPost("post1", new PostPatchRequest(null, "New description", null, null, 3L), "user123");
+
+        verify(postRepository).updateEditableFields("post1", 3L, new PostRepositoryCustom.EditableFields(
+                null, "New description", null, null, null));
+    }
+
+    @Test
+    void patchPost_StaleVersion_ConflictWithoutWrite() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        post.setVersion(3L);
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> postService.patchPost("post1",
+                new PostPatchRequest("New title", null, null, null, 2L), "user123"));
+        verify(postRepository, never()).updateEditableFields(any(), any(), any());
+    }
+
+    @Test
+    void deletePost_RetractsFromTimelines() {
+        Post post = post("post1", LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(postRepository.findById("post1")).thenReturn(Optional.of(post));
+
+        postService.deletePost("post1", "user123");
+
+        verify(postRepository).delete(post);
+        verify(postPurger).schedule("post1");
+        verify(timelineService).retract(post);
+    }
+
+    @Test
+    void getAllPublicPosts_FirstPages_ServedFromCacheAfterOneLoad() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable newestFirst = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(postRepository.findPublicPostsAfter(null, 10)).thenReturn(List.of(
+                post("post3", createdAt), post("post2", createdAt.minusHours(1)), post("post1", createdAt.minusHours(2))));
+        when(postRepository.countByVisibilityTrue()).thenReturn(3L);
+
+        Page<PostResponse> first = postService.getAllPublicPosts(newestFirst, null);
+        Page<PostResponse> second = postService.getAllPublicPosts(newestFirst.next(), null);
+
+        assertEquals(List.of("post3", "post2"), first.getContent().stream().map(PostResponse::id).toList());
+        assertEquals(List.of("post1"), second.getContent().stream().map(PostResponse::id).toList());
+        assertEquals(3, second.getTotalElements());
+        verify(postRepository, times(1)).findPublicPostsAfter(null, 10);
+        verify(postRepository, never()).findByVisibilityTrue(any());
+    }
+
+    @Test
+    void getAllPublicPostsTagged_CachedPage_TaggedLikeBuiltPageWithOneReactionLookup() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable newestFirst = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(postRepository.findPublicPostsAfter(null, 10)).thenReturn(List.of(
+                post("post3", createdAt), post("post2", createdAt.minusHours(1)), post("post1", createdAt.minusHours(2))));
+        when(postRepository.countByVisibilityTrue()).thenReturn(3L);
+        when(reactionService.getUserReactions(List.of("post3", "post2"), "viewer1"))
+                .thenReturn(Map.of("post2", ReactionType.LIKE));
+
+        PostService.Tagged<Page<PostResponse>> tagged = postService.getAllPublicPostsTagged(newestFirst, "viewer1");
+        Page<PostResponse> page = tagged.body().get();
+
+        assertEquals(PostService.feedETag(3L, page.getContent()), tagged.eTag());
+        assertEquals(ReactionType.LIKE, page.getContent().get(1).userReaction());
+        verify(reactionService, times(1)).getUserReactions(any(), any());
+    }
+
+    @Test
+    void createPost_AddedToCachedFirstPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Pageable newestFirst = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(postRepository.findPublicPostsAfter(null, 10)).thenReturn(List.of(post("post1", createdAt)));
+        when(postRepository.countByVisibilityTrue()).thenReturn(1L);
+        postService.getAllPublicPosts(newestFirst, null);
+
+        when(postRepository.save(any(Post.class))).thenReturn(post("post2", createdAt.plusMinutes(1)));
+        postService.createPost(new PostRequest("Title", "Description", List.of("Java"), true), "user123");
+        Page<PostResponse> page = postService.getAllPublicPosts(newestFirst, null);
+
+        assertEquals(List.of("post2", "post1"), page.getContent().stream().map(PostResponse::id).toList());
+        assertEquals(2, page.getTotalElements());
+        verify(postRepository, times(1)).findPublicPostsAfter(null, 10);
+    }
+
+    @Test
+    void searchPublicPostSummaries_ReadsProjectedPostsAndFillsReactions() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepository.searchPublicPostSummaries("java", null, pageable)).thenReturn(
+                new SliceImpl<>(List.of(post("post1", LocalDateTime.of(2026, 1, 1, 12, 0))), pageable, false));
+        when(reactionService.getUserReactions(List.of("post1"), "viewer1"))
+                .thenReturn(Map.of("post1", ReactionType.LIKE));
+
+        Page<PostSummary> summaries = postService.searchPublicPostSummaries("java", null, pageable, "viewer1");
+
+        assertEquals(1, summaries.getTotalElements());
+        assertEquals("Title post1", summaries.getContent().get(0).title());
+        assertEquals(ReactionType.LIKE, summaries.getContent().get(0).userReaction());
+        verify(postRepository, never()).searchPublicPosts(any(), any(), any());
+    }
+
+    @Test
+    void searchPublicPostsByText_PassesSanitizedTerms() {
+        Pageable pageable = PageRequest.of(0, 10);
+        List<String> terms = List.of("spring", "boot", "java");
+        when(postRepository.searchPublicPostsByText(terms, Duration.ofDays(7), 1.0, pageable)).thenReturn(
+                new SliceImpl<>(List.of(post("post1", LocalDateTime.of(2026, 1, 1, 12, 0))), pageable, false));
+
+        Page<PostResponse> results = postService.searchPublicPostsByText("\"spring boot\" -java spring kotlin",
+                pageable, null);
+
+        assertEquals(List.of("post1"), results.getContent().stream().map(PostResponse::id).toList());
+        assertEquals(1, results.getTotalElements());
+        verify(postRepository, never()).countPublicPostsByText(any());
+    }
+
+    @Test
+    void searchPublicPostsByText_BlankQuery_NoQuery() {
+        assertTrue(postService.searchPublicPostsByText("  \"\" - ", PageRequest.of(0, 10), null).isEmpty());
+
+        verifyNoInteractions(postRepository);
+    }
 }
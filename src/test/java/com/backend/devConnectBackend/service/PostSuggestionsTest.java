@@ -0,0 +1,83 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.SuggestProperties;
+import com.backend.devConnectBackend.dto.Suggestions;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSuggestionsTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostSuggestions suggestions;
+
+    @BeforeEach
+    void setUp() {
+        suggestions = new PostSuggestions(postRepository, new SuggestProperties(10, Duration.ofMinutes(30)));
+    }
+
+    @Test
+    void suggest_AfterBuild_TitlesAndTagsByUse() {
+        when(postRepository.streamPublicPostTitles()).thenReturn(Stream.of(
+                post("Spring Boot tips", "java", "spring boot"),
+                post("Spring Security", "java", "spring security"),
+                post("Go generics", "go")));
+
+        suggestions.refresh();
+
+        assertEquals(new Suggestions(List.of("Spring Boot tips", "Spring Security"),
+                List.of("spring boot", "spring security")), suggestions.suggest("spr", 5));
+        assertEquals(new Suggestions(List.of("Go generics"), List.of("go")), suggestions.suggest("g", 5));
+    }
+
+    @Test
+    void suggest_BlankPrefix_NoSuggestions() {
+        suggestions.added("Spring Boot tips", List.of("spring boot"));
+
+        assertEquals(new Suggestions(List.of(), List.of()), suggestions.suggest("  ", 5));
+    }
+
+    @Test
+    void addedAndRemoved_AppliedImmediately() {
+        suggestions.added("Spring Boot tips", List.of("java", "spring boot"));
+        suggestions.added("Java records", List.of("java"));
+
+        suggestions.removed("Spring Boot tips", List.of("java", "spring boot"));
+
+        assertEquals(new Suggestions(List.of("Java records"), List.of("java")), suggestions.suggest("j", 5));
+        assertEquals(new Suggestions(List.of(), List.of()), suggestions.suggest("spring", 5));
+    }
+
+    @Test
+    void refresh_MongoUnavailable_KeepsIndex() {
+        suggestions.added("Spring Boot tips", List.of("spring boot"));
+        when(postRepository.streamPublicPostTitles()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        suggestions.refresh();
+
+        assertEquals(List.of("Spring Boot tips"), suggestions.suggest("spring", 5).titles());
+    }
+
+    private static Post post(String title, String... tags) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setTags(List.of(tags));
+        post.setVisibility(true);
+        return post;
+    }
+}
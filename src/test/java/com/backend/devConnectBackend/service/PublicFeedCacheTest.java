@@ -0,0 +1,175 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.PublicFeedCacheProperties;
+import com.backend.devConnectBackend.dto.PostResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicFeedCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final PublicFeedCache cache = new PublicFeedCache(new PublicFeedCacheProperties(3, Duration.ofMinutes(1)));
+
+    @Test
+    void get_LoadsOnceThenServesWindow() {
+        int[] loads = {0};
+
+        for (int i = 0; i < 2; i++) {
+            cache.get(() -> {
+                loads[0]++;
+                return List.of(post("post1", NOW, true));
+            }, () -> 1);
+        }
+
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    void get_ConcurrentMisses_LoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PublicFeedCache.Window>> windows = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                windows.add(callers.submit(() -> cache.get(() -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return List.of(post("post1", NOW, true));
+                }, () -> 1)));
+            }
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<PublicFeedCache.Window> window : windows) {
+                assertEquals(List.of("post1"), ids(window.get(10, TimeUnit.SECONDS).page(0, 1)));
+            }
+        } finally {
+            callers.shutdown();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_CountsChangedDuringLoad_WindowStillInstalled() {
+        cache.get(() -> {
+            cache.addToCounts("post1", 0, 1, 0);
+            return List.of(post("post1", NOW, true));
+        }, () -> 1);
+
+        assertEquals(List.of("post1"), ids(window().page(0, 1)));
+    }
+
+    @Test
+    void get_PostCreatedDuringLoad_WindowNotInstalled() {
+        cache.get(() -> {
+            cache.created(post("post2", NOW, true));
+            return List.of(post("post1", NOW.minusHours(1), true));
+        }, () -> 1);
+
+        int[] loads = {0};
+        cache.get(() -> {
+            loads[0]++;
+            return List.of();
+        }, () -> 0);
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    void created_NewestPostPushesOldestOut() {
+        load(3, post("post3", NOW, true), post("post2", NOW.minusHours(1), true),
+                post("post1", NOW.minusHours(2), true));
+
+        cache.created(post("post4", NOW.plusHours(1), true));
+
+        PublicFeedCache.Window window = window();
+        assertEquals(List.of("post4", "post3", "post2"), ids(window.page(0, 3)));
+        assertEquals(4, window.total());
+        assertFalse(window.covers(3, 1));
+    }
+
+    @Test
+    void updated_MadePrivate_RemovedFromWindow() {
+        load(2, post("post2", NOW, true), post("post1", NOW.minusHours(1), true));
+
+        cache.updated(post("post2", NOW, false), true);
+
+        PublicFeedCache.Window window = window();
+        assertEquals(List.of("post1"), ids(window.page(0, 3)));
+        assertEquals(1, window.total());
+        assertTrue(window.covers(0, 3));
+    }
+
+    @Test
+    void created_OlderThanPartialWindow_NotAdded() {
+        load(10, post("post3", NOW, true), post("post2", NOW.minusHours(1), true));
+        cache.deleted("post3", true);
+
+        // post0 may be preceded by posts the window does not hold
+        cache.created(post("post0", NOW.minusHours(5), true));
+
+        assertEquals(List.of("post2"), ids(window().page(0, 3)));
+    }
+
+    @Test
+    void addToCounts_PatchesCachedPost() {
+        load(1, post("post1", NOW, true));
+
+        cache.addToCounts("post1", 1, 2, 0);
+
+        PostResponse post = window().page(0, 1).get(0);
+        assertEquals(1, post.commentCount());
+        assertEquals(2, post.likeCount());
+        assertEquals(0, post.dislikeCount());
+    }
+
+    @Test
+    void addToCounts_LegacyPostWithoutCounters_CountsFromZero() {
+        load(1, new PostResponse("post1", "Title post1", "Description", List.of(), true, "user123", null, null,
+                null, null, NOW, NOW, null));
+
+        cache.addToCounts("post1", 1, 0, 1);
+
+        PostResponse post = window().page(0, 1).get(0);
+        assertEquals(1, post.commentCount());
+        assertNull(post.likeCount());
+        assertEquals(1, post.dislikeCount());
+    }
+
+    private void load(long total, PostResponse... posts) {
+        cache.get(() -> List.of(posts), () -> total);
+    }
+
+    private PublicFeedCache.Window window() {
+        return cache.get(() -> fail("window should be cached"), () -> 0);
+    }
+
+    private static List<String> ids(List<PostResponse> posts) {
+        return posts.stream().map(PostResponse::id).toList();
+    }
+
+    private static PostResponse post(String id, LocalDateTime createdAt, boolean visibility) {
+        return new PostResponse(id, "Title " + id, "Description", List.of(), visibility, "user123", 0, 0, 0, null,
+                createdAt, createdAt, null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.model.RefreshToken;
+import com.backend.devConnectBackend.repository.RefreshTokenRepository;
+import com.backend.devConnectBackend.security.InMemorySigningKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private RefreshTokenRepository repository;
+
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RefreshTokenService(repository, InMemorySigningKeys.PROPERTIES,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void issue_StoresDigestOnly() {
+        String token = service.issue("user123");
+
+        RefreshToken saved = captureSaved();
+        assertNotEquals(token, saved.getId());
+        assertEquals(64, saved.getId().length());
+        assertEquals("user123", saved.getUserId());
+        assertEquals(NOW.plus(Duration.ofDays(30)), saved.getExpiresAt());
+    }
+
+    @Test
+    void rotate_IssuesNewTokenOfSameFamily() {
+        String token = service.issue("user123");
+        RefreshToken first = captureSaved();
+        first.setUsed(true);
+        when(repository.markUsed(first.getId())).thenReturn(Optional.of(first));
+
+        Optional<RefreshTokenService.Rotation> rotation = service.rotate(token);
+
+        assertTrue(rotation.isPresent());
+        assertEquals("user123", rotation.get().userId());
+        assertNotEquals(token, rotation.get().refreshToken());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository, times(2)).save(saved.capture());
+        assertEquals(first.getFamilyId(), saved.getAllValues().get(1).getFamilyId());
+    }
+
+    @Test
+    void rotate_ReusedToken_RevokesFamily() {
+        String token = service.issue("user123");
+        RefreshToken first = captureSaved();
+        first.setUsed(true);
+        when(repository.markUsed(first.getId())).thenReturn(Optional.empty());
+        when(repository.findById(first.getId())).thenReturn(Optional.of(first));
+
+        assertTrue(service.rotate(token).isEmpty());
+        verify(repository).deleteByFamilyId(first.getFamilyId());
+    }
+
+    @Test
+    void rotate_UnknownToken_Rejected() {
+        when(repository.markUsed(anyString())).thenReturn(Optional.empty());
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertTrue(service.rotate("unknown").isEmpty());
+        verify(repository, never()).deleteByFamilyId(anyString());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void rotate_ExpiredToken_Rejected() {
+        String token = service.issue("user123");
+        RefreshToken first = captureSaved();
+        first.setExpiresAt(NOW.minusSeconds(1));
+        when(repository.markUsed(first.getId())).thenReturn(Optional.of(first));
+
+        assertTrue(service.rotate(token).isEmpty());
+    }
+
+    @Test
+    void revoke_DeletesFamily() {
+        String token = service.issue("user123");
+        RefreshToken first = captureSaved();
+        when(repository.findById(first.getId())).thenReturn(Optional.of(first));
+
+        service.revoke(token);
+
+        verify(repository).deleteByFamilyId(first.getFamilyId());
+    }
+
+    private RefreshToken captureSaved() {
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(saved.capture());
+        return saved.getValue();
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.EmailFilterProperties;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.UserRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RegisteredEmailFilter registeredEmails;
+
+    @BeforeEach
+    void setUp() {
+        registeredEmails = new RegisteredEmailFilter(userRepository,
+                new EmailFilterProperties(1000, 0.01, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void mightBeRegistered_BeforeFirstBuild_AssumesRegistered() {
+        assertTrue(registeredEmails.mightBeRegistered("unknown@test.com"));
+    }
+
+    @Test
+    void mightBeRegistered_AfterBuild_RejectsUnknownEmails() {
+        when(userRepository.streamEmails(isNull())).thenReturn(Stream.of(user("john@test.com")));
+
+        registeredEmails.refresh();
+
+        assertTrue(registeredEmails.mightBeRegistered("john@test.com"));
+        assertFalse(registeredEmails.mightBeRegistered("unknown@test.com"));
+    }
+
+    @Test
+    void add_RegisteredOnThisInstance_KnownImmediately() {
+        when(userRepository.streamEmails(isNull())).thenReturn(Stream.empty());
+        registeredEmails.refresh();
+
+        registeredEmails.add("new@test.com");
+
+        assertTrue(registeredEmails.mightBeRegistered("new@test.com"));
+    }
+
+    @Test
+    void refresh_AfterBuild_OnlyReadsNewerUsers() {
+        User existing = user("john@test.com");
+        when(userRepository.streamEmails(isNull())).thenReturn(Stream.of(existing));
+        registeredEmails.refresh();
+
+        when(userRepository.streamEmails(any(ObjectId.class))).thenReturn(Stream.of(user("jane@test.com")));
+        registeredEmails.refresh();
+
+        verify(userRepository).streamEmails(argThat(after -> after != null
+                && after.compareTo(new ObjectId(existing.getId())) < 0));
+        assertTrue(registeredEmails.mightBeRegistered("jane@test.com"));
+    }
+
+    @Test
+    void refresh_OverlapReadAgain_DoesNotForceRebuild() {
+        registeredEmails = new RegisteredEmailFilter(userRepository,
+                new EmailFilterProperties(10, 0.01, Duration.ofSeconds(10)));
+        List<User> users = IntStream.range(0, 5).mapToObj(i -> user("user" + i + "@test.com")).toList();
+        when(userRepository.streamEmails(isNull())).thenAnswer(invocation -> users.stream());
+        when(userRepository.streamEmails(any(ObjectId.class))).thenAnswer(invocation -> users.stream());
+
+        for (int i = 0; i < 5; i++) {
+            registeredEmails.refresh();
+        }
+
+        verify(userRepository, times(1)).streamEmails(isNull());
+    }
+
+    @Test
+    void refresh_DatabaseUnavailable_StaysPermissive() {
+        when(userRepository.streamEmails(isNull())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        registeredEmails.refresh();
+
+        assertTrue(registeredEmails.mightBeRegistered("unknown@test.com"));
+    }
+
+    @Test
+    void observedFalsePositiveRate_CountsLookupsLetThrough() {
+        when(userRepository.streamEmails(isNull())).thenReturn(Stream.empty());
+        registeredEmails.refresh();
+
+        registeredEmails.mightBeRegistered("a@test.com");
+        registeredEmails.mightBeRegistered("b@test.com");
+        registeredEmails.mightBeRegistered("c@test.com");
+        registeredEmails.recordFalsePositive();
+
+        assertEquals(0.25, registeredEmails.observedFalsePositiveRate(), 1e-9);
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setId(new ObjectId().toHexString());
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.TagProperties;
+import com.backend.devConnectBackend.dto.TagCount;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagCountsTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private TagCounts tagCounts;
+
+    @BeforeEach
+    void setUp() {
+        TagProperties properties = new TagProperties(null, Duration.ofMinutes(15), 2);
+        tagCounts = new TagCounts(postRepository, new TagDictionary(properties), properties);
+    }
+
+    @Test
+    void top_MostUsedFirstThenByName() {
+        tagCounts.changed(List.of(), List.of("java", "spring boot"));
+        tagCounts.changed(List.of(), List.of("java", "kotlin"));
+        tagCounts.changed(List.of(), List.of("go"));
+
+        assertEquals(List.of(new TagCount("java", 2), new TagCount("go", 1), new TagCount("kotlin", 1)),
+                tagCounts.top(3));
+    }
+
+    @Test
+    void changed_OnlyDifferingTagsMove() {
+        tagCounts.changed(List.of(), List.of("java", "spring boot"));
+
+        tagCounts.changed(List.of("java", "spring boot"), List.of("java", "kotlin"));
+
+        assertEquals(List.of(new TagCount("java", 1), new TagCount("kotlin", 1)), tagCounts.top(10));
+    }
+
+    @Test
+    void refresh_TagsUntaggedPostsInBatchesThenLoadsCounts() {
+        when(postRepository.streamPostsWithoutTags()).thenReturn(Stream.of(
+                untagged("post1", "Java"), untagged("post2", "JS"), untagged("post3", "java ")));
+        when(postRepository.setTagsIfMissing(any()))
+                .thenAnswer(invocation -> invocation.<Map<?, ?>>getArgument(0).size());
+        when(postRepository.countPublicPostsByTag()).thenReturn(Map.of("java", 2L, "javascript", 1L));
+
+        tagCounts.refresh();
+
+        verify(postRepository).setTagsIfMissing(Map.of("post1", List.of("java"), "post2", List.of("javascript")));
+        verify(postRepository).setTagsIfMissing(Map.of("post3", List.of("java")));
+        assertEquals(List.of(new TagCount("java", 2), new TagCount("javascript", 1)), tagCounts.top(10));
+    }
+
+    @Test
+    void refresh_BackfillsOnlyOnce() {
+        when(postRepository.streamPostsWithoutTags()).thenReturn(Stream.empty());
+        when(postRepository.countPublicPostsByTag()).thenReturn(Map.of());
+
+        tagCounts.refresh();
+        tagCounts.refresh();
+
+        verify(postRepository, times(1)).streamPostsWithoutTags();
+        verify(postRepository, times(2)).countPublicPostsByTag();
+    }
+
+    @Test
+    void refresh_MongoUnavailable_KeepsCounts() {
+        tagCounts.changed(List.of(), List.of("java"));
+        when(postRepository.streamPostsWithoutTags()).thenReturn(Stream.empty());
+        when(postRepository.countPublicPostsByTag()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        tagCounts.refresh();
+
+        assertEquals(List.of(new TagCount("java", 1)), tagCounts.top(10));
+    }
+
+    private static Post untagged(String id, String tag) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTechStack(List.of(tag));
+        post.setTags(null);
+        return post;
+    }
+}
@@ -0,0 +1,176 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.TimelineProperties;
+import com.backend.devConnectBackend.model.Follow;
+import com.backend.devConnectBackend.model.Post;
+import com.backend.devConnectBackend.model.TimelineBucket;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.FollowRepository;
+import com.backend.devConnectBackend.repository.PostRepository;
+import com.backend.devConnectBackend.repository.TimelineRepository;
+import com.backend.devConnectBackend.repository.UserRepository;
+import com.backend.devConnectBackend.util.PostCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    @Mock
+    private TimelineRepository timelineRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        // Pull threshold 100, fan-out batches of 2, 2 buckets per read
+        timelineService = new TimelineService(timelineRepository, followRepository, postRepository, userRepository,
+                new TimelineProperties(100, 2, 2, 1, 10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        timelineService.shutdown();
+    }
+
+    @Test
+    void fanOut_WritesToFollowersInBatches() {
+        Post post = post("post1", "author@test.com", NOW);
+        when(userRepository.findByEmail("author@test.com")).thenReturn(Optional.of(author(3)));
+        when(followRepository.findByFolloweeIdAndFollowerIdGreaterThanOrderByFollowerIdAsc("author1", "", Limit.of(2)))
+                .thenReturn(List.of(new Follow("a", "author1"), new Follow("b", "author1")));
+        when(followRepository.findByFolloweeIdAndFollowerIdGreaterThanOrderByFollowerIdAsc("author1", "b", Limit.of(2)))
+                .thenReturn(List.of(new Follow("c", "author1")));
+
+        timelineService.fanOut(post);
+
+        TimelineBucket.Entry entry = new TimelineBucket.Entry("post1", "author1", NOW);
+        verify(timelineRepository).push(List.of("a", "b"), entry);
+        verify(timelineRepository).push(List.of("c"), entry);
+    }
+
+    @Test
+    void fanOut_PopularAuthor_NotWritten() {
+        when(userRepository.findByEmail("author@test.com")).thenReturn(Optional.of(author(100)));
+
+        timelineService.fanOut(post("post1", "author@test.com", NOW));
+
+        verifyNoInteractions(followRepository, timelineRepository);
+    }
+
+    @Test
+    void findAfter_MergesPushedAndPulledPostsNewestFirst() {
+        when(userRepository.findWithFollowersAtLeast(100)).thenReturn(List.of(star()));
+        when(followRepository.findByFollowerIdAndFolloweeIdIn("reader", Set.of("star")))
+                .thenReturn(List.of(new Follow("reader", "star")));
+        when(timelineRepository.findByUserIdOrderByDayDesc("reader", Limit.of(2))).thenReturn(List.of(
+                bucket(NOW, "post3", "post1")));
+        Post post3 = post("post3", "author@test.com", NOW);
+        Post post1 = post("post1", "author@test.com", NOW.minusHours(2));
+        when(postRepository.findAllById(List.of("post3", "post1"))).thenReturn(List.of(post1, post3));
+        Post post2 = post("post2", "star@test.com", NOW.minusHours(1));
+        when(postRepository.findPublicPostsOfUsersAfter(List.of("star@test.com"), null, 3))
+                .thenReturn(List.of(post2));
+
+        List<Post> timeline = timelineService.findAfter("reader", null, 3);
+
+        assertEquals(List.of("post3", "post2", "post1"), timeline.stream().map(Post::getId).toList());
+    }
+
+    @Test
+    void findAfter_SkipsEntriesUpToCursorAndDeletedPosts() {
+        PostCursor after = new PostCursor(NOW, "post3");
+        when(timelineRepository.findByUserIdAndDayLessThanEqualOrderByDayDesc("reader", NOW.toLocalDate(),
+                Limit.of(2))).thenReturn(List.of(bucket(NOW, "post3", "post2", "post1")));
+        when(postRepository.findAllById(List.of("post2", "post1")))
+                .thenReturn(List.of(post("post1", "author@test.com", NOW.minusHours(2))));
+
+        List<Post> timeline = timelineService.findAfter("reader", after, 2);
+
+        assertEquals(List.of("post1"), timeline.stream().map(Post::getId).toList());
+        verify(postRepository, never()).findPublicPostsOfUsersAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void findAfter_DeletedPostsInPage_ReadsFurtherEntries() {
+        when(timelineRepository.findByUserIdOrderByDayDesc("reader", Limit.of(2))).thenReturn(List.of(
+                bucket(NOW, "post4", "post3", "post2", "post1")));
+        when(timelineRepository.findByUserIdAndDayLessThanEqualOrderByDayDesc("reader", NOW.toLocalDate(),
+                Limit.of(2))).thenReturn(List.of(bucket(NOW, "post4", "post3", "post2", "post1")));
+        when(postRepository.findAllById(List.of("post4", "post3")))
+                .thenReturn(List.of(post("post4", "author@test.com", NOW)));
+        when(postRepository.findAllById(List.of("post2")))
+                .thenReturn(List.of(post("post2", "author@test.com", NOW.minusHours(2))));
+
+        List<Post> timeline = timelineService.findAfter("reader", null, 2);
+
+        assertEquals(List.of("post4", "post2"), timeline.stream().map(Post::getId).toList());
+    }
+
+    @Test
+    void findAfter_NoPulledAuthors_FollowsNotRead() {
+        when(timelineRepository.findByUserIdOrderByDayDesc("reader", Limit.of(2))).thenReturn(List.of());
+
+        assertTrue(timelineService.findAfter("reader", null, 10).isEmpty());
+
+        verifyNoInteractions(followRepository, postRepository);
+    }
+
+    private static User author(long followerCount) {
+        User author = new User();
+        author.setId("author1");
+        author.setEmail("author@test.com");
+        author.setFollowerCount(followerCount);
+        return author;
+    }
+
+    private static User star() {
+        User star = new User();
+        star.setId("star");
+        star.setEmail("star@test.com");
+        star.setFollowerCount(100);
+        return star;
+    }
+
+    private static Post post(String id, String author, LocalDateTime createdAt) {
+        return new Post(id, "Title " + id, "Description", List.of(), true, author, 0, 0, 0, createdAt, createdAt);
+    }
+
+    /**
+     * Bucket of the given day holding the given posts, each an hour older than
+     * the one before.
+     */
+    private static TimelineBucket bucket(LocalDateTime newest, String... postIds) {
+        List<TimelineBucket.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < postIds.length; i++) {
+            entries.add(new TimelineBucket.Entry(postIds[i], "author1", newest.minusHours(i)));
+        }
+        return new TimelineBucket(null, "reader", newest.toLocalDate(), entries);
+    }
+}
@@ -0,0 +1,99 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.UserImportProperties;
+import com.backend.devConnectBackend.dto.RegisterRequest;
+import com.backend.devConnectBackend.dto.UserImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private AuthService authService;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(authService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), new UserImportProperties(2));
+    }
+
+    @Test
+    void importUsers_ReportsEveryLine() throws Exception {
+        when(authService.registerAll(anyList())).thenAnswer(invocation -> {
+            List<RegisterRequest> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(r -> r.email().startsWith("dup") ? UserImportResult.Status.DUPLICATE
+                            : UserImportResult.Status.CREATED)
+                    .toList();
+        });
+        String input = String.join("\n",
+                user("a@test.com"),
+                "{not json",
+                user("not-an-email"),
+                "",
+                user("dup@test.com"),
+                user("c@test.com"));
+
+        List<UserImportResult> results = run(input);
+
+        assertEquals(5, results.size());
+        assertEquals(new UserImportResult(2, null, UserImportResult.Status.INVALID, "Malformed JSON"), results.get(0));
+        assertEquals(new UserImportResult(3, "not-an-email", UserImportResult.Status.INVALID, "Need valid email"),
+                results.get(1));
+        assertEquals(new UserImportResult(1, "a@test.com", UserImportResult.Status.CREATED, null), results.get(2));
+        assertEquals(new UserImportResult(5, "dup@test.com", UserImportResult.Status.DUPLICATE, "User already exists!"),
+                results.get(3));
+        assertEquals(new UserImportResult(6, "c@test.com", UserImportResult.Status.CREATED, null), results.get(4));
+    }
+
+    @Test
+    void importUsers_RegistersInBatches() throws Exception {
+        when(authService.registerAll(anyList())).thenAnswer(invocation -> {
+            List<RegisterRequest> batch = invocation.getArgument(0);
+            return batch.stream().map(r -> UserImportResult.Status.CREATED).toList();
+        });
+        String input = String.join("\n", user("a@test.com"), user("b@test.com"), user("c@test.com"));
+
+        assertEquals(3, run(input).size());
+        verify(authService, times(2)).registerAll(anyList());
+    }
+
+    private List<UserImportResult> run(String input) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userImportService.importUsers(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, UserImportResult.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private static String user(String email) {
+        return "{\"name\":\"John\",\"email\":\"" + email + "\",\"password\":\"Password123\",\"role\":\"USER\"}";
+    }
+}
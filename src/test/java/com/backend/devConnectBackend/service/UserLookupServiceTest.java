@@ -0,0 +1,109 @@
+package com.backend.devConnectBackend.service;
+
+import com.backend.devConnectBackend.config.UserCacheProperties;
+import com.backend.devConnectBackend.model.User;
+import com.backend.devConnectBackend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserLookupService userLookupService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userLookupService = new UserLookupService(userRepository, new UserCacheProperties(100, Duration.ofMinutes(10)));
+
+        user = new User();
+        user.setId("user123");
+        user.setEmail("john@test.com");
+        user.setName("John");
+    }
+
+    @Test
+    void findByEmail_SecondLookup_ServedFromCache() {
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+
+        assertSame(user, userLookupService.findByEmail("john@test.com").orElseThrow());
+        assertSame(user, userLookupService.findByEmail("john@test.com").orElseThrow());
+
+        verify(userRepository, times(1)).findByEmail("john@test.com");
+    }
+
+    @Test
+    void findById_AfterEmailLookup_ServedFromCache() {
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+
+        userLookupService.findByEmail("john@test.com");
+
+        assertSame(user, userLookupService.findById("user123").orElseThrow());
+        verify(userRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void findById_UnknownUser_NotCached() {
+        when(userRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertTrue(userLookupService.findById("missing").isEmpty());
+        assertTrue(userLookupService.findById("missing").isEmpty());
+
+        verify(userRepository, times(2)).findById("missing");
+    }
+
+    @Test
+    void evictById_ReloadsByIdAndEmail() {
+        when(userRepository.findById("user123")).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        userLookupService.findByEmail("john@test.com");
+
+        userLookupService.evictById("user123");
+        userLookupService.findById("user123");
+        userLookupService.evictById("user123");
+        userLookupService.findByEmail("john@test.com");
+
+        verify(userRepository, times(1)).findById("user123");
+        verify(userRepository, times(2)).findByEmail("john@test.com");
+    }
+
+    @Test
+    void evictByEmail_ReloadsOnNextLookup() {
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        userLookupService.findByEmail("john@test.com");
+
+        userLookupService.evictByEmail("john@test.com");
+        userLookupService.findByEmail("john@test.com");
+
+        verify(userRepository, times(2)).findByEmail("john@test.com");
+    }
+
+    @Test
+    void bindTo_PublishesHitAndMissCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userLookupService.bindTo(registry);
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+
+        userLookupService.findByEmail("john@test.com");
+        userLookupService.findByEmail("john@test.com");
+        userLookupService.findById("user123");
+
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "users").tag("result", "miss")
+                .functionCounter().count());
+    }
+}
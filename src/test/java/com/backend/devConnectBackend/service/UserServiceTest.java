@@ -3,7 +3,6 @@ package com.backend.devConnectBackend.service;
 import com.backend.devConnectBackend.dto.ProfileResult;
 import com.backend.devConnectBackend.model.Role;
 import com.backend.devConnectBackend.model.User;
-import com.backend.devConnectBackend.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,7 +21,7 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserLookupService userLookupService;
 
     @InjectMocks
     private UserService userService;
@@ -44,7 +43,7 @@ class UserServiceTest {
 
     @Test
     void getUserProfile_AsAdmin_ReturnsFullProfile() {
-        when(userRepository.findById("123")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findById("123")).thenReturn(Optional.of(testUser));
 
         ProfileResult result = userService.getUserProfile("123", "ADMIN", "456");
 
@@ -61,7 +60,7 @@ class UserServiceTest {
 
     @Test
     void getUserProfile_AsUser_ViewingOtherProfile_ReturnsPublicProfile() {
-        when(userRepository.findById("123")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findById("123")).thenReturn(Optional.of(testUser));
 
         ProfileResult result = userService.getUserProfile("123", "USER", "456");
 
@@ -76,7 +75,7 @@ class UserServiceTest {
 
     @Test
     void getUserProfile_AsUser_ViewingOwnProfile_ReturnsFullProfile() {
-        when(userRepository.findById("123")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findById("123")).thenReturn(Optional.of(testUser));
 
         ProfileResult result = userService.getUserProfile("123", "USER", "123");
 
@@ -93,7 +92,7 @@ class UserServiceTest {
 
     @Test
     void getUserProfile_NotFound_ReturnsProfileNotFound() {
-        when(userRepository.findById("999")).thenReturn(Optional.empty());
+        when(userLookupService.findById("999")).thenReturn(Optional.empty());
 
         ProfileResult result = userService.getUserProfile("999", "USER", "123");
 
@@ -102,7 +101,7 @@ class UserServiceTest {
 
     @Test
     void getCurrentUserProfile_ReturnsFullProfile() {
-        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findByEmail("john@test.com")).thenReturn(Optional.of(testUser));
 
         ProfileResult result = userService.getCurrentUserProfile("john@test.com");
 
@@ -119,7 +118,7 @@ class UserServiceTest {
 
     @Test
     void getCurrentUserProfile_NotFound_ReturnsProfileNotFound() {
-        when(userRepository.findByEmail("unknown@test.com")).thenReturn(Optional.empty());
+        when(userLookupService.findByEmail("unknown@test.com")).thenReturn(Optional.empty());
 
         ProfileResult result = userService.getCurrentUserProfile("unknown@test.com");
 
@@ -0,0 +1,44 @@
+package com.backend.devConnectBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_AddedValues_AlwaysTrue() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@test.com"));
+        }
+        assertEquals(1000, filter.insertions());
+    }
+
+    @Test
+    void mightContain_UnknownValues_FalsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@test.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveProbability(), 0.005);
+    }
+
+    @Test
+    void create_InvalidProbability_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
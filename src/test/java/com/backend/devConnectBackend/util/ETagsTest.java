@@ -0,0 +1,33 @@
+package com.backend.devConnectBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void of_SameParts_SameQuotedTag() {
+        String tag = ETags.of("post1", 3L, List.of("java"));
+
+        assertEquals(tag, ETags.of("post1", 3L, List.of("java")));
+        assertTrue(tag.matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    void of_AnyPartChanged_DifferentTag() {
+        String tag = ETags.of("post1", 3L);
+
+        assertNotEquals(tag, ETags.of("post1", 4L));
+        assertNotEquals(tag, ETags.of("post2", 3L));
+    }
+
+    @Test
+    void of_PartBoundariesAndNullsMatter() {
+        assertNotEquals(ETags.of("ab", "c"), ETags.of("a", "bc"));
+        assertNotEquals(ETags.of((Object) null), ETags.of("null"));
+        assertNotEquals(ETags.of((Object) null), ETags.of(""));
+    }
+}
@@ -0,0 +1,132 @@
+package com.backend.devConnectBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLruCacheTest {
+
+    @Test
+    void get_ValueSpanningBlocks_ReturnedWithMetadata() {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(1024, 16, 1024);
+        byte[] value = bytes(100, 7);
+
+        assertTrue(cache.put("post1", "v1", value));
+
+        try (OffHeapLruCache.Value<String> cached = cache.get("post1")) {
+            assertArrayEquals(value, cached.bytes());
+            assertEquals("v1", cached.metadata());
+        }
+        assertEquals(100, cache.usedBytes());
+    }
+
+    @Test
+    void writeTo_RangeAcrossBlocks_WritesThoseBytes() throws IOException {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(1024, 16, 1024);
+        byte[] value = bytes(100, 7);
+        cache.put("post1", "v1", value);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (OffHeapLruCache.Value<String> cached = cache.get("post1")) {
+            cached.writeTo(out, 10, 50);
+        }
+
+        assertArrayEquals(Arrays.copyOfRange(value, 10, 50), out.toByteArray());
+    }
+
+    @Test
+    void remove_WhileRead_BlocksKeptUntilClosed() {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(200, 100, 200);
+        byte[] value = bytes(100, 1);
+        cache.put("a", "a", value);
+
+        try (OffHeapLruCache.Value<String> cached = cache.get("a")) {
+            cache.remove("a");
+
+            assertFalse(cache.put("b", "b", bytes(200, 2)));
+            assertArrayEquals(value, cached.bytes());
+        }
+
+        assertTrue(cache.put("b", "b", bytes(200, 2)));
+    }
+
+    @Test
+    void put_Full_EvictsLeastRecentlyRead() {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(300, 100, 300);
+        cache.put("a", "a", bytes(100, 1));
+        cache.put("b", "b", bytes(100, 2));
+        cache.put("c", "c", bytes(100, 3));
+
+        cache.get("a").close();
+        cache.put("d", "d", bytes(50, 4));
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    void put_TooLarge_NotStoredAndOldValueRemoved() {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(1024, 64, 128);
+        cache.put("post1", "v1", bytes(10, 1));
+
+        assertFalse(cache.put("post1", "v2", bytes(129, 2)));
+
+        assertNull(cache.get("post1"));
+        assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    void put_ZeroCapacity_NothingStored() {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(0, 64, 128);
+
+        assertFalse(cache.put("post1", "v1", bytes(1, 1)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void randomOperations_ReturnWhatWasLastStored() {
+        OffHeapLruCache<String> cache = new OffHeapLruCache<>(10 * 1024, 100, 4096);
+        Map<String, byte[]> stored = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String key = "post" + random.nextInt(100);
+            int operation = random.nextInt(10);
+            if (operation < 4) {
+                byte[] value = bytes(random.nextInt(1500), random.nextInt());
+                if (cache.put(key, key, value)) {
+                    stored.put(key, value);
+                }
+            } else if (operation == 4) {
+                cache.remove(key);
+                stored.remove(key);
+            } else {
+                OffHeapLruCache.Value<String> cached = cache.get(key);
+                if (cached != null) {
+                    try (cached) {
+                        assertArrayEquals(stored.get(key), cached.bytes(), key);
+                    }
+                } else {
+                    // Evicted
+                    stored.remove(key);
+                }
+            }
+            assertTrue(cache.usedBytes() <= 10 * 1024);
+        }
+    }
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
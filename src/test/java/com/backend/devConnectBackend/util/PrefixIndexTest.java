@@ -0,0 +1,83 @@
+package com.backend.devConnectBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void top_HeaviestFirstThenInKeyOrder() {
+        PrefixIndex index = new PrefixIndex(3);
+        index.add("Spring Boot tips", 1);
+        index.add("Spring Security", 2);
+        index.add("Sprint planning", 1);
+        index.add("Go generics", 5);
+
+        assertEquals(List.of("Spring Security", "Spring Boot tips", "Sprint planning"), index.top("spr", 5));
+        assertEquals(List.of("Spring Security"), index.top("spr", 1));
+        assertEquals(List.of("Spring Boot tips"), index.top("spring b", 5));
+    }
+
+    @Test
+    void top_IgnoresCaseAndExtraWhitespace() {
+        PrefixIndex index = new PrefixIndex(3);
+        index.add("Spring  Boot", 1);
+
+        assertEquals(List.of("Spring  Boot"), index.top("  SPRING boot", 5));
+    }
+
+    @Test
+    void top_UnknownPrefix_Empty() {
+        PrefixIndex index = new PrefixIndex(3);
+        index.add("Spring", 1);
+
+        assertEquals(List.of(), index.top("x", 5));
+        assertEquals(List.of(), index.top("springs", 5));
+    }
+
+    @Test
+    void add_WeightDropsToZero_RemovesString() {
+        PrefixIndex index = new PrefixIndex(3);
+        index.add("Spring", 1);
+        index.add("Spring Boot", 2);
+
+        index.add("Spring Boot", -2);
+        index.add("Unknown", -1);
+
+        assertEquals(List.of("Spring"), index.top("spr", 5));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void top_RandomChanges_MatchesBruteForce() {
+        String[] words = { "a", "aa", "ab", "abc", "abd", "abcd", "b", "ba", "bab", "x", "xy", "xyz" };
+        Random random = new Random(42);
+        PrefixIndex index = new PrefixIndex(5);
+        Map<String, Long> weights = new HashMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            String text = words[random.nextInt(words.length)] + words[random.nextInt(words.length)];
+            long delta = random.nextInt(3) == 0 ? -1 : 1;
+            index.add(text, delta);
+            weights.merge(text, delta, Long::sum);
+            weights.values().removeIf(weight -> weight <= 0);
+
+            String prefix = words[random.nextInt(words.length)];
+            List<String> expected = weights.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(5)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            assertEquals(expected, index.top(prefix, 5), "prefix " + prefix + " after " + i + " changes");
+        }
+        assertEquals(weights.size(), index.size());
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.devConnectBackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTermsTest {
+
+    @Test
+    void parse_StripsPhrasesAndNegation() {
+        assertEquals(List.of("spring", "boot", "java"), SearchTerms.parse("\"spring boot\" -java", 8));
+    }
+
+    @Test
+    void parse_DropsDuplicatesAndCapsTerms() {
+        assertEquals(List.of("a", "b"), SearchTerms.parse("a a b c", 2));
+    }
+
+    @Test
+    void parse_BlankOrNull_NoTerms() {
+        assertTrue(SearchTerms.parse(null, 8).isEmpty());
+        assertTrue(SearchTerms.parse("  -- \"\" ", 8).isEmpty());
+    }
+}